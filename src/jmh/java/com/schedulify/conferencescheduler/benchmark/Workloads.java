@@ -0,0 +1,47 @@
+package com.schedulify.conferencescheduler.benchmark;
+
+import com.schedulify.conferencescheduler.web.model.v1.request.SchedulePresentationsRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Generated, reproducible presentation lineups for the benchmarks.
+ */
+public final class Workloads {
+
+    private static final long SEED = 20240525L;
+
+    private Workloads() {
+    }
+
+    public enum Distribution {
+        // Every duration between 1 and 240 minutes is equally likely
+        UNIFORM,
+        // Seven in ten presentations are lightning talks, the rest last 10 to 60 minutes
+        LIGHTNING_HEAVY,
+        // Half of the presentations take a full afternoon, the rest are uniform
+        LONG_HEAVY;
+
+        private String nextDuration(SplittableRandom random) {
+            switch (this) {
+                case LIGHTNING_HEAVY:
+                    return random.nextInt(10) < 7 ? "lightning" : String.valueOf(random.nextInt(10, 61));
+                case LONG_HEAVY:
+                    return random.nextBoolean() ? "240" : String.valueOf(random.nextInt(1, 241));
+                default:
+                    return String.valueOf(random.nextInt(1, 241));
+            }
+        }
+    }
+
+    public static SchedulePresentationsRequest request(int size, Distribution distribution) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        List<SchedulePresentationsRequest.Presentation> presentations = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            presentations.add(new SchedulePresentationsRequest.Presentation("Presentation " + i, distribution.nextDuration(random)));
+        }
+        return new SchedulePresentationsRequest(presentations);
+    }
+}
@@ -0,0 +1,66 @@
+package com.schedulify.conferencescheduler.mapper;
+
+import com.schedulify.conferencescheduler.benchmark.Workloads;
+import com.schedulify.conferencescheduler.config.DayProfileProperties;
+import com.schedulify.conferencescheduler.domain.dto.ScheduleLayout;
+import com.schedulify.conferencescheduler.service.ScheduleServiceImpl;
+import com.schedulify.conferencescheduler.service.day.DayTemplateResolver;
+import com.schedulify.conferencescheduler.service.metrics.ScheduleMetrics;
+import com.schedulify.conferencescheduler.service.time.TimeLabelService;
+import com.schedulify.conferencescheduler.web.model.v1.response.SchedulePresentationsResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class ScheduleServiceMapperBenchmark {
+
+    @Param({"100", "10000", "1000000"})
+    private int size;
+
+    @Param({"UNIFORM", "LIGHTNING_HEAVY", "LONG_HEAVY"})
+    private Workloads.Distribution distribution;
+
+    @Param({"false", "true"})
+    private boolean flat;
+
+    private final ScheduleServiceMapper scheduleServiceMapper = new ScheduleServiceMapper(new TimeLabelService(DateTimeFormatter.ofPattern("hh:mma")));
+    private ScheduleLayout layout;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        layout = new ScheduleServiceImpl(scheduleServiceMapper, new ScheduleMetrics(new SimpleMeterRegistry()),
+                new DayTemplateResolver(new DayProfileProperties()))
+                .layout(Workloads.request(size, distribution));
+    }
+
+    // Cost of the EventDto form at the edge, on top of the engine
+    @Benchmark
+    public List<SchedulePresentationsResponse.Track> mapToTracks() {
+        List<SchedulePresentationsResponse.Track> tracks = new ArrayList<>(layout.trackCount());
+        for (int track = 0; track < layout.trackCount(); track++) {
+            tracks.add(flat ? scheduleServiceMapper.mapToFlatTrack(layout, track) : scheduleServiceMapper.mapToTrack(layout, track));
+        }
+        return tracks;
+    }
+}
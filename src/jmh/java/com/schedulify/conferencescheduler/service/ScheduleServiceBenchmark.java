@@ -0,0 +1,83 @@
+package com.schedulify.conferencescheduler.service;
+
+import com.schedulify.conferencescheduler.benchmark.Workloads;
+import com.schedulify.conferencescheduler.config.DayProfileProperties;
+import com.schedulify.conferencescheduler.domain.dto.ScheduleLayout;
+import com.schedulify.conferencescheduler.domain.dto.ValidatedPresentations;
+import com.schedulify.conferencescheduler.domain.enums.SchedulingStrategy;
+import com.schedulify.conferencescheduler.mapper.ScheduleServiceMapper;
+import com.schedulify.conferencescheduler.service.day.DayTemplateResolver;
+import com.schedulify.conferencescheduler.service.metrics.ScheduleMetrics;
+import com.schedulify.conferencescheduler.service.time.TimeLabelService;
+import com.schedulify.conferencescheduler.web.model.v1.request.SchedulePresentationsRequest;
+import com.schedulify.conferencescheduler.web.model.v1.response.SchedulePresentationsResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class ScheduleServiceBenchmark {
+
+    @Param({"100", "10000", "1000000"})
+    private int size;
+
+    @Param({"UNIFORM", "LIGHTNING_HEAVY", "LONG_HEAVY"})
+    private Workloads.Distribution distribution;
+
+    @Param({"GREEDY", "EXACT"})
+    private SchedulingStrategy strategy;
+
+    @Param({"false", "true"})
+    private boolean parallel;
+
+    // Zero schedules every lightning talk on its own
+    @Param({"0", "30"})
+    private int lightningBlockMinutes;
+
+    private ScheduleServiceImpl scheduleService;
+    private SchedulePresentationsRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        scheduleService = new ScheduleServiceImpl(new ScheduleServiceMapper(new TimeLabelService(DateTimeFormatter.ofPattern("hh:mma"))), new ScheduleMetrics(new SimpleMeterRegistry()),
+                new DayTemplateResolver(new DayProfileProperties()));
+        request = Workloads.request(size, distribution);
+        request.setStrategy(strategy);
+        request.setParallel(parallel);
+        request.setLightningBlockMinutes(lightningBlockMinutes > 0 ? lightningBlockMinutes : null);
+    }
+
+    @Benchmark
+    public SchedulePresentationsResponse schedule() {
+        return scheduleService.schedule(request);
+    }
+
+    // The engine alone, without building the EventDto form of the tracks
+    @Benchmark
+    public ScheduleLayout layout() {
+        return scheduleService.layout(request);
+    }
+
+    @Benchmark
+    public ValidatedPresentations validatePresentations() {
+        return scheduleService.validatePresentations(request.getPresentations(), false);
+    }
+}
@@ -0,0 +1,68 @@
+package com.schedulify.conferencescheduler.service.draft;
+
+import com.schedulify.conferencescheduler.benchmark.Workloads;
+import com.schedulify.conferencescheduler.config.DayProfileProperties;
+import com.schedulify.conferencescheduler.domain.enums.DraftOperation;
+import com.schedulify.conferencescheduler.mapper.ScheduleServiceMapper;
+import com.schedulify.conferencescheduler.service.ScheduleServiceImpl;
+import com.schedulify.conferencescheduler.service.day.DayTemplateResolver;
+import com.schedulify.conferencescheduler.service.metrics.ScheduleMetrics;
+import com.schedulify.conferencescheduler.service.time.TimeLabelService;
+import com.schedulify.conferencescheduler.web.model.v1.request.ScheduleDraftPatchRequest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of a one-presentation change to a draft: a talk is resized so it has to move and then resized back.
+ * The score should stay flat across sizes, a full reschedule grows with them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class ScheduleDraftBenchmark {
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    private ScheduleDraftService scheduleDraftService;
+    private String draftId;
+    private ScheduleDraftPatchRequest grow;
+    private ScheduleDraftPatchRequest shrink;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ScheduleServiceMapper scheduleServiceMapper = new ScheduleServiceMapper(new TimeLabelService(DateTimeFormatter.ofPattern("hh:mma")));
+        ScheduleServiceImpl scheduleService = new ScheduleServiceImpl(scheduleServiceMapper, new ScheduleMetrics(new SimpleMeterRegistry()),
+                new DayTemplateResolver(new DayProfileProperties()));
+        scheduleDraftService = new ScheduleDraftService(scheduleService, scheduleServiceMapper, Duration.ofHours(1));
+        draftId = scheduleDraftService.create(Workloads.request(size, Workloads.Distribution.UNIFORM)).getId();
+        String subject = scheduleDraftService.get(draftId).getTracks().get(0).getTrack().get(0).getEvent().getSubject();
+        grow = new ScheduleDraftPatchRequest(List.of(new ScheduleDraftPatchRequest.Change(DraftOperation.UPDATE, subject, "240")));
+        shrink = new ScheduleDraftPatchRequest(List.of(new ScheduleDraftPatchRequest.Change(DraftOperation.UPDATE, subject, "5")));
+    }
+
+    @Benchmark
+    public DraftSnapshot resizeAndBack() {
+        scheduleDraftService.patch(draftId, grow);
+        return scheduleDraftService.patch(draftId, shrink);
+    }
+}
@@ -0,0 +1,83 @@
+package com.schedulify.conferencescheduler.service.store;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Reading a stored snapshot and opening a store that already holds {@code schedules} snapshots of {@code snapshotBytes}
+ * each. Reads should not depend on the snapshot size, and opening should not depend on it either, only on the count.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class ScheduleStoreBenchmark {
+
+    @Param({"10000"})
+    private int schedules;
+
+    @Param({"1024", "65536"})
+    private int snapshotBytes;
+
+    private Path directory;
+    private ScheduleStore store;
+    private UUID[] ids;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("schedule-store-benchmark");
+        store = new ScheduleStore(directory, 64 * 1024 * 1024);
+        ids = new UUID[schedules];
+        byte[] snapshot = new byte[snapshotBytes];
+        for (int i = 0; i < schedules; i++) {
+            ids[i] = UUID.randomUUID();
+            store.append(ids[i], snapshot);
+        }
+    }
+
+    @Benchmark
+    public ByteBuffer read() {
+        return store.read(ids[ThreadLocalRandom.current().nextInt(ids.length)]).orElseThrow();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Measurement(iterations = 10)
+    public int open() throws IOException {
+        try (ScheduleStore reopened = new ScheduleStore(directory, 64 * 1024 * 1024)) {
+            return reopened.size();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        store.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+}
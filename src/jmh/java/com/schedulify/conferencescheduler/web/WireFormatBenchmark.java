@@ -0,0 +1,106 @@
+package com.schedulify.conferencescheduler.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.schedulify.conferencescheduler.benchmark.Workloads;
+import com.schedulify.conferencescheduler.config.DayProfileProperties;
+import com.schedulify.conferencescheduler.mapper.CompactScheduleMapper;
+import com.schedulify.conferencescheduler.mapper.ScheduleServiceMapper;
+import com.schedulify.conferencescheduler.service.ScheduleServiceImpl;
+import com.schedulify.conferencescheduler.service.day.DayTemplateResolver;
+import com.schedulify.conferencescheduler.service.metrics.ScheduleMetrics;
+import com.schedulify.conferencescheduler.service.time.TimeLabelService;
+import com.schedulify.conferencescheduler.web.model.v1.request.SchedulePresentationsRequest;
+import com.schedulify.conferencescheduler.web.model.v1.response.CompactScheduleResponse;
+import com.schedulify.conferencescheduler.web.model.v1.response.SchedulePresentationsResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encode and decode cost of a schedule response per wire format; {@code payloadBytes} reports the encoded size.
+ * JSON is the regular response, CBOR and Smile the compact one served for those media types.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class WireFormatBenchmark {
+
+    public enum Format {
+        JSON, FLAT_JSON, CBOR, SMILE
+    }
+
+    @Param({"100", "10000", "100000"})
+    private int size;
+
+    @Param({"JSON", "FLAT_JSON", "CBOR", "SMILE"})
+    private Format format;
+
+    private ObjectMapper objectMapper;
+    private Object response;
+    private Class<?> responseType;
+    private byte[] encoded;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        TimeLabelService timeLabelService = new TimeLabelService(DateTimeFormatter.ofPattern("hh:mma"));
+        ScheduleServiceMapper scheduleServiceMapper = new ScheduleServiceMapper(timeLabelService);
+        ScheduleServiceImpl scheduleService = new ScheduleServiceImpl(scheduleServiceMapper, new ScheduleMetrics(new SimpleMeterRegistry()),
+                new DayTemplateResolver(new DayProfileProperties()));
+        SchedulePresentationsRequest request = Workloads.request(size, Workloads.Distribution.UNIFORM);
+
+        objectMapper = switch (format) {
+            case JSON, FLAT_JSON -> new ObjectMapper();
+            case CBOR -> new ObjectMapper(new CBORFactory());
+            case SMILE -> new ObjectMapper(new SmileFactory());
+        };
+        objectMapper.registerModule(new JavaTimeModule());
+        if (format == Format.JSON || format == Format.FLAT_JSON) {
+            request.setFlat(format == Format.FLAT_JSON);
+            response = scheduleService.schedule(request);
+            responseType = SchedulePresentationsResponse.class;
+        } else {
+            response = new CompactScheduleMapper(scheduleServiceMapper, timeLabelService).mapToCompactResponse(scheduleService.layout(request));
+            responseType = CompactScheduleResponse.class;
+        }
+        encoded = objectMapper.writeValueAsBytes(response);
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class PayloadSize {
+        public long payloadBytes;
+    }
+
+    @Benchmark
+    public byte[] encode(PayloadSize payloadSize) throws IOException {
+        byte[] bytes = objectMapper.writeValueAsBytes(response);
+        payloadSize.payloadBytes = bytes.length;
+        return bytes;
+    }
+
+    @Benchmark
+    public Object decode() throws IOException {
+        return objectMapper.readValue(encoded, responseType);
+    }
+}
@@ -0,0 +1,63 @@
+package com.schedulify.conferencescheduler.config;
+
+import com.schedulify.conferencescheduler.domain.enums.SchedulingStrategy;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Limits requests have to pass before any scheduling work is done for them, bound from {@code schedule.admission.*}.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "schedule.admission")
+public class AdmissionProperties {
+
+    private boolean enabled = true;
+
+    // Largest request body, checked against Content-Length up front and while reading bodies without one
+    private DataSize maxBodySize = DataSize.ofMegabytes(16);
+
+    private int maxPresentations = 100_000;
+
+    // Cost of the requests scheduled at once, a request costs its presentations times the factor of its strategy
+    private long maxConcurrentCost = 400_000;
+
+    private Map<SchedulingStrategy, Double> costFactors = new EnumMap<>(Map.of(
+            SchedulingStrategy.GREEDY, 1.0,
+            SchedulingStrategy.EXACT, 2.0,
+            SchedulingStrategy.OPTIMIZE, 4.0));
+
+    private RateLimit rateLimit = new RateLimit();
+
+    private Stream stream = new Stream();
+
+    @Data
+    public static class RateLimit {
+
+        // Requests a client can send per second on average, 0 turns rate limiting off
+        private double requestsPerSecond;
+
+        // Requests a client can send at once before the average applies
+        private int burst = 20;
+
+        // Header that names the client, e.g. X-Forwarded-For behind a proxy; the remote address when empty
+        private String clientHeader;
+    }
+
+    /**
+     * Limits of {@code /api/v1/schedule/stream}, which reads the body presentation by presentation and is meant for
+     * imports far larger than a bound request can be.
+     */
+    @Data
+    public static class Stream {
+
+        private DataSize maxBodySize = DataSize.ofGigabytes(1);
+
+        private int maxPresentations = 10_000_000;
+    }
+}
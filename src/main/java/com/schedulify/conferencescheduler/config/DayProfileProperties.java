@@ -0,0 +1,21 @@
+package com.schedulify.conferencescheduler.config;
+
+import com.schedulify.conferencescheduler.web.model.v1.request.DayTemplate;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Named day templates requests can refer to by {@code dayProfile}, bound from
+ * {@code schedule.day.profiles.<name>.*} in the same shape as a template in a request.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "schedule.day")
+public class DayProfileProperties {
+
+    private Map<String, DayTemplate> profiles = new LinkedHashMap<>();
+}
@@ -0,0 +1,30 @@
+package com.schedulify.conferencescheduler.config;
+
+import com.schedulify.conferencescheduler.service.ScheduleService;
+import com.schedulify.conferencescheduler.service.ScheduleServiceImpl;
+import com.schedulify.conferencescheduler.service.cache.CachingScheduleService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.time.Duration;
+
+@Configuration
+@ConditionalOnProperty(name = "schedule.cache.enabled", havingValue = "true", matchIfMissing = true)
+public class ScheduleCacheConfig {
+
+    @Value("${schedule.cache.max-presentations:200000}")
+    private long maxPresentations;
+
+    @Value("${schedule.cache.time-to-live:10m}")
+    private Duration timeToLive;
+
+    @Bean
+    @Primary
+    public ScheduleService cachingScheduleService(ScheduleServiceImpl scheduleService, MeterRegistry meterRegistry) {
+        return new CachingScheduleService(scheduleService, maxPresentations, timeToLive, meterRegistry);
+    }
+}
@@ -0,0 +1,37 @@
+package com.schedulify.conferencescheduler.config;
+
+import com.schedulify.conferencescheduler.mapper.CompactScheduleMapper;
+import com.schedulify.conferencescheduler.service.store.ScheduleSnapshotService;
+import com.schedulify.conferencescheduler.service.store.ScheduleStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+@Configuration
+@ConditionalOnProperty(name = "schedule.store.enabled", havingValue = "true")
+public class ScheduleStoreConfig {
+
+    @Value("${schedule.store.directory:data/schedules}")
+    private Path directory;
+
+    @Value("${schedule.store.segment-size:64MB}")
+    private DataSize segmentSize;
+
+    @Bean(destroyMethod = "close")
+    public ScheduleStore scheduleStore() throws IOException {
+        return new ScheduleStore(directory, Math.toIntExact(segmentSize.toBytes()));
+    }
+
+    @Bean
+    public ScheduleSnapshotService scheduleSnapshotService(ScheduleStore scheduleStore, CompactScheduleMapper compactScheduleMapper,
+                                                           MappingJackson2CborHttpMessageConverter cborHttpMessageConverter) {
+        // Encoding snapshots like CBOR responses, so stored bytes can be served as they are
+        return new ScheduleSnapshotService(scheduleStore, compactScheduleMapper, cborHttpMessageConverter.getObjectMapper());
+    }
+}
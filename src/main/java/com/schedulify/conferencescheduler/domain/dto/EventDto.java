@@ -1,11 +1,14 @@
 package com.schedulify.conferencescheduler.domain.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.schedulify.conferencescheduler.domain.enums.EventType;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.Builder;
 
+import java.util.List;
+
 @Data
 @Builder
 @NoArgsConstructor
@@ -17,4 +20,12 @@ public class EventDto {
     private int durationInMinutes;
     private String startsAt;
     private String endsAt;
+
+    // Subjects of the talks of a lightning block, only set for blocks
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<String> talks;
+
+    // Day of the conference, counted from 1, only set for templates that run over several days
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer day;
 }
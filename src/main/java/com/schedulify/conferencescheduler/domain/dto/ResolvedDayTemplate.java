@@ -0,0 +1,127 @@
+package com.schedulify.conferencescheduler.domain.dto;
+
+import com.schedulify.conferencescheduler.domain.enums.EventType;
+import lombok.Getter;
+
+/**
+ * A validated day template in the shape the engine works with: times as minutes since midnight, sessions and
+ * fixed events as parallel arrays sorted by start, and the running order of a day as one array of slots.
+ * <p>
+ * A slot {@code >= 0} is a session, a slot {@code < 0} is the fixed event {@code -(slot + 1)}, which is also the
+ * reference the event gets in a {@link ScheduleLayout}. The networking event, when the template has one, takes the
+ * reference after the last fixed event. {@link #STANDARD} is the 9:00AM to 5:00PM day the scheduler always used;
+ * it is built once, so requests without a template resolve it for free.
+ */
+@Getter
+public class ResolvedDayTemplate {
+
+    public static final int MINUTES_PER_DAY = 24 * 60;
+
+    public static final ResolvedDayTemplate STANDARD = new ResolvedDayTemplate(1,
+            new int[]{9 * 60, 13 * 60}, new int[]{180, 240},
+            new int[]{12 * 60}, new int[]{60}, new String[]{"Lunch"}, new EventType[]{EventType.LUNCH},
+            16 * 60, 17 * 60);
+
+    private final int days;
+
+    private final int[] sessionStarts;
+    private final int[] sessionDurations;
+
+    // Fixed events of a day, followed by the networking event in subjects and types
+    private final int[] fixedStarts;
+    private final int[] fixedDurations;
+    private final String[] subjects;
+    private final EventType[] types;
+
+    // Networking window, both -1 when the template has no networking event
+    private final int networkingEarliestStart;
+    private final int networkingEnd;
+
+    private final int[] slots;
+
+    // Durations of every session of a track over all days, in running order
+    private final int[] trackSessionDurations;
+    private final int longestSession;
+
+    public ResolvedDayTemplate(int days, int[] sessionStarts, int[] sessionDurations,
+                               int[] fixedStarts, int[] fixedDurations, String[] fixedSubjects, EventType[] fixedTypes,
+                               int networkingEarliestStart, int networkingEnd) {
+        this.days = days;
+        this.sessionStarts = sessionStarts;
+        this.sessionDurations = sessionDurations;
+        this.fixedStarts = fixedStarts;
+        this.fixedDurations = fixedDurations;
+        this.networkingEarliestStart = networkingEarliestStart;
+        this.networkingEnd = networkingEnd;
+
+        int fixedCount = fixedStarts.length;
+        boolean networking = networkingEarliestStart >= 0;
+        this.subjects = new String[fixedCount + (networking ? 1 : 0)];
+        this.types = new EventType[subjects.length];
+        System.arraycopy(fixedSubjects, 0, subjects, 0, fixedCount);
+        System.arraycopy(fixedTypes, 0, types, 0, fixedCount);
+        if (networking) {
+            subjects[fixedCount] = "Networking Event";
+            types[fixedCount] = EventType.NETWORKING;
+        }
+
+        // Merging sessions and fixed events, both sorted by start, into the running order of a day
+        this.slots = new int[sessionStarts.length + fixedCount];
+        int session = 0;
+        int fixed = 0;
+        for (int slot = 0; slot < slots.length; slot++) {
+            if (fixed == fixedCount || (session < sessionStarts.length && sessionStarts[session] < fixedStarts[fixed])) {
+                slots[slot] = session++;
+            } else {
+                slots[slot] = fixedReference(fixed++);
+            }
+        }
+
+        this.trackSessionDurations = new int[days * sessionDurations.length];
+        int longest = 0;
+        for (int day = 0; day < days; day++) {
+            System.arraycopy(sessionDurations, 0, trackSessionDurations, day * sessionDurations.length, sessionDurations.length);
+        }
+        for (int duration : sessionDurations) {
+            longest = Math.max(longest, duration);
+        }
+        this.longestSession = longest;
+    }
+
+    /**
+     * Layout reference of the fixed event with the given index.
+     */
+    public static int fixedReference(int fixedEvent) {
+        return -(fixedEvent + 1);
+    }
+
+    public int sessionCount() {
+        return sessionStarts.length;
+    }
+
+    public int fixedEventCount() {
+        return fixedStarts.length;
+    }
+
+    public int networkingReference() {
+        return fixedReference(fixedStarts.length);
+    }
+
+    /**
+     * Whether a day whose last session ends at {@code endMinuteOfDay} gets a networking event.
+     */
+    public boolean hasNetworkingEvent(int endMinuteOfDay) {
+        return networkingEarliestStart >= 0 && endMinuteOfDay > networkingEarliestStart && endMinuteOfDay < networkingEnd;
+    }
+
+    public EventType eventType(int reference) {
+        return reference >= 0 ? EventType.PRESENTATION : types[-reference - 1];
+    }
+
+    /**
+     * Subject of a fixed or networking event, {@code reference} is negative.
+     */
+    public String subject(int reference) {
+        return subjects[-reference - 1];
+    }
+}
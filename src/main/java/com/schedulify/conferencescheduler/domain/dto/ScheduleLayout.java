@@ -0,0 +1,189 @@
+package com.schedulify.conferencescheduler.domain.dto;
+
+import com.schedulify.conferencescheduler.domain.enums.EventType;
+import com.schedulify.conferencescheduler.domain.enums.SchedulingStrategy;
+import lombok.Getter;
+
+/**
+ * A schedule as parallel primitive arrays, one position per event, tracks one after another and every track in
+ * running order.
+ * <p>
+ * Presentations are not copied: an event refers to its presentation by index into the validated input, which keeps
+ * the subject, while fixed and networking events use the negative references of the {@link ResolvedDayTemplate}
+ * the schedule was built for ({@link #LUNCH} and {@link #NETWORKING} for the standard day). Start minutes count
+ * from midnight of the first day, so events of later days of a multi-day template follow on from there.
+ * The engine only writes positions of the arrays; turning events into {@link EventDto} objects is left to whoever
+ * needs that shape.
+ * <p>
+ * While arranging, the engine also keeps the minutes used in every session of every track, which is all a quality
+ * report of the schedule needs, so reporting never walks the events again.
+ */
+@Getter
+public class ScheduleLayout {
+
+    public static final int LUNCH = ResolvedDayTemplate.fixedReference(0);
+    public static final int NETWORKING = ResolvedDayTemplate.STANDARD.networkingReference();
+
+    private final ValidatedPresentations presentations;
+    private final ResolvedDayTemplate dayTemplate;
+
+    // First event of every track, plus the event count at the end
+    private final int[] trackOffsets;
+
+    private final int[] references;
+    private final int[] startMinutes;
+    private final int[] durations;
+    private final int[] tracks;
+
+    // Minutes filled with presentations, per session of every track: track * sessions of a track + session
+    private final int[] sessionUsedMinutes;
+
+    // Set for OPTIMIZE runs only
+    private final boolean optimized;
+    private final int lowerBound;
+    private final long optimizationMillis;
+
+    // Set once the engine is done, absent for layouts arranged from plans made elsewhere
+    private SchedulingStrategy strategy;
+    private long engineNanos;
+    // Set on the copies a cache hands out, no engine ran for them
+    private boolean cached;
+
+    // Shares every array of the given layout
+    private ScheduleLayout(ScheduleLayout layout) {
+        this.presentations = layout.presentations;
+        this.dayTemplate = layout.dayTemplate;
+        this.trackOffsets = layout.trackOffsets;
+        this.references = layout.references;
+        this.startMinutes = layout.startMinutes;
+        this.durations = layout.durations;
+        this.tracks = layout.tracks;
+        this.sessionUsedMinutes = layout.sessionUsedMinutes;
+        this.optimized = layout.optimized;
+        this.lowerBound = layout.lowerBound;
+        this.optimizationMillis = layout.optimizationMillis;
+        this.strategy = layout.strategy;
+    }
+
+    public ScheduleLayout(ValidatedPresentations presentations, int[] trackOffsets) {
+        this(presentations, ResolvedDayTemplate.STANDARD, trackOffsets, false, 0, 0);
+    }
+
+    public ScheduleLayout(ValidatedPresentations presentations, ResolvedDayTemplate dayTemplate, int[] trackOffsets,
+                          boolean optimized, int lowerBound, long optimizationMillis) {
+        int eventCount = trackOffsets[trackOffsets.length - 1];
+        this.presentations = presentations;
+        this.dayTemplate = dayTemplate;
+        this.trackOffsets = trackOffsets;
+        this.references = new int[eventCount];
+        this.startMinutes = new int[eventCount];
+        this.durations = new int[eventCount];
+        this.tracks = new int[eventCount];
+        this.sessionUsedMinutes = new int[(trackOffsets.length - 1) * dayTemplate.getTrackSessionDurations().length];
+        this.optimized = optimized;
+        this.lowerBound = lowerBound;
+        this.optimizationMillis = optimizationMillis;
+    }
+
+    /**
+     * Writes one event; {@code track} is zero based.
+     */
+    public void setEvent(int event, int track, int reference, int startMinute, int durationInMinutes) {
+        references[event] = reference;
+        startMinutes[event] = startMinute;
+        durations[event] = durationInMinutes;
+        tracks[event] = track;
+    }
+
+    /**
+     * Records the minutes used in a session of a track, {@code session} counts the sessions of all days of the track.
+     */
+    public void setSessionUsedMinutes(int track, int session, int usedMinutes) {
+        sessionUsedMinutes[track * dayTemplate.getTrackSessionDurations().length + session] = usedMinutes;
+    }
+
+    public int sessionUsedMinutes(int track, int session) {
+        return sessionUsedMinutes[track * dayTemplate.getTrackSessionDurations().length + session];
+    }
+
+    /**
+     * Records how the engine built this layout and how long that took.
+     */
+    public void recordEngineRun(SchedulingStrategy strategy, long engineNanos) {
+        this.strategy = strategy;
+        this.engineNanos = engineNanos;
+    }
+
+    /**
+     * The same schedule served again from a cache, for a layout that is no longer written. The copy shares every
+     * array with this layout and keeps its strategy, but has no engine time, since no engine ran for it.
+     */
+    public ScheduleLayout servedFromCache() {
+        ScheduleLayout layout = new ScheduleLayout(this);
+        layout.cached = true;
+        return layout;
+    }
+
+    public int trackCount() {
+        return trackOffsets.length - 1;
+    }
+
+    public int eventCount() {
+        return references.length;
+    }
+
+    public int firstEvent(int track) {
+        return trackOffsets[track];
+    }
+
+    public int endEvent(int track) {
+        return trackOffsets[track + 1];
+    }
+
+    public EventType eventType(int event) {
+        return dayTemplate.eventType(references[event]);
+    }
+
+    public String subject(int event) {
+        int reference = references[event];
+        return reference >= 0 ? presentations.getSubjects()[reference] : dayTemplate.subject(reference);
+    }
+
+    /**
+     * Subjects of the talks of a lightning block, {@code null} for any other event.
+     */
+    public String[] talks(int event) {
+        int reference = references[event];
+        return reference >= 0 ? presentations.talks(reference) : null;
+    }
+
+    /**
+     * Zero based day of the conference the event takes place on.
+     */
+    public int day(int event) {
+        return startMinutes[event] / ResolvedDayTemplate.MINUTES_PER_DAY;
+    }
+
+    /**
+     * Minutes since midnight of the first day.
+     */
+    public int startMinute(int event) {
+        return startMinutes[event];
+    }
+
+    public int endMinute(int event) {
+        return startMinutes[event] + durations[event];
+    }
+
+    public int startMinuteOfDay(int event) {
+        return startMinutes[event] % ResolvedDayTemplate.MINUTES_PER_DAY;
+    }
+
+    public int endMinuteOfDay(int event) {
+        return startMinuteOfDay(event) + durations[event];
+    }
+
+    public int durationInMinutes(int event) {
+        return durations[event];
+    }
+}
@@ -0,0 +1,63 @@
+package com.schedulify.conferencescheduler.domain.dto;
+
+import lombok.Getter;
+
+/**
+ * Presentations that passed validation: trimmed subjects and parsed durations at the same positions.
+ * <p>
+ * Presentations given as 'lightning' are flagged, so lightning talks can be told apart from five minute talks
+ * later on; the flags are {@code null} when there are none. A presentation can also be a block of consolidated
+ * lightning talks, which keeps the subjects of its talks.
+ * <p>
+ * Presentations validated for a request also keep the day template they were checked to fit, so scheduling them
+ * for that request does not resolve and check the template again; it is {@code null} when nothing was checked.
+ */
+@Getter
+public class ValidatedPresentations {
+
+    private final String[] subjects;
+    private final int[] durationsInMinutes;
+    private final boolean[] lightning;
+    // Subjects of the talks of every lightning block, null for other presentations or when there are no blocks
+    private final String[][] talks;
+    private final ResolvedDayTemplate dayTemplate;
+
+    public ValidatedPresentations(String[] subjects, int[] durationsInMinutes) {
+        this(subjects, durationsInMinutes, null, null);
+    }
+
+    public ValidatedPresentations(String[] subjects, int[] durationsInMinutes, boolean[] lightning, String[][] talks) {
+        this(subjects, durationsInMinutes, lightning, talks, null);
+    }
+
+    private ValidatedPresentations(String[] subjects, int[] durationsInMinutes, boolean[] lightning, String[][] talks,
+                                   ResolvedDayTemplate dayTemplate) {
+        this.subjects = subjects;
+        this.durationsInMinutes = durationsInMinutes;
+        this.lightning = lightning;
+        this.talks = talks;
+        this.dayTemplate = dayTemplate;
+    }
+
+    /**
+     * The same presentations, known to fit into the given day template; every array is shared.
+     */
+    public ValidatedPresentations fitting(ResolvedDayTemplate dayTemplate) {
+        return new ValidatedPresentations(subjects, durationsInMinutes, lightning, talks, dayTemplate);
+    }
+
+    public int size() {
+        return subjects.length;
+    }
+
+    public boolean isLightning(int presentation) {
+        return lightning != null && lightning[presentation];
+    }
+
+    /**
+     * Subjects of the talks of a lightning block, {@code null} for any other presentation.
+     */
+    public String[] talks(int presentation) {
+        return talks == null ? null : talks[presentation];
+    }
+}
@@ -0,0 +1,22 @@
+package com.schedulify.conferencescheduler.domain.enums;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+
+public enum DraftOperation {
+    ADD,
+    REMOVE,
+    UPDATE;
+
+    @JsonCreator
+    public static DraftOperation fromValue(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        for (DraftOperation operation : values()) {
+            if (operation.name().equalsIgnoreCase(value.trim())) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("Unknown draft operation: " + value);
+    }
+}
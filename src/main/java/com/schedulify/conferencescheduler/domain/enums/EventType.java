@@ -3,5 +3,7 @@ package com.schedulify.conferencescheduler.domain.enums;
 public enum EventType {
     PRESENTATION,
     LUNCH,
-    NETWORKING
+    NETWORKING,
+    BREAK,
+    FIXED
 }
@@ -0,0 +1,12 @@
+package com.schedulify.conferencescheduler.domain.enums;
+
+public enum PresentationChangeType {
+    // Added by the patch
+    ADDED,
+    // Removed by the patch
+    REMOVED,
+    // Renamed or resized by the patch, possibly moved along with it
+    CHANGED,
+    // Not named in the patch, but its time or track changed because of it
+    MOVED
+}
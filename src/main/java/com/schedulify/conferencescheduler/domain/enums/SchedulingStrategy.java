@@ -0,0 +1,22 @@
+package com.schedulify.conferencescheduler.domain.enums;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+
+public enum SchedulingStrategy {
+    GREEDY,
+    EXACT,
+    OPTIMIZE;
+
+    @JsonCreator
+    public static SchedulingStrategy fromValue(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        for (SchedulingStrategy strategy : values()) {
+            if (strategy.name().equalsIgnoreCase(value.trim())) {
+                return strategy;
+            }
+        }
+        throw new IllegalArgumentException("Unknown scheduling strategy: " + value);
+    }
+}
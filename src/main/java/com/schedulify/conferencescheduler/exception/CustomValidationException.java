@@ -1,7 +1,24 @@
 package com.schedulify.conferencescheduler.exception;
 
+import java.util.List;
+
 public class CustomValidationException extends RuntimeException {
+
+    private final List<String> errors;
+
     public CustomValidationException(String message) {
+        this(message, null);
+    }
+
+    public CustomValidationException(String message, List<String> errors) {
         super(message);
+        this.errors = errors;
+    }
+
+    /**
+     * Every validation error found when errors are collected, otherwise {@code null}.
+     */
+    public List<String> getErrors() {
+        return errors;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,8 @@
+package com.schedulify.conferencescheduler.exception;
+
+public class DraftNotFoundException extends NotFoundException {
+
+    public DraftNotFoundException(String draftId) {
+        super("Schedule draft not found or expired: " + draftId);
+    }
+}
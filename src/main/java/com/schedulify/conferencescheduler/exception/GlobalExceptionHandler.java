@@ -1,8 +1,13 @@
 package com.schedulify.conferencescheduler.exception;
 
+import com.fasterxml.jackson.databind.JsonMappingException;
 import com.schedulify.conferencescheduler.web.model.v1.response.BaseResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -12,6 +17,8 @@ import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
 
+// Errors are always plain JSON, also for requests that asked for a streamed (NDJSON) response
+@Slf4j
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
@@ -21,9 +28,80 @@ public class GlobalExceptionHandler {
                 .status("Error")
                 .message(ex.getMessage())
                 .timestamp(LocalDateTime.now())
+                .data(ex.getErrors())
+                .build();
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).contentType(MediaType.APPLICATION_JSON).body(response);
+    }
+
+    @ExceptionHandler(NotFoundException.class)
+    public ResponseEntity<BaseResponse<Object>> handleNotFoundException(NotFoundException ex) {
+        BaseResponse<Object> response = BaseResponse.builder()
+                .status("Error")
+                .message(ex.getMessage())
+                .timestamp(LocalDateTime.now())
+                .data(null)
+                .build();
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).contentType(MediaType.APPLICATION_JSON).body(response);
+    }
+
+    @ExceptionHandler(PayloadTooLargeException.class)
+    public ResponseEntity<BaseResponse<Object>> handlePayloadTooLargeException(PayloadTooLargeException ex) {
+        BaseResponse<Object> response = BaseResponse.builder()
+                .status("Error")
+                .message(ex.getMessage())
+                .timestamp(LocalDateTime.now())
+                .data(null)
+                .build();
+        return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).contentType(MediaType.APPLICATION_JSON).body(response);
+    }
+
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<BaseResponse<Object>> handleTooManyRequestsException(TooManyRequestsException ex) {
+        BaseResponse<Object> response = BaseResponse.builder()
+                .status("Error")
+                .message(ex.getMessage())
+                .timestamp(LocalDateTime.now())
+                .data(null)
+                .build();
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).header(HttpHeaders.RETRY_AFTER, "1")
+                .contentType(MediaType.APPLICATION_JSON).body(response);
+    }
+
+    // Handled here rather than by Spring's default so an unreadable body, such as an unknown strategy, gets the same
+    // error body as every other bad request. Parser messages name internal classes, so only the field is reported.
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    public ResponseEntity<BaseResponse<Object>> handleHttpMessageNotReadableException(HttpMessageNotReadableException ex) {
+        String field = null;
+        for (Throwable cause = ex.getCause(); cause != null && cause != cause.getCause(); cause = cause.getCause()) {
+            // A body cut off at its size limit while Jackson was reading it is still too large, not malformed
+            if (cause instanceof PayloadTooLargeException payloadTooLargeException) {
+                return handlePayloadTooLargeException(payloadTooLargeException);
+            }
+            if (field == null && cause instanceof JsonMappingException mappingException) {
+                field = pathOf(mappingException);
+            }
+        }
+        log.debug("Malformed request body", ex.getMostSpecificCause());
+        BaseResponse<Object> response = BaseResponse.builder()
+                .status("Error")
+                .message(field == null ? "Malformed request" : "Malformed request: invalid value at " + field)
+                .timestamp(LocalDateTime.now())
                 .data(null)
                 .build();
-        return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).contentType(MediaType.APPLICATION_JSON).body(response);
+    }
+
+    // Path of the offending field like presentations[2].duration, null when it is not known
+    private static String pathOf(JsonMappingException ex) {
+        StringBuilder path = new StringBuilder();
+        for (JsonMappingException.Reference reference : ex.getPath()) {
+            if (reference.getFieldName() != null) {
+                path.append(path.isEmpty() ? "" : ".").append(reference.getFieldName());
+            } else if (reference.getIndex() >= 0) {
+                path.append('[').append(reference.getIndex()).append(']');
+            }
+        }
+        return path.isEmpty() ? null : path.toString();
     }
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
@@ -42,6 +120,6 @@ public class GlobalExceptionHandler {
                 .data(errors)
                 .build();
 
-        return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).contentType(MediaType.APPLICATION_JSON).body(response);
     }
 }
@@ -0,0 +1,8 @@
+package com.schedulify.conferencescheduler.exception;
+
+public class JobNotFoundException extends NotFoundException {
+
+    public JobNotFoundException(String jobId) {
+        super("Schedule job not found or expired: " + jobId);
+    }
+}
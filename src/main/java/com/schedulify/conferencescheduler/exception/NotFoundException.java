@@ -0,0 +1,11 @@
+package com.schedulify.conferencescheduler.exception;
+
+/**
+ * Something a request refers to by id does not exist (any more), answered with 404.
+ */
+public class NotFoundException extends RuntimeException {
+
+    public NotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.schedulify.conferencescheduler.exception;
+
+public class PayloadTooLargeException extends RuntimeException {
+
+    public PayloadTooLargeException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.schedulify.conferencescheduler.exception;
+
+public class ScheduleNotFoundException extends NotFoundException {
+
+    public ScheduleNotFoundException(String scheduleId) {
+        super("Schedule not found: " + scheduleId);
+    }
+}
@@ -0,0 +1,8 @@
+package com.schedulify.conferencescheduler.exception;
+
+public class TooManyJobsException extends TooManyRequestsException {
+
+    public TooManyJobsException(int queueCapacity) {
+        super("Too many schedule jobs waiting, at most " + queueCapacity + " can be queued; retry later");
+    }
+}
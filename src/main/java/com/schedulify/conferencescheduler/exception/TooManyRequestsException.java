@@ -0,0 +1,11 @@
+package com.schedulify.conferencescheduler.exception;
+
+/**
+ * The service is too busy for the request right now, answered with 429 and a hint to retry shortly.
+ */
+public class TooManyRequestsException extends RuntimeException {
+
+    public TooManyRequestsException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,99 @@
+package com.schedulify.conferencescheduler.mapper;
+
+import com.schedulify.conferencescheduler.domain.dto.EventDto;
+import com.schedulify.conferencescheduler.domain.dto.ResolvedDayTemplate;
+import com.schedulify.conferencescheduler.domain.dto.ScheduleLayout;
+import com.schedulify.conferencescheduler.domain.enums.EventType;
+import com.schedulify.conferencescheduler.service.allocation.LightningBlocks;
+import com.schedulify.conferencescheduler.service.time.TimeLabelService;
+import com.schedulify.conferencescheduler.web.model.v1.response.CompactScheduleResponse;
+import com.schedulify.conferencescheduler.web.model.v1.response.SchedulePresentationsResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class CompactScheduleMapper {
+
+    private static final EventType[] EVENT_TYPES = EventType.values();
+
+    private final ScheduleServiceMapper scheduleServiceMapper;
+    private final TimeLabelService timeLabelService;
+
+    // Reads the layout directly, no EventDto or formatted time is built for the binary encodings
+    public CompactScheduleResponse mapToCompactResponse(ScheduleLayout layout) {
+        return mapToCompactResponse(layout, scheduleServiceMapper.mapToResponse(layout));
+    }
+
+    /**
+     * Compact schedule of the layout that keeps status, message and timestamp of an already built response.
+     */
+    public CompactScheduleResponse mapToCompactResponse(ScheduleLayout layout, SchedulePresentationsResponse summary) {
+        List<CompactScheduleResponse.Track> compactTracks = new ArrayList<>(layout.trackCount());
+        for (int track = 0; track < layout.trackCount(); track++) {
+            compactTracks.add(mapToCompactTrack(layout, track));
+        }
+        int days = layout.getDayTemplate().getDays();
+        return CompactScheduleResponse.builder()
+                .status(summary.getStatus())
+                .message(summary.getMessage())
+                .timestamp(summary.getTimestamp())
+                .data(compactTracks)
+                .optimization(summary.getOptimization())
+                .days(days > 1 ? days : null)
+                .build();
+    }
+
+    /**
+     * Turns a compact schedule back into the regular response, e.g. when a stored snapshot is read as JSON.
+     */
+    public SchedulePresentationsResponse mapToResponse(CompactScheduleResponse compact) {
+        boolean multiDay = compact.getDays() != null;
+        List<SchedulePresentationsResponse.Track> tracks = new ArrayList<>(compact.getData().size());
+        for (CompactScheduleResponse.Track compactTrack : compact.getData()) {
+            List<SchedulePresentationsResponse.EventWrapper> events = new ArrayList<>(compactTrack.getEvents().size());
+            for (CompactScheduleResponse.Event event : compactTrack.getEvents()) {
+                events.add(SchedulePresentationsResponse.EventWrapper.builder().event(mapToEventDto(event, multiDay)).build());
+            }
+            tracks.add(SchedulePresentationsResponse.Track.builder().trackNo(compactTrack.getTrackNo()).track(events).build());
+        }
+        return SchedulePresentationsResponse.builder()
+                .status(compact.getStatus())
+                .message(compact.getMessage())
+                .timestamp(compact.getTimestamp())
+                .data(tracks)
+                .optimization(compact.getOptimization())
+                .scheduleId(compact.getScheduleId())
+                .build();
+    }
+
+    private CompactScheduleResponse.Track mapToCompactTrack(ScheduleLayout layout, int track) {
+        List<CompactScheduleResponse.Event> events = new ArrayList<>(layout.endEvent(track) - layout.firstEvent(track));
+        for (int event = layout.firstEvent(track); event < layout.endEvent(track); event++) {
+            String[] talks = layout.talks(event);
+            events.add(new CompactScheduleResponse.Event(
+                    layout.eventType(event).ordinal(),
+                    // The four element event has no room for a list, a lightning block names its talks in the subject
+                    talks == null ? layout.subject(event) : LightningBlocks.describe(talks),
+                    layout.startMinute(event),
+                    layout.endMinute(event)));
+        }
+        return new CompactScheduleResponse.Track(track + 1, events);
+    }
+
+    private EventDto mapToEventDto(CompactScheduleResponse.Event event, boolean multiDay) {
+        int startMinuteOfDay = event.getStart() % ResolvedDayTemplate.MINUTES_PER_DAY;
+        int duration = event.getEnd() - event.getStart();
+        return EventDto.builder()
+                .eventType(EVENT_TYPES[event.getType()])
+                .subject(event.getSubject())
+                .durationInMinutes(duration)
+                .startsAt(timeLabelService.label(startMinuteOfDay))
+                .endsAt(timeLabelService.label(startMinuteOfDay + duration))
+                .day(multiDay ? event.getStart() / ResolvedDayTemplate.MINUTES_PER_DAY + 1 : null)
+                .build();
+    }
+}
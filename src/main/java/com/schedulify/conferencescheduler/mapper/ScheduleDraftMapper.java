@@ -0,0 +1,62 @@
+package com.schedulify.conferencescheduler.mapper;
+
+import com.schedulify.conferencescheduler.domain.dto.ResolvedDayTemplate;
+import com.schedulify.conferencescheduler.service.draft.DraftChange;
+import com.schedulify.conferencescheduler.service.draft.DraftSnapshot;
+import com.schedulify.conferencescheduler.service.time.TimeLabelService;
+import com.schedulify.conferencescheduler.web.model.v1.response.ScheduleDraftResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class ScheduleDraftMapper {
+
+    private final TimeLabelService timeLabelService;
+
+    public ScheduleDraftResponse mapToResponse(DraftSnapshot snapshot) {
+        List<ScheduleDraftResponse.PresentationChange> changes = snapshot.getChanges() == null ? null : snapshot.getChanges().stream()
+                .map(change -> mapToPresentationChange(change, snapshot.isMultiDay()))
+                .toList();
+        return ScheduleDraftResponse.builder()
+                .status("Success")
+                .message(changes == null
+                        ? "Schedule draft with " + snapshot.getTrackCount() + " tracks"
+                        : "Applied patch, " + snapshot.getTracks().size() + " of " + snapshot.getTrackCount() + " tracks changed")
+                .timestamp(LocalDateTime.now())
+                .data(snapshot.getTracks())
+                .draftId(snapshot.getId())
+                .version(snapshot.getVersion())
+                .presentations(snapshot.getPresentations())
+                .trackCount(snapshot.getTrackCount())
+                .changes(changes)
+                .build();
+    }
+
+    private ScheduleDraftResponse.PresentationChange mapToPresentationChange(DraftChange change, boolean multiDay) {
+        return ScheduleDraftResponse.PresentationChange.builder()
+                .subject(change.getSubject())
+                .previousSubject(change.getPreviousSubject())
+                .change(change.getType())
+                .from(mapToPlacement(change.getFrom(), multiDay))
+                .to(mapToPlacement(change.getTo(), multiDay))
+                .build();
+    }
+
+    private ScheduleDraftResponse.Placement mapToPlacement(DraftChange.Placement placement, boolean multiDay) {
+        if (placement == null) {
+            return null;
+        }
+        int startMinute = placement.getStartMinute();
+        return ScheduleDraftResponse.Placement.builder()
+                .trackNo(placement.getTrack() + 1)
+                .day(multiDay ? startMinute / ResolvedDayTemplate.MINUTES_PER_DAY + 1 : null)
+                .startsAt(timeLabelService.label(startMinute))
+                .endsAt(timeLabelService.label(startMinute + placement.getDurationInMinutes()))
+                .durationInMinutes(placement.getDurationInMinutes())
+                .build();
+    }
+}
@@ -0,0 +1,41 @@
+package com.schedulify.conferencescheduler.mapper;
+
+import com.schedulify.conferencescheduler.domain.enums.JobState;
+import com.schedulify.conferencescheduler.service.job.ScheduleJob;
+import com.schedulify.conferencescheduler.web.model.v1.response.ScheduleJobResponse;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+@Component
+public class ScheduleJobMapper {
+
+    public ScheduleJobResponse mapToResponse(ScheduleJob job) {
+        // Reading the state once, the worker may move the job on while the response is built
+        JobState state = job.getState();
+        return ScheduleJobResponse.builder()
+                .status(state == JobState.FAILED ? "Error" : "Success")
+                .message(messageFor(job, state))
+                .timestamp(LocalDateTime.now())
+                .data(state == JobState.SUCCEEDED ? job.getResult() : null)
+                .jobId(job.getId())
+                .state(state)
+                .presentations(job.getPresentations())
+                .presentationsPlanned(job.getPresentationsPlanned())
+                .tracksDone(job.getTracksDone())
+                .submittedAt(job.getSubmittedAt())
+                .finishedAt(job.getFinishedAt())
+                .errors(state == JobState.FAILED ? job.getErrors() : null)
+                .build();
+    }
+
+    private String messageFor(ScheduleJob job, JobState state) {
+        return switch (state) {
+            case QUEUED -> "Schedule job is waiting to run";
+            case RUNNING -> "Schedule job is running";
+            case SUCCEEDED -> "Schedule job finished";
+            case FAILED -> job.getErrorMessage();
+            case CANCELLED -> "Schedule job was cancelled";
+        };
+    }
+}
@@ -1,28 +1,148 @@
 package com.schedulify.conferencescheduler.mapper;
 
 import com.schedulify.conferencescheduler.domain.dto.EventDto;
-import com.schedulify.conferencescheduler.domain.enums.EventType;
-import com.schedulify.conferencescheduler.web.model.v1.request.SchedulePresentationsRequest;
+import com.schedulify.conferencescheduler.domain.dto.ResolvedDayTemplate;
+import com.schedulify.conferencescheduler.domain.dto.ScheduleLayout;
+import com.schedulify.conferencescheduler.service.time.TimeLabelService;
+import com.schedulify.conferencescheduler.web.model.v1.response.SchedulePresentationsResponse;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Locale;
 
 @Component
+@RequiredArgsConstructor
 public class ScheduleServiceMapper {
 
-    public List<EventDto> mapToEventDtos(SchedulePresentationsRequest request) {
-        return request.getPresentations().stream()
-                .map(presentation -> {
-                    int durationInMinutes = "lightning".equalsIgnoreCase(presentation.getDuration().trim()) ? 5 : Integer.parseInt(presentation.getDuration().trim());
-                    return EventDto.builder()
-                            .eventType(EventType.PRESENTATION)
-                            .subject(presentation.getSubject().trim())
-                            .durationInMinutes(durationInMinutes)
-                            .startsAt(null)
-                            .endsAt(null)
-                            .build();
-                })
-                .collect(Collectors.toList());
+    private final TimeLabelService timeLabelService;
+
+    /**
+     * Status, message and optimization summary of a schedule, without its tracks.
+     */
+    public SchedulePresentationsResponse mapToResponse(ScheduleLayout layout) {
+        return mapToResponse(layout, false);
+    }
+
+    /**
+     * Status, message and optimization summary of a schedule, without its tracks, with a report when asked for.
+     */
+    public SchedulePresentationsResponse mapToResponse(ScheduleLayout layout, boolean report) {
+        SchedulePresentationsResponse.Optimization optimization = null;
+        if (layout.isOptimized()) {
+            optimization = SchedulePresentationsResponse.Optimization.builder()
+                    .trackCount(layout.trackCount())
+                    .lowerBound(layout.getLowerBound())
+                    .provenOptimal(layout.trackCount() == layout.getLowerBound())
+                    .elapsedMillis(layout.getOptimizationMillis())
+                    .build();
+        }
+        return SchedulePresentationsResponse.builder()
+                .status("Success")
+                .message("Successfully scheduled events under " + layout.trackCount() + " tracks.")
+                .timestamp(LocalDateTime.now())
+                .optimization(optimization)
+                .report(report ? mapToReport(layout) : null)
+                .build();
+    }
+
+    /**
+     * Report of a layout from the minutes the engine kept per session while arranging, without walking the events.
+     */
+    public SchedulePresentationsResponse.Report mapToReport(ScheduleLayout layout) {
+        ResolvedDayTemplate dayTemplate = layout.getDayTemplate();
+        int[] sessionDurations = dayTemplate.getTrackSessionDurations();
+        int trackCount = layout.trackCount();
+        boolean multiDay = dayTemplate.getDays() > 1;
+
+        List<SchedulePresentationsResponse.Session> sessions = new ArrayList<>(sessionDurations.length);
+        long trackMinutes = 0;
+        long usedMinutes = 0;
+        for (int session = 0; session < sessionDurations.length; session++) {
+            long sessionUsedMinutes = 0;
+            for (int track = 0; track < trackCount; track++) {
+                sessionUsedMinutes += layout.sessionUsedMinutes(track, session);
+            }
+            long sessionMinutes = (long) sessionDurations[session] * trackCount;
+            int startMinute = dayTemplate.getSessionStarts()[session % dayTemplate.sessionCount()];
+            sessions.add(SchedulePresentationsResponse.Session.builder()
+                    .day(multiDay ? session / dayTemplate.sessionCount() + 1 : null)
+                    .startsAt(timeLabelService.label(startMinute))
+                    .endsAt(timeLabelService.label(startMinute + sessionDurations[session]))
+                    .usedMinutes(sessionUsedMinutes)
+                    .idleMinutes(sessionMinutes - sessionUsedMinutes)
+                    .utilization(utilization(sessionUsedMinutes, sessionMinutes))
+                    .build());
+            trackMinutes += sessionDurations[session];
+            usedMinutes += sessionUsedMinutes;
+        }
+
+        long sessionMinutes = trackMinutes * trackCount;
+        return SchedulePresentationsResponse.Report.builder()
+                .strategy(layout.getStrategy() == null ? null : layout.getStrategy().name().toLowerCase(Locale.ROOT))
+                .trackCount(trackCount)
+                .theoreticalMinimumTrackCount(trackMinutes == 0 ? 0 : (int) ((usedMinutes + trackMinutes - 1) / trackMinutes))
+                .usedMinutes(usedMinutes)
+                .idleMinutes(sessionMinutes - usedMinutes)
+                .utilization(utilization(usedMinutes, sessionMinutes))
+                .engineMillis(layout.isCached() ? null : Math.round(layout.getEngineNanos() / 1_000.0) / 1_000.0)
+                .cached(layout.isCached())
+                .sessions(sessions)
+                .build();
+    }
+
+    /**
+     * Builds the events of one track, {@code track} is zero based.
+     */
+    public SchedulePresentationsResponse.Track mapToTrack(ScheduleLayout layout, int track) {
+        int firstEvent = layout.firstEvent(track);
+        int endEvent = layout.endEvent(track);
+        boolean multiDay = layout.getDayTemplate().getDays() > 1;
+        List<SchedulePresentationsResponse.EventWrapper> events = new ArrayList<>(endEvent - firstEvent);
+        for (int event = firstEvent; event < endEvent; event++) {
+            events.add(SchedulePresentationsResponse.EventWrapper.builder().event(mapToEventDto(layout, event, multiDay)).build());
+        }
+        return SchedulePresentationsResponse.Track.builder()
+                .trackNo(track + 1)
+                .track(events)
+                .build();
+    }
+
+    /**
+     * Builds the events of one track without wrapping every event, {@code track} is zero based.
+     */
+    public SchedulePresentationsResponse.Track mapToFlatTrack(ScheduleLayout layout, int track) {
+        int firstEvent = layout.firstEvent(track);
+        int endEvent = layout.endEvent(track);
+        boolean multiDay = layout.getDayTemplate().getDays() > 1;
+        EventDto[] events = new EventDto[endEvent - firstEvent];
+        for (int event = firstEvent; event < endEvent; event++) {
+            events[event - firstEvent] = mapToEventDto(layout, event, multiDay);
+        }
+        return SchedulePresentationsResponse.Track.builder()
+                .trackNo(track + 1)
+                .events(Arrays.asList(events))
+                .build();
+    }
+
+    // Rounded to four decimals, an empty schedule counts as fully used
+    private static double utilization(long usedMinutes, long sessionMinutes) {
+        return sessionMinutes == 0 ? 1 : Math.round(usedMinutes * 10_000.0 / sessionMinutes) / 10_000.0;
+    }
+
+    private EventDto mapToEventDto(ScheduleLayout layout, int event, boolean multiDay) {
+        String[] talks = layout.talks(event);
+        return EventDto.builder()
+                .eventType(layout.eventType(event))
+                .subject(layout.subject(event))
+                .durationInMinutes(layout.durationInMinutes(event))
+                .startsAt(timeLabelService.label(layout.startMinuteOfDay(event)))
+                .endsAt(timeLabelService.label(layout.endMinuteOfDay(event)))
+                .talks(talks == null ? null : Arrays.asList(talks))
+                .day(multiDay ? layout.day(event) + 1 : null)
+                .build();
     }
 }
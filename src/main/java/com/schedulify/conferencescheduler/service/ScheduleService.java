@@ -1,8 +1,63 @@
 package com.schedulify.conferencescheduler.service;
 
+import com.schedulify.conferencescheduler.domain.dto.ResolvedDayTemplate;
+import com.schedulify.conferencescheduler.domain.dto.ScheduleLayout;
+import com.schedulify.conferencescheduler.domain.dto.ValidatedPresentations;
+import com.schedulify.conferencescheduler.service.allocation.ScheduleProgress;
+import com.schedulify.conferencescheduler.service.allocation.TrackPlan;
 import com.schedulify.conferencescheduler.web.model.v1.request.SchedulePresentationsRequest;
 import com.schedulify.conferencescheduler.web.model.v1.response.SchedulePresentationsResponse;
 
+import java.util.List;
+import java.util.function.Consumer;
+
 public interface ScheduleService {
     SchedulePresentationsResponse schedule(SchedulePresentationsRequest request);
+
+    /**
+     * Schedules presentations that were already validated, e.g. while streaming the request body.
+     * Only the options of the request (strategy, time budget, ...) are used, its presentation list is ignored.
+     */
+    SchedulePresentationsResponse schedule(ValidatedPresentations presentations, SchedulePresentationsRequest options);
+
+    /**
+     * Same as {@link #schedule(ValidatedPresentations, SchedulePresentationsRequest)}, but hands every track to the
+     * consumer as soon as it is built instead of keeping it; the returned response carries no tracks. Greedy and exact
+     * runs that are not parallel and group no lightning talks plan, build and hand over one track before the next.
+     */
+    SchedulePresentationsResponse schedule(ValidatedPresentations presentations, SchedulePresentationsRequest options,
+                                           Consumer<SchedulePresentationsResponse.Track> trackConsumer);
+
+    /**
+     * Validates and schedules the request into the engine's primitive layout, without building any event object.
+     */
+    ScheduleLayout layout(SchedulePresentationsRequest request);
+
+    /**
+     * Schedules presentations that were already validated into the engine's primitive layout.
+     */
+    ScheduleLayout layout(ValidatedPresentations presentations, SchedulePresentationsRequest options);
+
+    /**
+     * Same as {@link #layout(ValidatedPresentations, SchedulePresentationsRequest)}, reporting to the given progress
+     * while tracks are planned, which can stop the run by throwing {@link java.util.concurrent.CancellationException}.
+     */
+    ScheduleLayout layout(ValidatedPresentations presentations, SchedulePresentationsRequest options, ScheduleProgress progress);
+
+    /**
+     * Lays out tracks whose sessions were already decided, such as the tracks of a draft, without packing anything.
+     */
+    ScheduleLayout arrange(ValidatedPresentations presentations, ResolvedDayTemplate dayTemplate, List<TrackPlan> trackPlans);
+
+    /**
+     * Builds the tracks of a layout and hands them to the consumer in track order; the returned response carries no tracks.
+     */
+    SchedulePresentationsResponse render(ScheduleLayout layout, SchedulePresentationsRequest options,
+                                         Consumer<SchedulePresentationsResponse.Track> trackConsumer);
+
+    /**
+     * Validates the presentations of the request, failing the way the request asks for. The day template of the
+     * request is checked too and kept with the presentations, to be reused when they are scheduled for the same request.
+     */
+    ValidatedPresentations validate(SchedulePresentationsRequest request);
 }
@@ -1,234 +1,443 @@
 package com.schedulify.conferencescheduler.service;
 
-import com.schedulify.conferencescheduler.domain.dto.EventDto;
-import com.schedulify.conferencescheduler.domain.enums.EventType;
-import com.schedulify.conferencescheduler.exception.CustomValidationException;
+import com.schedulify.conferencescheduler.domain.dto.ResolvedDayTemplate;
+import com.schedulify.conferencescheduler.domain.dto.ScheduleLayout;
+import com.schedulify.conferencescheduler.domain.dto.ValidatedPresentations;
+import com.schedulify.conferencescheduler.domain.enums.SchedulingStrategy;
 import com.schedulify.conferencescheduler.mapper.ScheduleServiceMapper;
+import com.schedulify.conferencescheduler.service.allocation.BinPackingOptimizer;
+import com.schedulify.conferencescheduler.service.allocation.DurationBucketIndex;
+import com.schedulify.conferencescheduler.service.allocation.ExactSessionFiller;
+import com.schedulify.conferencescheduler.service.allocation.GreedySessionFiller;
+import com.schedulify.conferencescheduler.service.allocation.LightningBlocks;
+import com.schedulify.conferencescheduler.service.allocation.PackingResult;
+import com.schedulify.conferencescheduler.service.allocation.ScheduleProgress;
+import com.schedulify.conferencescheduler.service.allocation.SessionFiller;
+import com.schedulify.conferencescheduler.service.allocation.TrackPlan;
+import com.schedulify.conferencescheduler.service.day.DayTemplateResolver;
+import com.schedulify.conferencescheduler.service.metrics.ScheduleMetrics;
+import com.schedulify.conferencescheduler.validation.PresentationValidator;
 import com.schedulify.conferencescheduler.web.model.v1.request.SchedulePresentationsRequest;
 import com.schedulify.conferencescheduler.web.model.v1.response.SchedulePresentationsResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.util.ObjectUtils;
 
-import java.time.LocalDateTime;
-import java.time.LocalTime;
-import java.time.format.DateTimeFormatter;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
 
 @Slf4j
 @RequiredArgsConstructor
 @Service
 public class ScheduleServiceImpl implements ScheduleService {
 
+    private static final long DEFAULT_TIME_BUDGET_IN_MILLIS = 200;
+    private static final long MAX_TIME_BUDGET_IN_MILLIS = 10_000;
+    private static final int PARALLEL_BATCH_SIZE = 1024;
+
+    private static final SessionFiller GREEDY_SESSION_FILLER = new GreedySessionFiller();
+    private static final SessionFiller EXACT_SESSION_FILLER = new ExactSessionFiller();
+    private static final BinPackingOptimizer BIN_PACKING_OPTIMIZER = new BinPackingOptimizer();
+
     private final ScheduleServiceMapper scheduleServiceMapper;
-    private final DateTimeFormatter timeFormatter;
+    private final ScheduleMetrics scheduleMetrics;
+    private final DayTemplateResolver dayTemplateResolver;
 
     @Override
     public SchedulePresentationsResponse schedule(SchedulePresentationsRequest request) {
-        log.info("Received schedule request with {} presentations", request.getPresentations().size());
+        return schedule(validate(request), request);
+    }
+
+    @Override
+    public ValidatedPresentations validate(SchedulePresentationsRequest request) {
+        log.debug("Received schedule request with {} presentations", request.getPresentations().size());
 
-        // Validate request data integrity
+        // Validate request data integrity, parsing every duration once on the way
         log.debug("Validating presentations...");
-        validatePresentations(request.getPresentations());
+        ValidatedPresentations validatedPresentations = scheduleMetrics.timeValidate(
+                () -> validatePresentations(request.getPresentations(), Boolean.TRUE.equals(request.getCollectAllErrors())));
+        // Checking the day template up front too, so a bad template is rejected before any work is queued
+        ResolvedDayTemplate dayTemplate = dayTemplateResolver.resolve(request);
+        dayTemplateResolver.checkPresentationsFit(validatedPresentations, dayTemplate);
         log.debug("Validation completed successfully");
+        return validatedPresentations.fitting(dayTemplate);
+    }
 
-        // Mapping request array elements to EventDto objects for further processing
-        List<EventDto> eventDtos = scheduleServiceMapper.mapToEventDtos(request);
+    @Override
+    public SchedulePresentationsResponse schedule(ValidatedPresentations presentations, SchedulePresentationsRequest options) {
+        // Collecting every track for a response that is serialized as a whole, the layout knows how many there are
+        ScheduleLayout layout = layout(presentations, options);
+        List<SchedulePresentationsResponse.Track> tracks = new ArrayList<>(layout.trackCount());
+        SchedulePresentationsResponse response = render(layout, options, tracks::add);
+        response.setData(tracks);
+        return response;
+    }
 
-        // Getting data ready by sorting presentations by duration longest -> shortest
-        List<EventDto> filteredAndSortedEventDtos = sortPresentations(eventDtos);
+    @Override
+    public SchedulePresentationsResponse schedule(ValidatedPresentations presentations, SchedulePresentationsRequest options,
+                                                  Consumer<SchedulePresentationsResponse.Track> trackConsumer) {
+        // Optimizing and parallel runs settle all tracks together, and blocks are cut from a whole schedule
+        boolean groupsLightningTalks = lightningBlockMinutes(options) > 0 && presentations.getLightning() != null;
+        if (options.getStrategy() == SchedulingStrategy.OPTIMIZE || Boolean.TRUE.equals(options.getParallel()) || groupsLightningTalks) {
+            return render(layout(presentations, options), options, trackConsumer);
+        }
+        return streamTracks(presentations, options, trackConsumer);
+    }
 
-        // Prepare empty track array for response data
-        List<SchedulePresentationsResponse.Track> tracks = new ArrayList<>();
+    @Override
+    public ScheduleLayout layout(SchedulePresentationsRequest request) {
+        return layout(validate(request), request);
+    }
 
-        // Renaming EventDto list more meaningfully for future operations
-        List<EventDto> remainingPresentations = new ArrayList<>(filteredAndSortedEventDtos);
-        int trackNumber = 1;
+    @Override
+    public ScheduleLayout layout(ValidatedPresentations presentations, SchedulePresentationsRequest options) {
+        return layout(presentations, options, ScheduleProgress.NONE);
+    }
 
-        while (!ObjectUtils.isEmpty(remainingPresentations)) {
-            log.info("Allocating presentations for track {}", trackNumber);
-            // Scheduling presentations and building structured sessions by rules
-            List<EventDto> sessionEvents = allocatePresentations(remainingPresentations);
+    @Override
+    public ScheduleLayout layout(ValidatedPresentations presentations, SchedulePresentationsRequest options, ScheduleProgress progress) {
+        long startNanos = System.nanoTime();
+        boolean parallel = Boolean.TRUE.equals(options.getParallel());
+        ResolvedDayTemplate dayTemplate = dayTemplateFor(presentations, options);
+        PackingResult packingResult = null;
+        List<TrackPlan> trackPlans;
+
+        if (options.getStrategy() == SchedulingStrategy.OPTIMIZE) {
+            // Packing the whole schedule at once, every session of every day of a track is a bin of the same problem
+            packingResult = scheduleMetrics.timeOptimize(() -> BIN_PACKING_OPTIMIZER.optimize(
+                    presentations.getDurationsInMinutes(), dayTemplate.getTrackSessionDurations(), timeBudgetInMillis(options), progress));
+            trackPlans = packingResult.getTracks();
+            log.debug("Optimized schedule to {} tracks, lower bound {}", trackPlans.size(), packingResult.getLowerBound());
+        } else {
+            // Getting data ready by bucketing presentations by duration, longest bucket is served first
+            DurationBucketIndex unallocatedPresentations = scheduleMetrics.timeSort(
+                    () -> new DurationBucketIndex(presentations.getDurationsInMinutes()));
+
+            // Picking how each session is filled, greedy unless the request asks otherwise
+            SessionFiller sessionFiller = sessionFillerFor(options.getStrategy());
+
+            // Deciding which presentations go to which track is cheap and order dependent, so it stays sequential
+            trackPlans = scheduleMetrics.tracePlan(() -> planTracks(unallocatedPresentations, sessionFiller, dayTemplate, progress));
+        }
 
-            // Build and add the track to the response
-            tracks.add(buildTrack(trackNumber, sessionEvents));
-            log.info("Track {} allocated with {} events", trackNumber, sessionEvents.size());
+        // Lightning talks are planned one by one so they still close every gap, blocks only group them afterwards
+        LightningBlocks.Grouped grouped = LightningBlocks.group(presentations, trackPlans, lightningBlockMinutes(options));
+        ScheduleLayout layout = grouped == null
+                ? arrangeTracks(presentations, dayTemplate, trackPlans, parallel, packingResult, true)
+                : arrangeTracks(grouped.getPresentations(), dayTemplate, grouped.getTrackPlans(), parallel, packingResult, true);
 
-            trackNumber++;
-        }
+        layout.recordEngineRun(options.getStrategy() == null ? SchedulingStrategy.GREEDY : options.getStrategy(), System.nanoTime() - startNanos);
+        scheduleMetrics.recordSchedule(presentations.size(), layout.trackCount());
+        log.debug("Schedule processing completed successfully with {} tracks", layout.trackCount());
+        return layout;
+    }
+
+    @Override
+    public ScheduleLayout arrange(ValidatedPresentations presentations, ResolvedDayTemplate dayTemplate, List<TrackPlan> trackPlans) {
+        // Tracks planned elsewhere were already measured when they were packed, so idle minutes are not recorded again
+        return arrangeTracks(presentations, dayTemplate, trackPlans, false, null, false);
+    }
 
-        // Create and return the final response
-        SchedulePresentationsResponse response = SchedulePresentationsResponse.builder()
-                .status("Success")
-                .message("Successfully scheduled events under " + trackNumber + " tracks.")
-                .timestamp(LocalDateTime.now())
-                .data(tracks)
-                .build();
+    @Override
+    public SchedulePresentationsResponse render(ScheduleLayout layout, SchedulePresentationsRequest options,
+                                                Consumer<SchedulePresentationsResponse.Track> trackConsumer) {
+        boolean flat = Boolean.TRUE.equals(options.getFlat());
+        scheduleMetrics.traceTrackBuild(() -> buildTracks(layout, Boolean.TRUE.equals(options.getParallel()), flat, trackConsumer));
 
-        log.info("Schedule processing completed successfully");
-        return response;
+        // Create and return the final response, tracks were already handed over
+        return scheduleMetrics.timeResponseBuild(() -> scheduleServiceMapper.mapToResponse(layout, Boolean.TRUE.equals(options.getReport())));
     }
 
-    private List<EventDto> sortPresentations(List<EventDto> eventDtos) {
-        return eventDtos.stream()
-                .sorted(Comparator.comparingInt(EventDto::getDurationInMinutes).reversed())
-                .collect(Collectors.toList());
+    // Presentations validated for the request were already checked against its template
+    private ResolvedDayTemplate dayTemplateFor(ValidatedPresentations presentations, SchedulePresentationsRequest options) {
+        if (presentations.getDayTemplate() != null) {
+            return presentations.getDayTemplate();
+        }
+        ResolvedDayTemplate dayTemplate = dayTemplateResolver.resolve(options);
+        dayTemplateResolver.checkPresentationsFit(presentations, dayTemplate);
+        return dayTemplate;
     }
 
-    private List<EventDto> allocatePresentations(List<EventDto> presentations) {
-        List<EventDto> sessionEvents = new ArrayList<>();
-        // Set time to the start of the conference 9:00AM
-        LocalTime currentTime = LocalTime.of(9, 0);
+    /**
+     * Plans, arranges and builds one track after another, handing each to the consumer before the next is planned,
+     * so the first track goes out after the time of one track whatever the size of the conference. Every track is
+     * arranged into a layout of its own; what the summary and report need of the whole schedule is the minutes used
+     * per session, kept in a layout without events.
+     */
+    private SchedulePresentationsResponse streamTracks(ValidatedPresentations presentations, SchedulePresentationsRequest options,
+                                                       Consumer<SchedulePresentationsResponse.Track> trackConsumer) {
+        long startNanos = System.nanoTime();
+        ResolvedDayTemplate dayTemplate = dayTemplateFor(presentations, options);
+        int[] durations = presentations.getDurationsInMinutes();
+        DurationBucketIndex unallocatedPresentations = scheduleMetrics.timeSort(() -> new DurationBucketIndex(durations));
+        SessionFiller sessionFiller = sessionFillerFor(options.getStrategy());
+        boolean flat = Boolean.TRUE.equals(options.getFlat());
+        int sessionsPerTrack = dayTemplate.getTrackSessionDurations().length;
+        // Engine time leaves out building and writing the tracks, as it does for schedules laid out as a whole
+        long engineNanos = System.nanoTime() - startNanos;
+
+        int[] sessionUsedMinutes = new int[sessionsPerTrack * 16];
+        int trackCount = 0;
+        while (!unallocatedPresentations.isEmpty()) {
+            long trackStartNanos = System.nanoTime();
+            TrackPlan trackPlan = scheduleMetrics.tracePlan(() -> planTrack(unallocatedPresentations, sessionFiller, dayTemplate));
+            int[] trackOffsets = {0, eventCount(trackPlan, dayTemplate, durations)};
+            ScheduleLayout trackLayout = new ScheduleLayout(presentations, dayTemplate, trackOffsets, false, 0, 0);
+            scheduleMetrics.traceArrange(() -> {
+                arrangeTrack(trackLayout, 0, trackPlan, true);
+                return trackLayout;
+            });
+            engineNanos += System.nanoTime() - trackStartNanos;
+            int trackNo = ++trackCount;
+            scheduleMetrics.traceTrackBuild(() -> {
+                SchedulePresentationsResponse.Track track = buildTrack(trackLayout, 0, flat);
+                track.setTrackNo(trackNo);
+                trackConsumer.accept(track);
+            });
+
+            if (trackCount * sessionsPerTrack > sessionUsedMinutes.length) {
+                sessionUsedMinutes = Arrays.copyOf(sessionUsedMinutes, sessionUsedMinutes.length * 2);
+            }
+            for (int session = 0; session < sessionsPerTrack; session++) {
+                sessionUsedMinutes[(trackCount - 1) * sessionsPerTrack + session] = trackLayout.sessionUsedMinutes(0, session);
+            }
+        }
 
-        List<EventDto> unallocatedPresentations = new ArrayList<>(presentations);
+        ScheduleLayout summary = new ScheduleLayout(presentations, dayTemplate, new int[trackCount + 1], false, 0, 0);
+        for (int track = 0; track < trackCount; track++) {
+            for (int session = 0; session < sessionsPerTrack; session++) {
+                summary.setSessionUsedMinutes(track, session, sessionUsedMinutes[track * sessionsPerTrack + session]);
+            }
+        }
+        summary.recordEngineRun(options.getStrategy() == null ? SchedulingStrategy.GREEDY : options.getStrategy(), engineNanos);
+        scheduleMetrics.recordSchedule(presentations.size(), trackCount);
+        log.debug("Streamed schedule of {} tracks", trackCount);
+        return scheduleMetrics.timeResponseBuild(() -> scheduleServiceMapper.mapToResponse(summary, Boolean.TRUE.equals(options.getReport())));
+    }
 
-        // Allocate morning session (3 hours)
-        log.debug("Allocating morning session presentations");
-        currentTime = addPresentationsToSession(sessionEvents, unallocatedPresentations, currentTime, 180);
+    // Blocks are cut from the talks of a session, so they never outgrow it whatever the length asked for
+    private int lightningBlockMinutes(SchedulePresentationsRequest options) {
+        Integer blockMinutes = options.getLightningBlockMinutes();
+        return blockMinutes == null || blockMinutes <= 0 ? 0 : blockMinutes;
+    }
 
-        // Add lunch break
-        addLunchBreak(sessionEvents);
-        currentTime = LocalTime.of(13, 0);
+    private SessionFiller sessionFillerFor(SchedulingStrategy strategy) {
+        return strategy == SchedulingStrategy.EXACT ? EXACT_SESSION_FILLER : GREEDY_SESSION_FILLER;
+    }
 
-        // Allocate afternoon session (4 hours)
-        log.debug("Allocating afternoon session presentations");
-        currentTime = addPresentationsToSession(sessionEvents, unallocatedPresentations, currentTime, 240);
+    private long timeBudgetInMillis(SchedulePresentationsRequest options) {
+        Long timeBudget = options.getTimeBudgetInMillis();
+        if (timeBudget == null || timeBudget <= 0) {
+            return DEFAULT_TIME_BUDGET_IN_MILLIS;
+        }
+        return Math.min(timeBudget, MAX_TIME_BUDGET_IN_MILLIS);
+    }
 
-        // Add networking event if there is time left after all presentations & after 4:00 PM
-        addNetworkingEvent(sessionEvents, currentTime);
+    private List<TrackPlan> planTracks(DurationBucketIndex unallocatedPresentations, SessionFiller sessionFiller, ResolvedDayTemplate dayTemplate,
+                                       ScheduleProgress progress) {
+        // Checking the level once, a schedule of thousands of tracks would otherwise check it per track
+        boolean debug = log.isDebugEnabled();
+        int presentations = unallocatedPresentations.size();
+        List<TrackPlan> trackPlans = new ArrayList<>(expectedTrackCount(unallocatedPresentations, dayTemplate));
+        while (!unallocatedPresentations.isEmpty()) {
+            progress.checkpoint(presentations - unallocatedPresentations.size());
+            if (debug) {
+                log.debug("Allocating presentations for track {}", trackPlans.size() + 1);
+            }
+            trackPlans.add(planTrack(unallocatedPresentations, sessionFiller, dayTemplate));
+        }
+        return trackPlans;
+    }
 
-        // Refresh the list to add unallocated presentations
-        presentations.clear();
-        presentations.addAll(unallocatedPresentations);
+    // No schedule has fewer tracks than its minutes need, which is close to what filling sessions ends up with
+    private int expectedTrackCount(DurationBucketIndex unallocatedPresentations, ResolvedDayTemplate dayTemplate) {
+        long trackMinutes = 0;
+        for (int sessionDuration : dayTemplate.getTrackSessionDurations()) {
+            trackMinutes += sessionDuration;
+        }
+        if (trackMinutes == 0) {
+            return 0;
+        }
+        // Every track takes at least one presentation
+        return (int) Math.min(unallocatedPresentations.size(), (unallocatedPresentations.totalMinutes() + trackMinutes - 1) / trackMinutes);
+    }
 
-        return sessionEvents;
+    private TrackPlan planTrack(DurationBucketIndex unallocatedPresentations, SessionFiller sessionFiller, ResolvedDayTemplate dayTemplate) {
+        // Allocate every session of every day in running order, the standard day has a 3 hour and a 4 hour session
+        int[] sessionDurations = dayTemplate.getTrackSessionDurations();
+        int[][] sessions = new int[sessionDurations.length][];
+        for (int session = 0; session < sessions.length; session++) {
+            sessions[session] = fillSession(unallocatedPresentations, sessionFiller, dayTemplate, session);
+        }
+        return new TrackPlan(sessions);
     }
 
-    private LocalTime addPresentationsToSession(List<EventDto> sessionEvents, List<EventDto> unallocatedPresentations, LocalTime startTime, int sessionDurationInMinutes) {
-        // Set full session duration for morning sessions: 180 & for afternoon sessions: 240
-        long remainingTime = sessionDurationInMinutes;
-        LocalTime currentTime = startTime;
+    private int[] fillSession(DurationBucketIndex unallocatedPresentations, SessionFiller sessionFiller, ResolvedDayTemplate dayTemplate,
+                              int session) {
+        int sessionDuration = dayTemplate.getTrackSessionDurations()[session];
+        long unallocatedMinutes = unallocatedPresentations.totalMinutes();
+        long startNanos = System.nanoTime();
+        int[] sessionPresentations = sessionFiller.fill(unallocatedPresentations, sessionDuration);
+        scheduleMetrics.recordSessionFill(dayTemplate.getSessionStarts()[session % dayTemplate.sessionCount()], System.nanoTime() - startNanos);
+        // Minutes to spare while presentations still wait means none of them fit what was left of the session
+        if (!unallocatedPresentations.isEmpty() && unallocatedMinutes - unallocatedPresentations.totalMinutes() < sessionDuration) {
+            scheduleMetrics.recordShortSession();
+        }
+        return sessionPresentations;
+    }
 
-        while (remainingTime > 0 && !unallocatedPresentations.isEmpty()) {
-            final long finalRemainingTime = remainingTime;
-            // Finding the longest duration presentation that fits remaining time in the session
-            EventDto longestPresentation = unallocatedPresentations.stream()
-                    .filter(p -> p.getDurationInMinutes() <= finalRemainingTime)
-                    .max(Comparator.comparingInt(EventDto::getDurationInMinutes))
-                    .orElse(null);
-            // Add the presentation and update the remaining time for the session
-            if (longestPresentation != null) {
-                addPresentation(sessionEvents, unallocatedPresentations, longestPresentation, currentTime);
-                remainingTime -= longestPresentation.getDurationInMinutes();
-                currentTime = currentTime.plusMinutes(longestPresentation.getDurationInMinutes());
+    /**
+     * Lays the planned tracks out one after another. How many events a track has follows from its plan, so every
+     * track's range of the layout is known up front; in parallel the tracks are arranged on the common fork-join
+     * pool, each writing only its own range, which gives the same layout as arranging them one after another.
+     */
+    private ScheduleLayout arrangeTracks(ValidatedPresentations presentations, ResolvedDayTemplate dayTemplate, List<TrackPlan> trackPlans,
+                                         boolean parallel, PackingResult packingResult, boolean recordIdleMinutes) {
+        int[] durations = presentations.getDurationsInMinutes();
+        int[] trackOffsets = new int[trackPlans.size() + 1];
+        for (int track = 0; track < trackPlans.size(); track++) {
+            trackOffsets[track + 1] = trackOffsets[track] + eventCount(trackPlans.get(track), dayTemplate, durations);
+        }
+        ScheduleLayout layout = packingResult == null
+                ? new ScheduleLayout(presentations, dayTemplate, trackOffsets, false, 0, 0)
+                : new ScheduleLayout(presentations, dayTemplate, trackOffsets, true, packingResult.getLowerBound(), packingResult.getElapsedMillis());
+
+        return scheduleMetrics.traceArrange(() -> {
+            if (parallel) {
+                IntStream.range(0, trackPlans.size()).parallel()
+                        .forEach(track -> arrangeTrack(layout, track, trackPlans.get(track), recordIdleMinutes));
             } else {
-                // Look for multiple presentations that may fit to the remaining duration
-                List<EventDto> fittingPresentations = findFittingPresentations(unallocatedPresentations, remainingTime);
-                if (fittingPresentations != null && !fittingPresentations.isEmpty()) {
-                    // Add the presentations and update the remaining time for the session
-                    for (EventDto fittingPresentation : fittingPresentations) {
-                        addPresentation(sessionEvents, unallocatedPresentations, fittingPresentation, currentTime);
-                        remainingTime -= fittingPresentation.getDurationInMinutes();
-                        currentTime = currentTime.plusMinutes(fittingPresentation.getDurationInMinutes());
-                    }
-                } else {
-                    break;
+                for (int track = 0; track < trackPlans.size(); track++) {
+                    arrangeTrack(layout, track, trackPlans.get(track), recordIdleMinutes);
                 }
             }
+            return layout;
+        });
+    }
+
+    private int eventCount(TrackPlan trackPlan, ResolvedDayTemplate dayTemplate, int[] durations) {
+        int[][] sessions = trackPlan.getSessions();
+        int sessionCount = dayTemplate.sessionCount();
+        int lastSession = sessionCount - 1;
+        // Presentations and the fixed events of every day, plus a networking event on days whose last session leaves room for one
+        int eventCount = dayTemplate.getDays() * dayTemplate.fixedEventCount();
+        for (int session = 0; session < sessions.length; session++) {
+            eventCount += sessions[session].length;
+            if (session % sessionCount == lastSession
+                    && dayTemplate.hasNetworkingEvent(sessionEnd(sessions[session], dayTemplate.getSessionStarts()[lastSession], durations))) {
+                eventCount++;
+            }
         }
+        return eventCount;
+    }
 
-        return currentTime;
+    private int sessionEnd(int[] sessionPresentations, int startMinute, int[] durations) {
+        int endMinute = startMinute;
+        for (int presentation : sessionPresentations) {
+            endMinute += durations[presentation];
+        }
+        return endMinute;
+    }
+
+    private void arrangeTrack(ScheduleLayout layout, int track, TrackPlan trackPlan, boolean recordIdleMinutes) {
+        scheduleMetrics.timeArrange(() -> arrangeDays(layout, track, trackPlan.getSessions(), recordIdleMinutes));
     }
 
-    private List<EventDto> findFittingPresentations(List<EventDto> presentations, long remainingTime) {
-        List<EventDto> fittingPresentations = new ArrayList<>();
-        long accumulatedTime = 0;
+    private int arrangeDays(ScheduleLayout layout, int track, int[][] sessions, boolean recordIdleMinutes) {
+        ResolvedDayTemplate dayTemplate = layout.getDayTemplate();
+        int[] slots = dayTemplate.getSlots();
+        int lastSession = dayTemplate.sessionCount() - 1;
+        int event = layout.firstEvent(track);
+
+        for (int day = 0; day < dayTemplate.getDays(); day++) {
+            int dayStart = day * ResolvedDayTemplate.MINUTES_PER_DAY;
+            int firstSession = day * dayTemplate.sessionCount();
+
+            // Walking the day in running order, sessions get their presentations and fixed events their time
+            for (int slot : slots) {
+                if (slot < 0) {
+                    int fixedEvent = -slot - 1;
+                    layout.setEvent(event++, track, slot, dayStart + dayTemplate.getFixedStarts()[fixedEvent], dayTemplate.getFixedDurations()[fixedEvent]);
+                    continue;
+                }
+                int[] sessionPresentations = sessions[firstSession + slot];
+                int sessionStart = dayTemplate.getSessionStarts()[slot];
+                int sessionEnd = sessionStart + dayTemplate.getSessionDurations()[slot];
+                int currentMinute = addPresentationsToSession(layout, track, event, sessionPresentations, dayStart + sessionStart) - dayStart;
+                event += sessionPresentations.length;
+                layout.setSessionUsedMinutes(track, firstSession + slot, currentMinute - sessionStart);
+                if (recordIdleMinutes) {
+                    scheduleMetrics.recordIdleMinutes(sessionStart, sessionEnd - currentMinute);
+                }
 
-        for (EventDto presentation : presentations) {
-            if (accumulatedTime + presentation.getDurationInMinutes() <= remainingTime) {
-                accumulatedTime += presentation.getDurationInMinutes();
-                fittingPresentations.add(presentation);
-                if (accumulatedTime == remainingTime) {
-                    return fittingPresentations;
+                // Add networking event if there is time left after the last session & after its earliest start
+                if (slot == lastSession && dayTemplate.hasNetworkingEvent(currentMinute)) {
+                    layout.setEvent(event++, track, dayTemplate.networkingReference(), dayStart + currentMinute,
+                            dayTemplate.getNetworkingEnd() - currentMinute);
                 }
             }
         }
-
-        return accumulatedTime > 0 ? fittingPresentations : null;
+        return event;
     }
 
-    private void addPresentation(List<EventDto> sessionEvents, List<EventDto> unallocatedPresentations, EventDto presentation, LocalTime currentTime) {
-        presentation.setStartsAt(currentTime.format(timeFormatter));
-        presentation.setEndsAt(currentTime.plusMinutes(presentation.getDurationInMinutes()).format(timeFormatter));
-        sessionEvents.add(presentation);
-        unallocatedPresentations.remove(presentation);
-        log.debug("Added presentation: {} from {} to {}", presentation.getSubject(), presentation.getStartsAt(), presentation.getEndsAt());
-    }
+    private int addPresentationsToSession(ScheduleLayout layout, int track, int firstEvent, int[] sessionPresentations, int startMinute) {
+        int[] durations = layout.getPresentations().getDurationsInMinutes();
+        int currentMinute = startMinute;
+        int event = firstEvent;
 
-    private void addLunchBreak(List<EventDto> sessionEvents) {
-        EventDto lunchBreak = EventDto.builder()
-                .eventType(EventType.LUNCH)
-                .subject("Lunch")
-                .durationInMinutes(60)
-                .startsAt("12:00PM")
-                .endsAt("01:00PM")
-                .build();
+        for (int presentation : sessionPresentations) {
+            layout.setEvent(event++, track, presentation, currentMinute, durations[presentation]);
+            currentMinute += durations[presentation];
+        }
 
-        sessionEvents.add(lunchBreak);
-        log.debug("Added lunch break from 12:00PM to 01:00PM");
+        return currentMinute;
     }
 
-    private void addNetworkingEvent(List<EventDto> sessionEvents, LocalTime currentTime) {
-        if (currentTime.isBefore(LocalTime.of(17, 0)) && currentTime.isAfter(LocalTime.of(16, 0))) {
-            int networkingDuration = (int) LocalTime.of(17, 0).toSecondOfDay() / 60 - (int) currentTime.toSecondOfDay() / 60;
-            if (networkingDuration > 0) {
-                EventDto networkingEvent = EventDto.builder()
-                        .eventType(EventType.NETWORKING)
-                        .subject("Networking Event")
-                        .durationInMinutes(networkingDuration)
-                        .startsAt(currentTime.format(timeFormatter))
-                        .endsAt("05:00PM")
-                        .build();
+    /**
+     * Builds the tracks of a layout and hands them over in track order. In parallel, tracks are built batch by batch
+     * on the common fork-join pool; every track only reads its own range of the layout, so the result is the same as
+     * building them one after another.
+     */
+    private void buildTracks(ScheduleLayout layout, boolean parallel, boolean flat, Consumer<SchedulePresentationsResponse.Track> trackConsumer) {
+        int trackCount = layout.trackCount();
+        if (!parallel) {
+            for (int track = 0; track < trackCount; track++) {
+                trackConsumer.accept(buildTrack(layout, track, flat));
+            }
+            return;
+        }
 
-                sessionEvents.add(networkingEvent);
-                log.debug("Added networking event from {} to 05:00PM", currentTime.format(timeFormatter));
+        // Batches bound how many finished tracks wait for the consumer at once
+        SchedulePresentationsResponse.Track[] batch = new SchedulePresentationsResponse.Track[Math.min(PARALLEL_BATCH_SIZE, trackCount)];
+        for (int from = 0; from < trackCount; from += batch.length) {
+            int offset = from;
+            int count = Math.min(batch.length, trackCount - from);
+            IntStream.range(0, count).parallel()
+                    .forEach(i -> batch[i] = buildTrack(layout, offset + i, flat));
+            for (int i = 0; i < count; i++) {
+                trackConsumer.accept(batch[i]);
+                batch[i] = null;
             }
         }
     }
 
-    private SchedulePresentationsResponse.Track buildTrack(int trackNumber, List<EventDto> sessionEvents) {
-        List<SchedulePresentationsResponse.EventWrapper> events = sessionEvents.stream()
-                .map(event -> SchedulePresentationsResponse.EventWrapper.builder().event(event).build())
-                .collect(Collectors.toList());
-
-        log.debug("Built track {} with {} events", trackNumber, events.size());
-        return SchedulePresentationsResponse.Track.builder()
-                .trackNo(trackNumber)
-                .track(events)
-                .build();
+    private SchedulePresentationsResponse.Track buildTrack(ScheduleLayout layout, int track, boolean flat) {
+        return scheduleMetrics.timeTrackBuild(() -> flat
+                ? scheduleServiceMapper.mapToFlatTrack(layout, track)
+                : scheduleServiceMapper.mapToTrack(layout, track));
     }
 
-    private void validatePresentations(List<SchedulePresentationsRequest.Presentation> presentations) {
-        Set<String> subjects = new HashSet<>();
+    // Package-private so the validation stage can be benchmarked on its own
+    ValidatedPresentations validatePresentations(List<SchedulePresentationsRequest.Presentation> presentations, boolean collectAllErrors) {
+        PresentationValidator validator = new PresentationValidator(presentations.size(), collectAllErrors);
         for (SchedulePresentationsRequest.Presentation presentation : presentations) {
-            if (presentation.getSubject().trim().length() < 2) {
-                throw new CustomValidationException("The subject must contain at least two non-whitespace characters");
-            }
-            if (presentation.getDuration().trim().isEmpty()) {
-                throw new CustomValidationException("Duration cannot be empty");
-            }
-            if (!presentation.getDuration().matches("\\d+|(?i)lightning")) {
-                throw new CustomValidationException("Duration must be a positive integer or 'lightning', 'LIGHTNING', or 'Lightning'");
-            }
-            if (!subjects.add(presentation.getSubject().trim())) {
-                throw new CustomValidationException("Duplicate presentation subject: " + presentation.getSubject().trim());
-            }
-            int duration = "lightning".equalsIgnoreCase(presentation.getDuration().trim()) ? 5 : Integer.parseInt(presentation.getDuration().trim());
-            if (duration <= 0 || duration > 240) {
-                throw new CustomValidationException("Duration must be between 1 and 240 minutes");
+            if (presentation == null) {
+                validator.accept(null, null);
+            } else {
+                validator.accept(presentation.getSubject(), presentation.getDuration());
             }
         }
+        return validator.finish();
     }
 }
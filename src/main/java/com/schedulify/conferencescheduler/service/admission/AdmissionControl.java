@@ -0,0 +1,212 @@
+package com.schedulify.conferencescheduler.service.admission;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.schedulify.conferencescheduler.config.AdmissionProperties;
+import com.schedulify.conferencescheduler.domain.enums.SchedulingStrategy;
+import com.schedulify.conferencescheduler.exception.PayloadTooLargeException;
+import com.schedulify.conferencescheduler.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * Decides which requests get to the scheduler.
+ * <p>
+ * Cheap checks come first and need nothing but the request line and headers: a token bucket per client and the
+ * body size. Once the body is read, the number of presentations is checked and the request has to fit the cost
+ * budget: its presentations times the factor of its strategy, added to the cost of every request being scheduled.
+ * A request that does not fit is turned away right away instead of queueing, unless nothing else is running, so
+ * a single request within the presentation limit always gets through. Every rejection is counted in
+ * {@code schedule.admission.rejections}, tagged with its reason.
+ * <p>
+ * Streamed requests are held to their own, larger size limits; rate limit and cost budget are shared.
+ */
+@Slf4j
+@Component
+public class AdmissionControl {
+
+    public static final String REJECTIONS_COUNTER = "schedule.admission.rejections";
+
+    // Buckets of clients that stay quiet this long are dropped, they start full again anyway
+    private static final Duration IDLE_CLIENT_EXPIRY = Duration.ofMinutes(5);
+    private static final long MAX_TRACKED_CLIENTS = 100_000;
+
+    public enum Reason {
+        RATE_LIMIT("rate-limit"),
+        BODY_SIZE("body-size"),
+        PRESENTATIONS("presentations"),
+        COST("cost");
+
+        private final String tag;
+
+        Reason(String tag) {
+            this.tag = tag;
+        }
+    }
+
+    private final AdmissionProperties properties;
+    private final LongSupplier nanoTime;
+    private final Map<Reason, Counter> rejections = new EnumMap<>(Reason.class);
+    private final Cache<String, TokenBucket> buckets;
+    private long costInFlight;
+
+    @Autowired
+    public AdmissionControl(AdmissionProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, System::nanoTime);
+    }
+
+    AdmissionControl(AdmissionProperties properties, MeterRegistry meterRegistry, LongSupplier nanoTime) {
+        this.properties = properties;
+        this.nanoTime = nanoTime;
+        this.buckets = Caffeine.newBuilder()
+                .expireAfterAccess(IDLE_CLIENT_EXPIRY)
+                .maximumSize(MAX_TRACKED_CLIENTS)
+                .build();
+        for (Reason reason : Reason.values()) {
+            rejections.put(reason, Counter.builder(REJECTIONS_COUNTER)
+                    .description("Requests turned away before scheduling")
+                    .tag("reason", reason.tag)
+                    .register(meterRegistry));
+        }
+        Gauge.builder("schedule.admission.cost", this, AdmissionControl::costInFlight)
+                .description("Estimated cost of the requests being scheduled")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    public long maxBodyBytes() {
+        return properties.getMaxBodySize().toBytes();
+    }
+
+    public long maxStreamedBodyBytes() {
+        return properties.getStream().getMaxBodySize().toBytes();
+    }
+
+    public String clientHeader() {
+        return properties.getRateLimit().getClientHeader();
+    }
+
+    public boolean isRateLimited() {
+        return properties.getRateLimit().getRequestsPerSecond() > 0;
+    }
+
+    /**
+     * Takes a token from the client's bucket; {@code false} when the client is out of tokens.
+     */
+    public boolean tryAcquireRate(String client) {
+        AdmissionProperties.RateLimit rateLimit = properties.getRateLimit();
+        long now = nanoTime.getAsLong();
+        TokenBucket bucket = buckets.get(client,
+                key -> new TokenBucket(Math.max(1, rateLimit.getBurst()), rateLimit.getRequestsPerSecond(), now));
+        if (bucket.tryConsume(now)) {
+            return true;
+        }
+        reject(Reason.RATE_LIMIT);
+        log.debug("Rate limited client {}", client);
+        return false;
+    }
+
+    /**
+     * Seconds until a rate limited client has a token again, for the Retry-After header.
+     */
+    public long retryAfterSeconds() {
+        return (long) Math.ceil(1 / properties.getRateLimit().getRequestsPerSecond());
+    }
+
+    public void checkPresentations(int presentations) {
+        checkPresentations(presentations, properties.getMaxPresentations());
+    }
+
+    public void checkStreamedPresentations(int presentations) {
+        checkPresentations(presentations, properties.getStream().getMaxPresentations());
+    }
+
+    /**
+     * Estimated cost of scheduling the given number of presentations with the strategy, greedy when none is given.
+     */
+    public long cost(int presentations, SchedulingStrategy strategy) {
+        double factor = properties.getCostFactors().getOrDefault(strategy == null ? SchedulingStrategy.GREEDY : strategy, 1.0);
+        return (long) Math.ceil(presentations * factor);
+    }
+
+    /**
+     * Checks the size of a request and admits it into the cost budget; the permit gives the cost back when closed.
+     */
+    public Permit admit(int presentations, SchedulingStrategy strategy) {
+        checkPresentations(presentations);
+        return admit(cost(presentations, strategy));
+    }
+
+    /**
+     * Same as {@link #admit(int, SchedulingStrategy)} with the presentation limit of streamed requests.
+     */
+    public Permit admitStreamed(int presentations, SchedulingStrategy strategy) {
+        checkStreamedPresentations(presentations);
+        return admit(cost(presentations, strategy));
+    }
+
+    public Permit admit(long cost) {
+        if (!isEnabled()) {
+            return new Permit(0);
+        }
+        synchronized (this) {
+            if (costInFlight > 0 && costInFlight + cost > properties.getMaxConcurrentCost()) {
+                reject(Reason.COST);
+                throw new TooManyRequestsException("Too many presentations being scheduled right now; retry later");
+            }
+            costInFlight += cost;
+        }
+        return new Permit(cost);
+    }
+
+    public void reject(Reason reason) {
+        rejections.get(reason).increment();
+    }
+
+    private void checkPresentations(int presentations, int maxPresentations) {
+        if (isEnabled() && presentations > maxPresentations) {
+            reject(Reason.PRESENTATIONS);
+            throw new PayloadTooLargeException("A schedule request can contain at most " + maxPresentations + " presentations");
+        }
+    }
+
+    synchronized long costInFlight() {
+        return costInFlight;
+    }
+
+    private synchronized void release(long cost) {
+        costInFlight -= cost;
+    }
+
+    /**
+     * Share of the cost budget held by one request.
+     */
+    public final class Permit implements AutoCloseable {
+
+        private long cost;
+
+        private Permit(long cost) {
+            this.cost = cost;
+        }
+
+        @Override
+        public void close() {
+            if (cost > 0) {
+                release(cost);
+                cost = 0;
+            }
+        }
+    }
+}
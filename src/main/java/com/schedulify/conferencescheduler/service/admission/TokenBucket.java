@@ -0,0 +1,30 @@
+package com.schedulify.conferencescheduler.service.admission;
+
+/**
+ * Token bucket of one client: holds up to {@code capacity} tokens and gains {@code tokensPerSecond}, a request
+ * takes one token or is turned away. Tokens are added lazily from the time that passed since the last request.
+ */
+class TokenBucket {
+
+    private final double capacity;
+    private final double tokensPerNano;
+    private double tokens;
+    private long lastRefillNanos;
+
+    TokenBucket(double capacity, double tokensPerSecond, long nowNanos) {
+        this.capacity = capacity;
+        this.tokensPerNano = tokensPerSecond / 1_000_000_000.0;
+        this.tokens = capacity;
+        this.lastRefillNanos = nowNanos;
+    }
+
+    synchronized boolean tryConsume(long nowNanos) {
+        tokens = Math.min(capacity, tokens + (nowNanos - lastRefillNanos) * tokensPerNano);
+        lastRefillNanos = nowNanos;
+        if (tokens < 1) {
+            return false;
+        }
+        tokens--;
+        return true;
+    }
+}
@@ -0,0 +1,433 @@
+package com.schedulify.conferencescheduler.service.allocation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Packs all presentations at once, treating the sessions of every track as bins.
+ * <p>
+ * Starts from first-fit decreasing and then repeatedly tries to empty one more track: its presentations go to
+ * a pool that is fed back into the remaining sessions, refilling a session (or a pair of sessions) from its own
+ * and the pool's presentations whenever that makes it fuller. Every such move strictly shrinks the pool, so an
+ * attempt either empties it (one track less) or runs out of moves and is rolled back. The search stops at the
+ * proven lower bound or when the time budget runs out. Progress is reported wherever the budget is checked.
+ */
+public class BinPackingOptimizer {
+
+    public PackingResult optimize(int[] durationsInMinutes, int[] sessionDurationsInMinutes, long timeBudgetMillis) {
+        return optimize(durationsInMinutes, sessionDurationsInMinutes, timeBudgetMillis, ScheduleProgress.NONE);
+    }
+
+    public PackingResult optimize(int[] durationsInMinutes, int[] sessionDurationsInMinutes, long timeBudgetMillis, ScheduleProgress progress) {
+        long startedAt = System.nanoTime();
+        long deadline = startedAt + TimeUnit.MILLISECONDS.toNanos(timeBudgetMillis);
+
+        Packing packing = new Packing(durationsInMinutes, sessionDurationsInMinutes, progress);
+        int lowerBound = packing.lowerBound();
+        packing.firstFitDecreasing();
+
+        boolean improved = true;
+        while (improved && packing.trackCount() > lowerBound && !packing.isPast(deadline)) {
+            improved = packing.eliminateTrack(deadline);
+        }
+
+        return new PackingResult(packing.toTrackPlans(), lowerBound, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+    }
+
+    private static final class Packing {
+
+        // Presentation index of every item
+        private final int[] items;
+        // Item durations, longest first; ties keep the input order
+        private final int[] durations;
+        private final int[] capacities;
+        private final int sessionsPerTrack;
+        private final ScheduleProgress progress;
+
+        private int binCount;
+        private int[] load = new int[16];
+        private int[] binSize = new int[16];
+        private int[][] binItems = new int[16][];
+
+        private Packing(int[] durationsInMinutes, int[] sessionDurationsInMinutes, ScheduleProgress progress) {
+            this.capacities = sessionDurationsInMinutes.clone();
+            this.sessionsPerTrack = capacities.length;
+            this.progress = progress;
+
+            // Counting sort by duration, longest first
+            int[] counts = new int[DurationBucketIndex.MAX_DURATION_IN_MINUTES + 2];
+            for (int duration : durationsInMinutes) {
+                counts[duration]++;
+            }
+            int[] offsets = new int[counts.length];
+            for (int duration = DurationBucketIndex.MAX_DURATION_IN_MINUTES - 1; duration >= 0; duration--) {
+                offsets[duration] = offsets[duration + 1] + counts[duration + 1];
+            }
+            this.items = new int[durationsInMinutes.length];
+            this.durations = new int[durationsInMinutes.length];
+            for (int presentation = 0; presentation < durationsInMinutes.length; presentation++) {
+                int position = offsets[durationsInMinutes[presentation]]++;
+                items[position] = presentation;
+                durations[position] = durationsInMinutes[presentation];
+            }
+        }
+
+        private int trackCount() {
+            return binCount / sessionsPerTrack;
+        }
+
+        /**
+         * Best of the volume bound and, for every size threshold x, the number of presentations longer than x
+         * divided by how many of them a track can hold.
+         */
+        private int lowerBound() {
+            long totalDuration = 0;
+            int trackCapacity = 0;
+            for (int capacity : capacities) {
+                trackCapacity += capacity;
+            }
+            int[] longerThan = new int[DurationBucketIndex.MAX_DURATION_IN_MINUTES + 1];
+            for (int duration : durations) {
+                totalDuration += duration;
+                longerThan[duration - 1]++;
+            }
+            for (int threshold = DurationBucketIndex.MAX_DURATION_IN_MINUTES - 1; threshold >= 0; threshold--) {
+                longerThan[threshold] += longerThan[threshold + 1];
+            }
+
+            int bound = (int) ((totalDuration + trackCapacity - 1) / trackCapacity);
+            for (int threshold = 1; threshold < DurationBucketIndex.MAX_DURATION_IN_MINUTES; threshold++) {
+                if (longerThan[threshold] == 0) {
+                    break;
+                }
+                int perTrack = 0;
+                for (int capacity : capacities) {
+                    perTrack += capacity / (threshold + 1);
+                }
+                if (perTrack > 0) {
+                    bound = Math.max(bound, (longerThan[threshold] + perTrack - 1) / perTrack);
+                }
+            }
+            return bound;
+        }
+
+        private void firstFitDecreasing() {
+            ResidualTree residuals = new ResidualTree();
+            for (int item = 0; item < durations.length; item++) {
+                int bin = residuals.firstFitting(durations[item]);
+                if (bin < 0) {
+                    progress.checkpoint(item);
+                    int firstBin = openTrack();
+                    for (int session = 0; session < sessionsPerTrack; session++) {
+                        residuals.set(firstBin + session, capacities[session]);
+                    }
+                    bin = residuals.firstFitting(durations[item]);
+                    if (bin < 0) {
+                        throw new IllegalArgumentException("Presentation does not fit into any session: " + durations[item] + " minutes");
+                    }
+                }
+                place(bin, item);
+                residuals.set(bin, residual(bin));
+            }
+        }
+
+        /**
+         * Tries to empty tracks, least loaded first, until one attempt succeeds or the deadline passes.
+         */
+        private boolean eliminateTrack(long deadline) {
+            int tracks = trackCount();
+            long[] tracksByLoad = new long[tracks];
+            for (int track = 0; track < tracks; track++) {
+                long trackLoad = 0;
+                for (int session = 0; session < sessionsPerTrack; session++) {
+                    trackLoad += load[track * sessionsPerTrack + session];
+                }
+                tracksByLoad[track] = (trackLoad << 32) | track;
+            }
+            Arrays.sort(tracksByLoad);
+
+            for (long entry : tracksByLoad) {
+                if (isPast(deadline)) {
+                    return false;
+                }
+                Snapshot snapshot = new Snapshot(this);
+                if (tryEmptyTrack((int) entry, deadline)) {
+                    return true;
+                }
+                snapshot.restore(this);
+            }
+            return false;
+        }
+
+        private boolean tryEmptyTrack(int track, long deadline) {
+            List<Integer> pool = new ArrayList<>();
+            int firstBin = track * sessionsPerTrack;
+            int lastFirstBin = binCount - sessionsPerTrack;
+            for (int session = 0; session < sessionsPerTrack; session++) {
+                int bin = firstBin + session;
+                for (int i = 0; i < binSize[bin]; i++) {
+                    pool.add(binItems[bin][i]);
+                }
+                // Move the last track into the emptied slot
+                if (bin != lastFirstBin + session) {
+                    load[bin] = load[lastFirstBin + session];
+                    binSize[bin] = binSize[lastFirstBin + session];
+                    binItems[bin] = binItems[lastFirstBin + session];
+                }
+                load[lastFirstBin + session] = 0;
+                binSize[lastFirstBin + session] = 0;
+                binItems[lastFirstBin + session] = null;
+            }
+            binCount -= sessionsPerTrack;
+
+            while (true) {
+                if (isPast(deadline)) {
+                    return false;
+                }
+                pool.sort(null);
+                insertPool(pool);
+                if (pool.isEmpty()) {
+                    return true;
+                }
+                if (!refillFromPool(pool, deadline)) {
+                    return false;
+                }
+            }
+        }
+
+        /**
+         * Best fit for every pool presentation, longest first.
+         */
+        private void insertPool(List<Integer> pool) {
+            for (int i = 0; i < pool.size(); ) {
+                int item = pool.get(i);
+                int bestBin = -1;
+                int bestResidual = Integer.MAX_VALUE;
+                for (int bin = 0; bin < binCount && bestResidual > durations[item]; bin++) {
+                    int residual = residual(bin);
+                    if (residual >= durations[item] && residual < bestResidual) {
+                        bestBin = bin;
+                        bestResidual = residual;
+                    }
+                }
+                if (bestBin >= 0) {
+                    place(bestBin, item);
+                    pool.remove(i);
+                } else {
+                    i++;
+                }
+            }
+        }
+
+        /**
+         * Applies the first move that makes sessions fuller by exchanging presentations with the pool: a session is
+         * refilled with the fullest subset of its own and the pool's presentations, or, if no single session can
+         * improve, two sessions are refilled together from their combined presentations and the pool.
+         */
+        private boolean refillFromPool(List<Integer> pool, long deadline) {
+            for (int bin = 0; bin < binCount; bin++) {
+                if ((bin & 63) == 0 && isPast(deadline)) {
+                    return false;
+                }
+                if (residual(bin) > 0 && refill(new int[]{bin}, pool)) {
+                    return true;
+                }
+            }
+            for (int first = 0; first < binCount; first++) {
+                if (isPast(deadline)) {
+                    return false;
+                }
+                for (int second = first + 1; second < binCount; second++) {
+                    if (residual(first) == 0 && residual(second) == 0) {
+                        continue;
+                    }
+                    // A refill solves a subset sum, far more than reading the clock, so the budget is checked before each
+                    if (isPast(deadline)) {
+                        return false;
+                    }
+                    if (refill(new int[]{first, second}, pool)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Refills the given sessions, largest first, from their presentations plus the pool and keeps the result
+         * only if the sessions end up fuller than before.
+         */
+        private boolean refill(int[] bins, List<Integer> pool) {
+            int candidateCount = pool.size();
+            int currentLoad = 0;
+            for (int bin : bins) {
+                candidateCount += binSize[bin];
+                currentLoad += load[bin];
+            }
+            int[] candidates = new int[candidateCount];
+            int position = 0;
+            for (int bin : bins) {
+                for (int i = 0; i < binSize[bin]; i++) {
+                    candidates[position++] = binItems[bin][i];
+                }
+            }
+            for (int item : pool) {
+                candidates[position++] = item;
+            }
+
+            if (bins.length == 2 && capacity(bins[1]) > capacity(bins[0])) {
+                bins = new int[]{bins[1], bins[0]};
+            }
+            boolean[] taken = new boolean[candidateCount];
+            int[][] contents = new int[bins.length][];
+            int newLoad = 0;
+            for (int b = 0; b < bins.length; b++) {
+                boolean[] chosen = fullestSubset(candidates, taken, capacity(bins[b]));
+                int[] content = new int[candidateCount];
+                int size = 0;
+                for (int i = 0; i < candidateCount; i++) {
+                    if (chosen[i]) {
+                        taken[i] = true;
+                        content[size++] = candidates[i];
+                        newLoad += durations[candidates[i]];
+                    }
+                }
+                contents[b] = Arrays.copyOf(content, size);
+            }
+            if (newLoad <= currentLoad) {
+                return false;
+            }
+
+            for (int b = 0; b < bins.length; b++) {
+                binItems[bins[b]] = contents[b].length == 0 ? null : contents[b];
+                binSize[bins[b]] = contents[b].length;
+                load[bins[b]] = 0;
+                for (int item : contents[b]) {
+                    load[bins[b]] += durations[item];
+                }
+            }
+            pool.clear();
+            for (int i = 0; i < candidateCount; i++) {
+                if (!taken[i]) {
+                    pool.add(candidates[i]);
+                }
+            }
+            return true;
+        }
+
+        /**
+         * 0/1 subset-sum over the candidates not yet taken; marks the subset with the largest total not exceeding the capacity.
+         */
+        private boolean[] fullestSubset(int[] candidates, boolean[] excluded, int capacity) {
+            int[] reachedBy = new int[capacity + 1];
+            Arrays.fill(reachedBy, -1);
+            boolean[] reachable = new boolean[capacity + 1];
+            reachable[0] = true;
+            int best = 0;
+            for (int i = 0; i < candidates.length && best < capacity; i++) {
+                if (excluded[i]) {
+                    continue;
+                }
+                int duration = durations[candidates[i]];
+                for (int sum = capacity; sum >= duration; sum--) {
+                    if (!reachable[sum] && reachable[sum - duration]) {
+                        reachable[sum] = true;
+                        reachedBy[sum] = i;
+                        best = Math.max(best, sum);
+                    }
+                }
+            }
+            boolean[] chosen = new boolean[candidates.length];
+            for (int sum = best; sum > 0; sum -= durations[candidates[reachedBy[sum]]]) {
+                chosen[reachedBy[sum]] = true;
+            }
+            return chosen;
+        }
+
+        // Every presentation is placed once first-fit decreasing is done, the search only moves them around
+        private boolean isPast(long deadline) {
+            progress.checkpoint(durations.length);
+            return System.nanoTime() >= deadline;
+        }
+
+        private int openTrack() {
+            int firstBin = binCount;
+            binCount += sessionsPerTrack;
+            if (binCount > load.length) {
+                int length = Math.max(binCount, load.length * 2);
+                load = Arrays.copyOf(load, length);
+                binSize = Arrays.copyOf(binSize, length);
+                binItems = Arrays.copyOf(binItems, length);
+            }
+            return firstBin;
+        }
+
+        private int capacity(int bin) {
+            return capacities[bin % sessionsPerTrack];
+        }
+
+        private int residual(int bin) {
+            return capacity(bin) - load[bin];
+        }
+
+        private void place(int bin, int item) {
+            int[] content = binItems[bin];
+            if (content == null) {
+                content = new int[4];
+            } else if (binSize[bin] == content.length) {
+                content = Arrays.copyOf(content, content.length * 2);
+            }
+            content[binSize[bin]++] = item;
+            binItems[bin] = content;
+            load[bin] += durations[item];
+        }
+
+        private List<TrackPlan> toTrackPlans() {
+            List<TrackPlan> plans = new ArrayList<>(trackCount());
+            for (int track = 0; track < trackCount(); track++) {
+                int[][] sessions = new int[sessionsPerTrack][];
+                for (int session = 0; session < sessionsPerTrack; session++) {
+                    int bin = track * sessionsPerTrack + session;
+                    int[] content = binSize[bin] == 0 ? new int[0] : Arrays.copyOf(binItems[bin], binSize[bin]);
+                    // Item order is duration order, so sessions run longest presentation first
+                    Arrays.sort(content);
+                    for (int i = 0; i < content.length; i++) {
+                        content[i] = items[content[i]];
+                    }
+                    sessions[session] = content;
+                }
+                plans.add(new TrackPlan(sessions));
+            }
+            return plans;
+        }
+    }
+
+    private static final class Snapshot {
+
+        private final int binCount;
+        private final int[] load;
+        private final int[] binSize;
+        private final int[][] binItems;
+
+        private Snapshot(Packing packing) {
+            this.binCount = packing.binCount;
+            this.load = packing.load.clone();
+            this.binSize = packing.binSize.clone();
+            this.binItems = new int[packing.binItems.length][];
+            for (int bin = 0; bin < binCount; bin++) {
+                if (packing.binItems[bin] != null) {
+                    binItems[bin] = packing.binItems[bin].clone();
+                }
+            }
+        }
+
+        private void restore(Packing packing) {
+            packing.binCount = binCount;
+            packing.load = load;
+            packing.binSize = binSize;
+            packing.binItems = binItems;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.schedulify.conferencescheduler.service.allocation;
+
+/**
+ * Unallocated presentations bucketed by duration (counting sort over 1..240 minutes).
+ * <p>
+ * Presentations are referred to by their index in the validated input. The index keeps them in one array grouped
+ * by duration, in input order within a bucket, and a bitmap of non-empty buckets answers "longest presentation that
+ * fits into the remaining minutes" with a handful of word scans instead of a walk over every unallocated
+ * presentation. Polling from a bucket is O(1).
+ */
+public class DurationBucketIndex {
+
+    public static final int MAX_DURATION_IN_MINUTES = 240;
+
+    private static final int WORD_COUNT = (MAX_DURATION_IN_MINUTES >>> 6) + 1;
+
+    // Presentation indexes grouped by duration, bucket d spans [next[d], end[d])
+    private final int[] presentations;
+    private final int[] next = new int[MAX_DURATION_IN_MINUTES + 1];
+    private final int[] end = new int[MAX_DURATION_IN_MINUTES + 1];
+    private final long[] nonEmptyBuckets = new long[WORD_COUNT];
+    private int size;
+    private long totalMinutes;
+
+    public DurationBucketIndex(int[] durationsInMinutes) {
+        for (int duration : durationsInMinutes) {
+            if (duration <= 0 || duration > MAX_DURATION_IN_MINUTES) {
+                throw new IllegalArgumentException("Duration must be between 1 and " + MAX_DURATION_IN_MINUTES + " minutes: " + duration);
+            }
+            end[duration]++;
+            totalMinutes += duration;
+        }
+        for (int duration = 1; duration <= MAX_DURATION_IN_MINUTES; duration++) {
+            next[duration] = end[duration - 1];
+            end[duration] += end[duration - 1];
+            if (end[duration] > next[duration]) {
+                nonEmptyBuckets[duration >>> 6] |= 1L << duration;
+            }
+        }
+
+        presentations = new int[durationsInMinutes.length];
+        int[] position = next.clone();
+        for (int presentation = 0; presentation < durationsInMinutes.length; presentation++) {
+            presentations[position[durationsInMinutes[presentation]]++] = presentation;
+        }
+        size = durationsInMinutes.length;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Sum of the durations of the presentations still in the index.
+     */
+    public long totalMinutes() {
+        return totalMinutes;
+    }
+
+    /**
+     * Returns the longest duration that has at least one presentation and does not exceed
+     * {@code maxMinutes}, or {@code -1} if nothing fits.
+     */
+    public int longestFittingDuration(long maxMinutes) {
+        if (maxMinutes <= 0) {
+            return -1;
+        }
+        int limit = (int) Math.min(maxMinutes, MAX_DURATION_IN_MINUTES);
+        int word = limit >>> 6;
+        long bits = nonEmptyBuckets[word] & (-1L >>> (63 - (limit & 63)));
+        while (true) {
+            if (bits != 0) {
+                return (word << 6) + 63 - Long.numberOfLeadingZeros(bits);
+            }
+            if (--word < 0) {
+                return -1;
+            }
+            bits = nonEmptyBuckets[word];
+        }
+    }
+
+    /**
+     * Removes the first presentation with exactly the given duration and returns its index, or {@code -1}.
+     */
+    public int poll(int duration) {
+        if (duration <= 0 || duration > MAX_DURATION_IN_MINUTES || next[duration] == end[duration]) {
+            return -1;
+        }
+        int presentation = presentations[next[duration]++];
+        if (next[duration] == end[duration]) {
+            nonEmptyBuckets[duration >>> 6] &= ~(1L << duration);
+        }
+        size--;
+        totalMinutes -= duration;
+        return presentation;
+    }
+
+    /**
+     * Number of presentations waiting in the bucket of the given duration.
+     */
+    public int count(int duration) {
+        if (duration <= 0 || duration > MAX_DURATION_IN_MINUTES) {
+            return 0;
+        }
+        return end[duration] - next[duration];
+    }
+}
@@ -0,0 +1,113 @@
+package com.schedulify.conferencescheduler.service.allocation;
+
+/**
+ * Fills a session with the subset of presentations whose total duration comes closest to the session length.
+ * <p>
+ * Runs a bounded subset-sum over the reachable minutes 0..session length as a bitset: every available
+ * presentation shifts the reachable set by its duration. Durations are bucketed (1..240) so the work per
+ * session depends on the number of distinct durations, not on the number of presentations.
+ * Longer presentations are considered first, so among equally full sessions the one using longer
+ * presentations is preferred, leaving the short ones to plug gaps in later sessions.
+ */
+public class ExactSessionFiller implements SessionFiller {
+
+    @Override
+    public int[] fill(DurationBucketIndex unallocatedPresentations, int sessionDurationInMinutes) {
+        if (sessionDurationInMinutes <= 0 || unallocatedPresentations.isEmpty()) {
+            return new int[0];
+        }
+        int capacity = sessionDurationInMinutes;
+        int words = (capacity >>> 6) + 1;
+        long lastWordMask = -1L >>> (63 - (capacity & 63));
+
+        // Distinct durations that fit, longest first, with the reachable sums after each of them
+        int[] durations = new int[DurationBucketIndex.MAX_DURATION_IN_MINUTES];
+        int[] counts = new int[DurationBucketIndex.MAX_DURATION_IN_MINUTES];
+        int groups = 0;
+        for (int duration = unallocatedPresentations.longestFittingDuration(capacity);
+             duration > 0;
+             duration = unallocatedPresentations.longestFittingDuration(duration - 1)) {
+            durations[groups] = duration;
+            counts[groups] = Math.min(unallocatedPresentations.count(duration), capacity / duration);
+            groups++;
+        }
+
+        long[] reachable = new long[(groups + 1) * words];
+        reachable[0] = 1L;
+        int processedGroups = 0;
+        while (processedGroups < groups && !isSet(reachable, processedGroups * words, capacity)) {
+            int from = processedGroups * words;
+            int to = from + words;
+            System.arraycopy(reachable, from, reachable, to, words);
+            for (int copy = 0; copy < counts[processedGroups]; copy++) {
+                if (!shiftOr(reachable, to, words, durations[processedGroups], lastWordMask)) {
+                    break;
+                }
+            }
+            processedGroups++;
+        }
+
+        // Walk back from the fullest reachable session and decide how many presentations of each duration it uses
+        int target = highestSetBit(reachable, processedGroups * words, words);
+        int[] taken = new int[groups];
+        int takenCount = 0;
+        for (int group = processedGroups - 1; group >= 0 && target > 0; group--) {
+            int previous = group * words;
+            int copies = 0;
+            while (!isSet(reachable, previous, target - copies * durations[group])) {
+                copies++;
+            }
+            taken[group] = copies;
+            takenCount += copies;
+            target -= copies * durations[group];
+        }
+
+        int[] sessionPresentations = new int[takenCount];
+        int position = 0;
+        for (int group = 0; group < processedGroups; group++) {
+            for (int copy = 0; copy < taken[group]; copy++) {
+                sessionPresentations[position++] = unallocatedPresentations.poll(durations[group]);
+            }
+        }
+        return sessionPresentations;
+    }
+
+    /**
+     * {@code bits |= bits << shift} over {@code words} words starting at {@code offset}; returns whether anything changed.
+     */
+    private static boolean shiftOr(long[] bits, int offset, int words, int shift, long lastWordMask) {
+        int wordShift = shift >>> 6;
+        int bitShift = shift & 63;
+        boolean changed = false;
+        for (int i = words - 1; i >= wordShift; i--) {
+            int source = offset + i - wordShift;
+            long shifted = bits[source] << bitShift;
+            if (bitShift != 0 && i - wordShift > 0) {
+                shifted |= bits[source - 1] >>> (64 - bitShift);
+            }
+            if (i == words - 1) {
+                shifted &= lastWordMask;
+            }
+            long updated = bits[offset + i] | shifted;
+            if (updated != bits[offset + i]) {
+                bits[offset + i] = updated;
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    private static boolean isSet(long[] bits, int offset, int bit) {
+        return (bits[offset + (bit >>> 6)] & (1L << bit)) != 0;
+    }
+
+    private static int highestSetBit(long[] bits, int offset, int words) {
+        for (int i = words - 1; i >= 0; i--) {
+            long word = bits[offset + i];
+            if (word != 0) {
+                return (i << 6) + 63 - Long.numberOfLeadingZeros(word);
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,31 @@
+package com.schedulify.conferencescheduler.service.allocation;
+
+import java.util.Arrays;
+
+/**
+ * Fills a session by repeatedly taking the longest presentation that still fits.
+ */
+public class GreedySessionFiller implements SessionFiller {
+
+    @Override
+    public int[] fill(DurationBucketIndex unallocatedPresentations, int sessionDurationInMinutes) {
+        int[] sessionPresentations = new int[8];
+        int size = 0;
+        long remainingTime = sessionDurationInMinutes;
+
+        // Taking the longest duration presentation that fits remaining time in the session, until none does
+        int longestDuration = unallocatedPresentations.longestFittingDuration(remainingTime);
+        while (longestDuration > 0) {
+            sessionPresentations = ensureCapacity(sessionPresentations, size + 1);
+            sessionPresentations[size++] = unallocatedPresentations.poll(longestDuration);
+            remainingTime -= longestDuration;
+            longestDuration = unallocatedPresentations.longestFittingDuration(remainingTime);
+        }
+
+        return Arrays.copyOf(sessionPresentations, size);
+    }
+
+    private static int[] ensureCapacity(int[] presentations, int capacity) {
+        return capacity <= presentations.length ? presentations : Arrays.copyOf(presentations, presentations.length * 2);
+    }
+}
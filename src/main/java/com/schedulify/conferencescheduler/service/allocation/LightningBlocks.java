@@ -0,0 +1,139 @@
+package com.schedulify.conferencescheduler.service.allocation;
+
+import com.schedulify.conferencescheduler.domain.dto.ValidatedPresentations;
+import com.schedulify.conferencescheduler.validation.PresentationValidator;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Groups the lightning talks of planned sessions into blocks, each scheduled as one event.
+ * <p>
+ * Talks are planned one by one like any other presentation, so they still close every gap a single talk fits and a
+ * schedule with blocks never needs more tracks than one without. Once the tracks are planned, the talks of every
+ * session are grouped in planned order into blocks of at most the block length, the last block of a session holding
+ * whatever talks are left; blocks run after the longer presentations of their session. Hundreds of lightning talks
+ * become a few dozen events for the layout and the response. Every block is named {@link #BLOCK_SUBJECT} and keeps
+ * the subjects of its talks as they are, nothing is joined into a new string unless an encoding without a list of
+ * talks asks for it.
+ */
+public final class LightningBlocks {
+
+    public static final String BLOCK_SUBJECT = "Lightning Talks";
+
+    private static final int TALK_MINUTES = PresentationValidator.LIGHTNING_DURATION_IN_MINUTES;
+
+    private LightningBlocks() {
+    }
+
+    /**
+     * Presentations and track plans with the lightning talks of every session grouped into blocks of at most
+     * {@code blockMinutes}, or {@code null} when there is nothing to group.
+     */
+    public static Grouped group(ValidatedPresentations presentations, List<TrackPlan> trackPlans, int blockMinutes) {
+        int talksPerBlock = blockMinutes / TALK_MINUTES;
+        int[] newIndex = new int[presentations.size()];
+        int kept = 0;
+        for (int presentation = 0; presentation < presentations.size(); presentation++) {
+            newIndex[presentation] = presentations.isLightning(presentation) ? -1 : kept++;
+        }
+        if (kept == presentations.size() || talksPerBlock < 2) {
+            return null;
+        }
+
+        // Counting the blocks of every session first, which tells how many presentations there are
+        int blockCount = 0;
+        for (TrackPlan trackPlan : trackPlans) {
+            for (int[] sessionPresentations : trackPlan.getSessions()) {
+                blockCount += (talkCount(sessionPresentations, newIndex) + talksPerBlock - 1) / talksPerBlock;
+            }
+        }
+
+        int size = kept + blockCount;
+        String[] subjects = new String[size];
+        int[] durations = new int[size];
+        boolean[] lightning = new boolean[size];
+        String[][] talks = new String[size][];
+        for (int presentation = 0; presentation < presentations.size(); presentation++) {
+            if (newIndex[presentation] >= 0) {
+                subjects[newIndex[presentation]] = presentations.getSubjects()[presentation];
+                durations[newIndex[presentation]] = presentations.getDurationsInMinutes()[presentation];
+            }
+        }
+
+        List<TrackPlan> groupedPlans = new ArrayList<>(trackPlans.size());
+        int block = kept;
+        for (TrackPlan trackPlan : trackPlans) {
+            int[][] sessions = trackPlan.getSessions();
+            int[][] groupedSessions = new int[sessions.length][];
+            for (int session = 0; session < sessions.length; session++) {
+                int talkCount = talkCount(sessions[session], newIndex);
+                int[] sessionPresentations = new int[sessions[session].length - talkCount + (talkCount + talksPerBlock - 1) / talksPerBlock];
+                int position = 0;
+                int talk = 0;
+                for (int presentation : sessions[session]) {
+                    if (newIndex[presentation] >= 0) {
+                        sessionPresentations[position++] = newIndex[presentation];
+                        continue;
+                    }
+                    if (talk % talksPerBlock == 0) {
+                        // Opening the next block of the session
+                        talks[block] = new String[Math.min(talksPerBlock, talkCount - talk)];
+                        subjects[block] = BLOCK_SUBJECT;
+                        durations[block] = talks[block].length * TALK_MINUTES;
+                        lightning[block] = true;
+                        sessionPresentations[position++] = block++;
+                    }
+                    talks[block - 1][talk++ % talksPerBlock] = presentations.getSubjects()[presentation];
+                }
+                groupedSessions[session] = longestFirst(sessionPresentations, durations);
+            }
+            groupedPlans.add(new TrackPlan(groupedSessions));
+        }
+        return new Grouped(new ValidatedPresentations(subjects, durations, lightning, talks), groupedPlans);
+    }
+
+    /**
+     * Subject of a block with the subjects of its talks, for encodings that have no list of talks.
+     */
+    public static String describe(String[] talks) {
+        return BLOCK_SUBJECT + ": " + String.join(", ", talks);
+    }
+
+    private static int talkCount(int[] sessionPresentations, int[] newIndex) {
+        int talkCount = 0;
+        for (int presentation : sessionPresentations) {
+            if (newIndex[presentation] < 0) {
+                talkCount++;
+            }
+        }
+        return talkCount;
+    }
+
+    // Sessions hold a handful of presentations, a stable insertion sort keeps the planned order among equal lengths
+    private static int[] longestFirst(int[] sessionPresentations, int[] durations) {
+        for (int i = 1; i < sessionPresentations.length; i++) {
+            int presentation = sessionPresentations[i];
+            int j = i - 1;
+            while (j >= 0 && durations[sessionPresentations[j]] < durations[presentation]) {
+                sessionPresentations[j + 1] = sessionPresentations[j];
+                j--;
+            }
+            sessionPresentations[j + 1] = presentation;
+        }
+        return sessionPresentations;
+    }
+
+    /**
+     * Presentations with the talks of every session grouped into blocks and the track plans over them.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Grouped {
+
+        private final ValidatedPresentations presentations;
+        private final List<TrackPlan> trackPlans;
+    }
+}
@@ -0,0 +1,27 @@
+package com.schedulify.conferencescheduler.service.allocation;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Outcome of a whole-schedule optimization run.
+ */
+@Getter
+@AllArgsConstructor
+public class PackingResult {
+
+    private final List<TrackPlan> tracks;
+
+    /**
+     * No schedule can use fewer tracks than this.
+     */
+    private final int lowerBound;
+
+    private final long elapsedMillis;
+
+    public boolean isProvenOptimal() {
+        return tracks.size() == lowerBound;
+    }
+}
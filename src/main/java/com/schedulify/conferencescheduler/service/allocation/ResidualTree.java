@@ -0,0 +1,50 @@
+package com.schedulify.conferencescheduler.service.allocation;
+
+/**
+ * Max segment tree over the residual minutes of every session, answering "first session with at least d minutes left"
+ * in O(log n). Sessions are numbered from 0 and the tree grows as higher numbers are set.
+ */
+public class ResidualTree {
+
+    private int leaves = 16;
+    private int[] tree = new int[2 * leaves];
+
+    /**
+     * Lowest session with at least {@code duration} minutes left, or {@code -1}.
+     */
+    public int firstFitting(int duration) {
+        if (tree[1] < duration) {
+            return -1;
+        }
+        int node = 1;
+        while (node < leaves) {
+            node = tree[2 * node] >= duration ? 2 * node : 2 * node + 1;
+        }
+        return node - leaves;
+    }
+
+    public void set(int session, int residual) {
+        if (session >= leaves) {
+            grow(session + 1);
+        }
+        int node = session + leaves;
+        tree[node] = residual;
+        for (node >>= 1; node > 0; node >>= 1) {
+            tree[node] = Math.max(tree[2 * node], tree[2 * node + 1]);
+        }
+    }
+
+    private void grow(int minimumLeaves) {
+        int newLeaves = leaves;
+        while (newLeaves < minimumLeaves) {
+            newLeaves <<= 1;
+        }
+        int[] newTree = new int[2 * newLeaves];
+        System.arraycopy(tree, leaves, newTree, newLeaves, leaves);
+        for (int node = newLeaves - 1; node > 0; node--) {
+            newTree[node] = Math.max(newTree[2 * node], newTree[2 * node + 1]);
+        }
+        leaves = newLeaves;
+        tree = newTree;
+    }
+}
@@ -0,0 +1,18 @@
+package com.schedulify.conferencescheduler.service.allocation;
+
+import java.util.concurrent.CancellationException;
+
+/**
+ * Lets the caller of a scheduling run follow it while tracks are planned or packed, and stop it.
+ * <p>
+ * Planning checks in once per track and the optimizer wherever it checks its time budget, with the number of
+ * presentations placed so far. Throwing {@link CancellationException} from a checkpoint stops the run; nothing of
+ * it is kept.
+ */
+@FunctionalInterface
+public interface ScheduleProgress {
+
+    ScheduleProgress NONE = presentationsPlaced -> { };
+
+    void checkpoint(int presentationsPlaced);
+}
@@ -0,0 +1,12 @@
+package com.schedulify.conferencescheduler.service.allocation;
+
+/**
+ * Picks the presentations of a single session.
+ */
+public interface SessionFiller {
+
+    /**
+     * Removes presentations that together fit into the session from the index and returns their indexes in running order.
+     */
+    int[] fill(DurationBucketIndex unallocatedPresentations, int sessionDurationInMinutes);
+}
@@ -0,0 +1,14 @@
+package com.schedulify.conferencescheduler.service.allocation;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Presentation indexes assigned to the sessions of one track, each session in running order.
+ */
+@Getter
+@AllArgsConstructor
+public class TrackPlan {
+
+    private final int[][] sessions;
+}
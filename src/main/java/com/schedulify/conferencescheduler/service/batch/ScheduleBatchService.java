@@ -0,0 +1,78 @@
+package com.schedulify.conferencescheduler.service.batch;
+
+import com.schedulify.conferencescheduler.exception.CustomValidationException;
+import com.schedulify.conferencescheduler.service.ScheduleService;
+import com.schedulify.conferencescheduler.web.model.v1.request.SchedulePresentationsRequest;
+import com.schedulify.conferencescheduler.web.model.v1.response.BaseResponse;
+import com.schedulify.conferencescheduler.web.model.v1.response.ScheduleBatchResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Schedules many independent conferences in one call, in parallel on the common fork-join pool.
+ * <p>
+ * Every request is scheduled on its own, so a failure only replaces that request's schedule with its error
+ * and the rest still go through. Results are returned in the order of the requests.
+ */
+@Slf4j
+@Service
+public class ScheduleBatchService {
+
+    private final ScheduleService scheduleService;
+    private final int maxBatchSize;
+
+    public ScheduleBatchService(ScheduleService scheduleService, @Value("${schedule.batch.max-size:1000}") int maxBatchSize) {
+        this.scheduleService = scheduleService;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    public ScheduleBatchResponse schedule(List<SchedulePresentationsRequest> requests) {
+        if (requests.size() > maxBatchSize) {
+            throw new CustomValidationException("A batch can contain at most " + maxBatchSize + " requests");
+        }
+        log.info("Received schedule batch with {} requests", requests.size());
+
+        BaseResponse<?>[] results = new BaseResponse<?>[requests.size()];
+        IntStream.range(0, requests.size()).parallel()
+                .forEach(i -> results[i] = scheduleOne(i, requests.get(i)));
+
+        int failed = (int) Arrays.stream(results).filter(result -> "Error".equals(result.getStatus())).count();
+        return ScheduleBatchResponse.builder()
+                .status("Success")
+                .message("Scheduled " + (results.length - failed) + " of " + results.length + " requests")
+                .timestamp(LocalDateTime.now())
+                .data(Arrays.asList(results))
+                .succeeded(results.length - failed)
+                .failed(failed)
+                .build();
+    }
+
+    private BaseResponse<?> scheduleOne(int index, SchedulePresentationsRequest request) {
+        try {
+            if (request == null || request.getPresentations() == null) {
+                throw new CustomValidationException("Presentations cannot be null");
+            }
+            return scheduleService.schedule(request);
+        } catch (CustomValidationException e) {
+            return error(e.getMessage(), e.getErrors());
+        } catch (RuntimeException e) {
+            log.error("Scheduling request {} of the batch failed", index, e);
+            return error("Scheduling failed: " + e.getMessage(), null);
+        }
+    }
+
+    private BaseResponse<?> error(String message, List<String> errors) {
+        return BaseResponse.builder()
+                .status("Error")
+                .message(message)
+                .timestamp(LocalDateTime.now())
+                .data(errors)
+                .build();
+    }
+}
@@ -0,0 +1,127 @@
+package com.schedulify.conferencescheduler.service.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.schedulify.conferencescheduler.domain.dto.ResolvedDayTemplate;
+import com.schedulify.conferencescheduler.domain.dto.ScheduleLayout;
+import com.schedulify.conferencescheduler.domain.dto.ValidatedPresentations;
+import com.schedulify.conferencescheduler.service.ScheduleService;
+import com.schedulify.conferencescheduler.service.allocation.ScheduleProgress;
+import com.schedulify.conferencescheduler.service.allocation.TrackPlan;
+import com.schedulify.conferencescheduler.web.model.v1.request.SchedulePresentationsRequest;
+import com.schedulify.conferencescheduler.web.model.v1.response.SchedulePresentationsResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Serves repeated schedule requests from a bounded cache in front of the scheduling engine.
+ * <p>
+ * Requests with the same presentations, in any order, and the same options share one entry; a hit skips
+ * validation and scheduling, only the tracks are built again from the cached layout. For reordered presentations
+ * the cached schedule is the one of the first request, so presentations of equal duration may be listed in a
+ * different order than a fresh schedule would list them. Entries are primitive {@link ScheduleLayout}s rather than
+ * responses, so a cached schedule holds a few ints per event instead of event objects and formatted times.
+ * Streamed schedules are served from the cache when it has them, but a miss hands every track over as soon as it
+ * is planned and leaves nothing in the cache. The cache is weighed by presentations rather than entries, since a
+ * single large schedule can outweigh thousands of small ones.
+ */
+@Slf4j
+public class CachingScheduleService implements ScheduleService {
+
+    public static final String CACHE_NAME = "schedule.results";
+
+    private final ScheduleService scheduleService;
+    private final Cache<ScheduleCacheKey, ScheduleLayout> cache;
+
+    public CachingScheduleService(ScheduleService scheduleService, long maxPresentations, Duration timeToLive, MeterRegistry meterRegistry) {
+        this.scheduleService = scheduleService;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxPresentations)
+                .weigher((ScheduleCacheKey key, ScheduleLayout layout) -> Math.max(1, key.getSize()))
+                .expireAfterWrite(timeToLive)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    @Override
+    public SchedulePresentationsResponse schedule(SchedulePresentationsRequest request) {
+        return collect(layout(request), request);
+    }
+
+    @Override
+    public SchedulePresentationsResponse schedule(ValidatedPresentations presentations, SchedulePresentationsRequest options) {
+        return collect(layout(presentations, options), options);
+    }
+
+    @Override
+    public SchedulePresentationsResponse schedule(ValidatedPresentations presentations, SchedulePresentationsRequest options,
+                                                  Consumer<SchedulePresentationsResponse.Track> trackConsumer) {
+        // A miss streams every track as soon as it is planned rather than waiting for a whole layout to cache
+        ScheduleLayout cachedLayout = cache.getIfPresent(ScheduleCacheKey.of(presentations, options));
+        if (cachedLayout == null) {
+            return scheduleService.schedule(presentations, options, trackConsumer);
+        }
+        log.debug("Serving streamed schedule of {} presentations from cache", presentations.size());
+        return scheduleService.render(cachedLayout.servedFromCache(), options, trackConsumer);
+    }
+
+    @Override
+    public ScheduleLayout layout(SchedulePresentationsRequest request) {
+        return cached(ScheduleCacheKey.of(request), () -> scheduleService.layout(request));
+    }
+
+    @Override
+    public ScheduleLayout layout(ValidatedPresentations presentations, SchedulePresentationsRequest options) {
+        return cached(ScheduleCacheKey.of(presentations, options), () -> scheduleService.layout(presentations, options));
+    }
+
+    @Override
+    public ScheduleLayout layout(ValidatedPresentations presentations, SchedulePresentationsRequest options, ScheduleProgress progress) {
+        return cached(ScheduleCacheKey.of(presentations, options), () -> scheduleService.layout(presentations, options, progress));
+    }
+
+    @Override
+    public ScheduleLayout arrange(ValidatedPresentations presentations, ResolvedDayTemplate dayTemplate, List<TrackPlan> trackPlans) {
+        return scheduleService.arrange(presentations, dayTemplate, trackPlans);
+    }
+
+    @Override
+    public SchedulePresentationsResponse render(ScheduleLayout layout, SchedulePresentationsRequest options,
+                                                Consumer<SchedulePresentationsResponse.Track> trackConsumer) {
+        return scheduleService.render(layout, options, trackConsumer);
+    }
+
+    @Override
+    public ValidatedPresentations validate(SchedulePresentationsRequest request) {
+        return scheduleService.validate(request);
+    }
+
+    private SchedulePresentationsResponse collect(ScheduleLayout layout, SchedulePresentationsRequest options) {
+        List<SchedulePresentationsResponse.Track> tracks = new ArrayList<>(layout.trackCount());
+        SchedulePresentationsResponse response = scheduleService.render(layout, options, tracks::add);
+        response.setData(tracks);
+        return response;
+    }
+
+    // The layout is never written once built, so a hit shares its arrays; only the engine run is not the caller's
+    private ScheduleLayout cached(ScheduleCacheKey key, Supplier<ScheduleLayout> scheduler) {
+        ScheduleLayout cachedLayout = cache.getIfPresent(key);
+        if (cachedLayout != null) {
+            log.debug("Serving schedule of {} presentations from cache", key.getSize());
+            return cachedLayout.servedFromCache();
+        }
+
+        // Scheduled outside the cache's compute so a long run does not block other keys; failures leave nothing behind
+        ScheduleLayout layout = scheduler.get();
+        cache.put(key, layout);
+        return layout;
+    }
+}
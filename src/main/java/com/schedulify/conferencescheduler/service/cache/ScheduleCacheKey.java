@@ -0,0 +1,101 @@
+package com.schedulify.conferencescheduler.service.cache;
+
+import com.schedulify.conferencescheduler.domain.dto.ValidatedPresentations;
+import com.schedulify.conferencescheduler.domain.enums.SchedulingStrategy;
+import com.schedulify.conferencescheduler.web.model.v1.request.DayTemplate;
+import com.schedulify.conferencescheduler.web.model.v1.request.SchedulePresentationsRequest;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import java.security.SecureRandom;
+import java.util.List;
+
+/**
+ * Cache key of a schedule: a fingerprint of the (subject, duration) multiset plus the options that change the result.
+ * Validated lightning talks count as a duration of their own, they are grouped into blocks where a plain five-minute
+ * talk is not.
+ * <p>
+ * Every presentation is hashed on its own and the hashes are added up, so the fingerprint does not depend on the
+ * order of the presentations, like a hash over the sorted multiset would, but without sorting. Two independent
+ * 64-bit lanes seeded per process make accidental or crafted collisions impractical.
+ */
+@EqualsAndHashCode
+final class ScheduleCacheKey {
+
+    private static final long[] SEEDS = new SecureRandom().longs(2).toArray();
+    private static final long PRIME = 0x100000001b3L;
+    // Above every duration, so a lightning talk never hashes like a talk of the same minutes
+    private static final int LIGHTNING = 1 << 16;
+
+    // Bound requests are keyed by their raw values and validated ones by parsed values, so the two never mix
+    private final boolean validated;
+    @Getter
+    private final int size;
+    private final long fingerprintA;
+    private final long fingerprintB;
+    private final SchedulingStrategy strategy;
+    private final long timeBudgetInMillis;
+    private final String dayProfile;
+    private final DayTemplate dayTemplate;
+    private final int lightningBlockMinutes;
+
+    private ScheduleCacheKey(boolean validated, int size, long fingerprintA, long fingerprintB, SchedulePresentationsRequest options) {
+        this.validated = validated;
+        this.size = size;
+        this.fingerprintA = fingerprintA;
+        this.fingerprintB = fingerprintB;
+        this.strategy = options.getStrategy() == null ? SchedulingStrategy.GREEDY : options.getStrategy();
+        // The time budget only matters for the optimizer
+        this.timeBudgetInMillis = strategy == SchedulingStrategy.OPTIMIZE && options.getTimeBudgetInMillis() != null ? options.getTimeBudgetInMillis() : 0;
+        this.dayProfile = options.getDayProfile();
+        this.dayTemplate = options.getDayTemplate();
+        this.lightningBlockMinutes = options.getLightningBlockMinutes() == null ? 0 : Math.max(0, options.getLightningBlockMinutes());
+    }
+
+    static ScheduleCacheKey of(SchedulePresentationsRequest request) {
+        List<SchedulePresentationsRequest.Presentation> presentations = request.getPresentations();
+        long fingerprintA = 0;
+        long fingerprintB = 0;
+        for (SchedulePresentationsRequest.Presentation presentation : presentations) {
+            String subject = presentation == null ? null : presentation.getSubject();
+            String duration = presentation == null ? null : presentation.getDuration();
+            fingerprintA += mix(hash(duration, hash(subject, SEEDS[0])));
+            fingerprintB += mix(hash(duration, hash(subject, SEEDS[1])));
+        }
+        return new ScheduleCacheKey(false, presentations.size(), fingerprintA, fingerprintB, request);
+    }
+
+    static ScheduleCacheKey of(ValidatedPresentations presentations, SchedulePresentationsRequest options) {
+        String[] subjects = presentations.getSubjects();
+        int[] durationsInMinutes = presentations.getDurationsInMinutes();
+        long fingerprintA = 0;
+        long fingerprintB = 0;
+        for (int i = 0; i < presentations.size(); i++) {
+            int duration = presentations.isLightning(i) ? durationsInMinutes[i] | LIGHTNING : durationsInMinutes[i];
+            fingerprintA += mix((hash(subjects[i], SEEDS[0]) ^ duration) * PRIME);
+            fingerprintB += mix((hash(subjects[i], SEEDS[1]) ^ duration) * PRIME);
+        }
+        return new ScheduleCacheKey(true, presentations.size(), fingerprintA, fingerprintB, options);
+    }
+
+    // FNV-1a over the characters, with a marker so null, "" and the boundary between fields stay distinct
+    private static long hash(String value, long seed) {
+        long hash = (seed ^ (value == null ? 0x9e3779b97f4a7c15L : value.length())) * PRIME;
+        if (value != null) {
+            for (int i = 0; i < value.length(); i++) {
+                hash = (hash ^ value.charAt(i)) * PRIME;
+            }
+        }
+        return hash;
+    }
+
+    // Murmur3 finalizer, spreads every input bit before the hashes are added up
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,218 @@
+package com.schedulify.conferencescheduler.service.day;
+
+import com.schedulify.conferencescheduler.config.DayProfileProperties;
+import com.schedulify.conferencescheduler.domain.dto.ResolvedDayTemplate;
+import com.schedulify.conferencescheduler.domain.dto.ValidatedPresentations;
+import com.schedulify.conferencescheduler.domain.enums.EventType;
+import com.schedulify.conferencescheduler.exception.CustomValidationException;
+import com.schedulify.conferencescheduler.service.allocation.DurationBucketIndex;
+import com.schedulify.conferencescheduler.web.model.v1.request.DayTemplate;
+import com.schedulify.conferencescheduler.web.model.v1.request.SchedulePresentationsRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+
+/**
+ * Turns the day template of a request into a {@link ResolvedDayTemplate}: the template given with the request,
+ * the named profile it refers to or the standard day. Profiles are resolved once at startup, an invalid profile
+ * fails the startup rather than every request using it.
+ */
+@Slf4j
+@Component
+public class DayTemplateResolver {
+
+    public static final int MAX_DAYS = 31;
+
+    private final Map<String, ResolvedDayTemplate> profiles = new HashMap<>();
+
+    public DayTemplateResolver(DayProfileProperties dayProfileProperties) {
+        dayProfileProperties.getProfiles().forEach((name, template) -> {
+            try {
+                profiles.put(name, resolve(template));
+            } catch (CustomValidationException e) {
+                throw new IllegalStateException("Invalid day profile '" + name + "': " + e.getErrors(), e);
+            }
+        });
+        log.info("Loaded day profiles {}", profiles.keySet());
+    }
+
+    public ResolvedDayTemplate resolve(SchedulePresentationsRequest options) {
+        if (options.getDayTemplate() != null) {
+            if (options.getDayProfile() != null) {
+                throw new CustomValidationException("Either a day template or a day profile can be given, not both");
+            }
+            return resolve(options.getDayTemplate());
+        }
+        if (options.getDayProfile() != null) {
+            ResolvedDayTemplate profile = profiles.get(options.getDayProfile());
+            if (profile == null) {
+                throw new CustomValidationException("Unknown day profile: " + options.getDayProfile());
+            }
+            return profile;
+        }
+        return ResolvedDayTemplate.STANDARD;
+    }
+
+    /**
+     * Checks that every presentation fits into the longest session of the day, a presentation that fits nowhere
+     * could never be scheduled.
+     */
+    public void checkPresentationsFit(ValidatedPresentations presentations, ResolvedDayTemplate dayTemplate) {
+        int longestSession = dayTemplate.getLongestSession();
+        // Validation already caps durations, so nothing to check when the longest session is at least that long
+        if (longestSession >= DurationBucketIndex.MAX_DURATION_IN_MINUTES) {
+            return;
+        }
+        int[] durations = presentations.getDurationsInMinutes();
+        for (int i = 0; i < durations.length; i++) {
+            if (durations[i] > longestSession) {
+                throw new CustomValidationException("Presentation '" + presentations.getSubjects()[i] + "' of " + durations[i]
+                        + " minutes does not fit into the longest session of the day (" + longestSession + " minutes)");
+            }
+        }
+    }
+
+    ResolvedDayTemplate resolve(DayTemplate template) {
+        List<String> errors = new ArrayList<>();
+
+        int days = template.getDays() == null ? 1 : template.getDays();
+        if (days < 1 || days > MAX_DAYS) {
+            errors.add("Days must be between 1 and " + MAX_DAYS + ": " + days);
+        }
+
+        // Collecting every interval of the day as {start, end, kind, index} to sort them and find overlaps
+        List<int[]> intervals = new ArrayList<>();
+        List<DayTemplate.Session> sessions = template.getSessions() == null ? List.of() : template.getSessions();
+        if (sessions.isEmpty()) {
+            errors.add("A day template needs at least one session");
+        }
+        for (int i = 0; i < sessions.size(); i++) {
+            DayTemplate.Session session = sessions.get(i);
+            int[] interval = session == null ? null : interval("Session " + (i + 1), session.getStart(), session.getEnd(), errors);
+            if (session == null) {
+                errors.add("Session " + (i + 1) + " is empty");
+            } else if (interval != null) {
+                intervals.add(new int[]{interval[0], interval[1], 0, i});
+            }
+        }
+
+        List<DayTemplate.FixedEvent> fixedEvents = new ArrayList<>();
+        List<EventType> fixedTypes = new ArrayList<>();
+        addFixedEvents("Break", template.getBreaks(), EventType.BREAK, fixedEvents, fixedTypes, intervals, errors);
+        addFixedEvents("Fixed event", template.getFixedEvents(), EventType.FIXED, fixedEvents, fixedTypes, intervals, errors);
+
+        intervals.sort(Comparator.comparingInt(interval -> interval[0]));
+        for (int i = 1; i < intervals.size(); i++) {
+            if (intervals.get(i)[0] < intervals.get(i - 1)[1]) {
+                errors.add("Sessions and fixed events must not overlap: " + describe(intervals.get(i - 1), sessions, fixedEvents)
+                        + " and " + describe(intervals.get(i), sessions, fixedEvents));
+            }
+        }
+
+        int networkingEarliestStart = -1;
+        int networkingEnd = -1;
+        if (template.getNetworking() != null) {
+            int[] window = interval("Networking", template.getNetworking().getEarliestStart(), template.getNetworking().getEnd(), errors);
+            if (window != null) {
+                networkingEarliestStart = window[0];
+                networkingEnd = window[1];
+            }
+        }
+
+        if (!errors.isEmpty()) {
+            throw new CustomValidationException("Invalid day template", errors);
+        }
+
+        int sessionCount = 0;
+        for (int[] interval : intervals) {
+            sessionCount += interval[2] == 0 ? 1 : 0;
+        }
+        int[] sessionStarts = new int[sessionCount];
+        int[] sessionDurations = new int[sessionCount];
+        int[] fixedStarts = new int[intervals.size() - sessionCount];
+        int[] fixedDurations = new int[fixedStarts.length];
+        String[] fixedSubjects = new String[fixedStarts.length];
+        EventType[] types = new EventType[fixedStarts.length];
+        int session = 0;
+        int fixed = 0;
+        for (int[] interval : intervals) {
+            if (interval[2] == 0) {
+                sessionStarts[session] = interval[0];
+                sessionDurations[session++] = interval[1] - interval[0];
+            } else {
+                fixedStarts[fixed] = interval[0];
+                fixedDurations[fixed] = interval[1] - interval[0];
+                fixedSubjects[fixed] = fixedEvents.get(interval[3]).getSubject().trim();
+                types[fixed++] = fixedTypes.get(interval[3]);
+            }
+        }
+        return new ResolvedDayTemplate(days, sessionStarts, sessionDurations, fixedStarts, fixedDurations, fixedSubjects, types,
+                networkingEarliestStart, networkingEnd);
+    }
+
+    private void addFixedEvents(String name, List<DayTemplate.FixedEvent> events, EventType defaultType,
+                                List<DayTemplate.FixedEvent> fixedEvents, List<EventType> fixedTypes, List<int[]> intervals, List<String> errors) {
+        if (events == null) {
+            return;
+        }
+        for (int i = 0; i < events.size(); i++) {
+            DayTemplate.FixedEvent event = events.get(i);
+            String label = name + " " + (i + 1);
+            if (event == null) {
+                errors.add(label + " is empty");
+                continue;
+            }
+            if (event.getSubject() == null || event.getSubject().isBlank()) {
+                errors.add(label + " needs a subject");
+            }
+            if (event.getType() == EventType.PRESENTATION) {
+                errors.add(label + " cannot be of type PRESENTATION");
+            }
+            int[] interval = interval(label, event.getStart(), event.getEnd(), errors);
+            if (interval != null) {
+                intervals.add(new int[]{interval[0], interval[1], 1, fixedEvents.size()});
+            }
+            fixedEvents.add(event);
+            fixedTypes.add(event.getType() == null ? defaultType : event.getType());
+        }
+    }
+
+    private static int[] interval(String label, String start, String end, List<String> errors) {
+        Integer startMinute = minuteOfDay(label, "start", start, errors);
+        Integer endMinute = minuteOfDay(label, "end", end, errors);
+        if (startMinute == null || endMinute == null) {
+            return null;
+        }
+        if (endMinute <= startMinute) {
+            errors.add(label + " must end after it starts: " + start + " - " + end);
+            return null;
+        }
+        return new int[]{startMinute, endMinute};
+    }
+
+    private static Integer minuteOfDay(String label, String field, String value, List<String> errors) {
+        if (value == null || value.isBlank()) {
+            errors.add(label + " needs a " + field + " time");
+            return null;
+        }
+        try {
+            LocalTime time = LocalTime.parse(value.trim());
+            return time.getHour() * 60 + time.getMinute();
+        } catch (DateTimeParseException e) {
+            errors.add(label + " has an invalid " + field + " time, expected HH:mm: " + value);
+            return null;
+        }
+    }
+
+    private static String describe(int[] interval, List<DayTemplate.Session> sessions, List<DayTemplate.FixedEvent> fixedEvents) {
+        if (interval[2] == 0) {
+            DayTemplate.Session session = sessions.get(interval[3]);
+            return "session " + session.getStart() + " - " + session.getEnd();
+        }
+        DayTemplate.FixedEvent event = fixedEvents.get(interval[3]);
+        return "'" + event.getSubject() + "' " + event.getStart() + " - " + event.getEnd();
+    }
+}
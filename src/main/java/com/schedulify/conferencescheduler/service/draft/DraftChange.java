@@ -0,0 +1,35 @@
+package com.schedulify.conferencescheduler.service.draft;
+
+import com.schedulify.conferencescheduler.domain.enums.PresentationChangeType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * What a patch did to one presentation; placements are {@code null} where the presentation did not exist.
+ */
+@Getter
+@AllArgsConstructor
+public class DraftChange {
+
+    private final String subject;
+    private final String previousSubject;
+    private final PresentationChangeType type;
+    private final Placement from;
+    private final Placement to;
+
+    /**
+     * Zero based track and start in minutes since midnight of the first day.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Placement {
+
+        private final int track;
+        private final int startMinute;
+        private final int durationInMinutes;
+
+        boolean isSameAs(Placement other) {
+            return track == other.track && startMinute == other.startMinute && durationInMinutes == other.durationInMinutes;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.schedulify.conferencescheduler.service.draft;
+
+import com.schedulify.conferencescheduler.web.model.v1.response.SchedulePresentationsResponse;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * State of a draft taken while it was locked: all tracks or only those a patch touched, and the patch's changes.
+ */
+@Getter
+@AllArgsConstructor
+public class DraftSnapshot {
+
+    private final String id;
+    private final long version;
+    private final int presentations;
+    private final int trackCount;
+    private final boolean multiDay;
+    private final List<SchedulePresentationsResponse.Track> tracks;
+    // Null unless the snapshot was taken after a patch
+    private final List<DraftChange> changes;
+}
@@ -0,0 +1,411 @@
+package com.schedulify.conferencescheduler.service.draft;
+
+import com.schedulify.conferencescheduler.domain.dto.ResolvedDayTemplate;
+import com.schedulify.conferencescheduler.domain.dto.ScheduleLayout;
+import com.schedulify.conferencescheduler.domain.dto.ValidatedPresentations;
+import com.schedulify.conferencescheduler.domain.enums.DraftOperation;
+import com.schedulify.conferencescheduler.domain.enums.PresentationChangeType;
+import com.schedulify.conferencescheduler.exception.CustomValidationException;
+import com.schedulify.conferencescheduler.service.allocation.ResidualTree;
+import com.schedulify.conferencescheduler.service.allocation.TrackPlan;
+import com.schedulify.conferencescheduler.validation.PresentationValidator;
+import com.schedulify.conferencescheduler.web.model.v1.request.ScheduleDraftPatchRequest;
+import lombok.Getter;
+
+import java.util.*;
+
+/**
+ * A schedule that is changed one presentation at a time instead of being scheduled again.
+ * <p>
+ * Every session of every track keeps its presentations in running order, and a {@link ResidualTree} over the free
+ * minutes of all sessions finds the first session a presentation fits into. A change only touches the sessions it
+ * names: a removed presentation leaves a gap that the rest of its session closes, a resized one stays where it is
+ * while its session has room and otherwise moves like an added one, to the first session with room or a new track.
+ * Nothing else moves, so the cost of a change depends on the size of a session, not of the conference. Tracks left
+ * empty at the end are dropped, empty tracks in between keep their number so the others do not shift.
+ * <p>
+ * Not thread safe; the owning service locks the draft around every call.
+ */
+public class ScheduleDraft {
+
+    private static final int REMOVED = -1;
+
+    @Getter
+    private final String id;
+    @Getter
+    private final ResolvedDayTemplate dayTemplate;
+    private final int sessionsPerTrack;
+    private final int[] sessionCapacities;
+
+    // Presentations by id; ids are never reused, a removed presentation keeps its id with session REMOVED
+    private String[] subjects;
+    private int[] durations;
+    private int[] sessionOf;
+    private int nextId;
+    private final Map<String, Integer> ids;
+
+    // Presentation ids of every session in running order, the sessions of track t start at t * sessionsPerTrack
+    private int[][] sessionItems;
+    private int[] sessionSizes;
+    private int[] sessionLoads;
+    private int[] trackSizes;
+    private final ResidualTree residuals = new ResidualTree();
+    @Getter
+    private int trackCount;
+
+    @Getter
+    private long version;
+
+    // Placements before the current patch of every presentation in a session it touched
+    private Map<Integer, DraftChange.Placement> placementsBefore;
+    private Map<Integer, String> subjectsBefore;
+    private Set<Integer> touchedSessions;
+
+    ScheduleDraft(String id, ScheduleLayout layout) {
+        ValidatedPresentations presentations = layout.getPresentations();
+        this.id = id;
+        this.dayTemplate = layout.getDayTemplate();
+        this.sessionCapacities = dayTemplate.getTrackSessionDurations();
+        this.sessionsPerTrack = sessionCapacities.length;
+
+        int size = presentations.size();
+        this.subjects = Arrays.copyOf(presentations.getSubjects(), Math.max(size, 16));
+        this.durations = Arrays.copyOf(presentations.getDurationsInMinutes(), subjects.length);
+        this.sessionOf = new int[subjects.length];
+        this.nextId = size;
+        this.ids = new HashMap<>((int) (subjects.length / 0.75f) + 1);
+        for (int presentation = 0; presentation < size; presentation++) {
+            ids.put(subjects[presentation], presentation);
+        }
+
+        int sessions = Math.max(layout.trackCount(), 1) * sessionsPerTrack;
+        this.sessionItems = new int[sessions][];
+        this.sessionSizes = new int[sessions];
+        this.sessionLoads = new int[sessions];
+        this.trackSizes = new int[Math.max(layout.trackCount(), 1)];
+        for (int track = 0; track < layout.trackCount(); track++) {
+            openTrack();
+            for (int event = layout.firstEvent(track); event < layout.endEvent(track); event++) {
+                int presentation = layout.getReferences()[event];
+                if (presentation >= 0) {
+                    append(sessionAt(track, layout.startMinute(event)), presentation);
+                }
+            }
+        }
+    }
+
+    public int size() {
+        return ids.size();
+    }
+
+    /**
+     * Applies every change in order, or none of them when one is invalid, and returns what happened to each
+     * presentation along with the tracks that were touched.
+     */
+    List<DraftChange> apply(List<ScheduleDraftPatchRequest.Change> changes) {
+        check(changes);
+        placementsBefore = new LinkedHashMap<>();
+        subjectsBefore = new HashMap<>();
+        touchedSessions = new TreeSet<>();
+        Set<Integer> changed = new HashSet<>();
+        try {
+            for (ScheduleDraftPatchRequest.Change change : changes) {
+                String subject = change.getSubject().trim();
+                switch (change.getOp()) {
+                    case ADD -> add(subject, PresentationValidator.parseDuration(change.getDuration().trim()));
+                    case REMOVE -> remove(ids.remove(subject));
+                    case UPDATE -> changed.add(update(ids.get(subject), change));
+                }
+            }
+            dropEmptyTracks();
+            version++;
+            return diff(changed);
+        } finally {
+            placementsBefore = null;
+            subjectsBefore = null;
+        }
+    }
+
+    /**
+     * Zero based numbers of the tracks the last patch touched that still exist.
+     */
+    int[] touchedTracks() {
+        return touchedSessions.stream()
+                .mapToInt(session -> session / sessionsPerTrack)
+                .filter(track -> track < trackCount)
+                .distinct()
+                .toArray();
+    }
+
+    /**
+     * Presentations as the engine sees them; ids index both arrays, which are only valid while the draft is locked.
+     */
+    ValidatedPresentations presentations() {
+        return new ValidatedPresentations(subjects, durations);
+    }
+
+    /**
+     * Plans of the given tracks, in the order given.
+     */
+    List<TrackPlan> trackPlans(int[] tracks) {
+        List<TrackPlan> trackPlans = new ArrayList<>(tracks.length);
+        for (int track : tracks) {
+            int[][] sessions = new int[sessionsPerTrack][];
+            for (int session = 0; session < sessionsPerTrack; session++) {
+                int index = track * sessionsPerTrack + session;
+                sessions[session] = Arrays.copyOf(sessionItems[index], sessionSizes[index]);
+            }
+            trackPlans.add(new TrackPlan(sessions));
+        }
+        return trackPlans;
+    }
+
+    private void check(List<ScheduleDraftPatchRequest.Change> changes) {
+        int longestDuration = Math.min(PresentationValidator.MAX_DURATION_IN_MINUTES, dayTemplate.getLongestSession());
+        // Subjects the changes so far added (true) or removed (false), on top of the draft
+        Map<String, Boolean> pending = new HashMap<>();
+        List<String> errors = new ArrayList<>();
+
+        for (int i = 0; i < changes.size(); i++) {
+            ScheduleDraftPatchRequest.Change change = changes.get(i);
+            String prefix = "changes[" + i + "]: ";
+            if (change == null || change.getOp() == null) {
+                errors.add(prefix + "The operation must be 'add', 'remove' or 'update'");
+                continue;
+            }
+            String subject = change.getSubject() == null ? "" : change.getSubject().trim();
+            boolean exists = pending.getOrDefault(subject, ids.containsKey(subject));
+            switch (change.getOp()) {
+                case ADD -> {
+                    if (subject.length() < 2) {
+                        errors.add(prefix + "The subject must contain at least two non-whitespace characters");
+                    } else if (exists) {
+                        errors.add(prefix + "Duplicate presentation subject: " + subject);
+                    } else if (checkDuration(change.getDuration(), longestDuration, prefix, errors)) {
+                        pending.put(subject, true);
+                    }
+                }
+                case REMOVE, UPDATE -> {
+                    if (!exists) {
+                        errors.add(prefix + "No presentation with subject: " + subject);
+                        continue;
+                    }
+                    if (change.getOp() == DraftOperation.REMOVE) {
+                        pending.put(subject, false);
+                        continue;
+                    }
+                    if (change.getDuration() == null && change.getNewSubject() == null) {
+                        errors.add(prefix + "An update needs a new duration or a new subject");
+                    }
+                    if (change.getDuration() != null) {
+                        checkDuration(change.getDuration(), longestDuration, prefix, errors);
+                    }
+                    if (change.getNewSubject() != null) {
+                        String newSubject = change.getNewSubject().trim();
+                        if (newSubject.length() < 2) {
+                            errors.add(prefix + "The new subject must contain at least two non-whitespace characters");
+                        } else if (!newSubject.equals(subject) && pending.getOrDefault(newSubject, ids.containsKey(newSubject))) {
+                            errors.add(prefix + "Duplicate presentation subject: " + newSubject);
+                        } else {
+                            pending.put(subject, false);
+                            pending.put(newSubject, true);
+                        }
+                    }
+                }
+            }
+        }
+
+        if (!errors.isEmpty()) {
+            throw new CustomValidationException(errors.size() == 1 ? errors.get(0) : "Validation failed with " + errors.size() + " errors", errors);
+        }
+    }
+
+    private boolean checkDuration(String duration, int longestDuration, String prefix, List<String> errors) {
+        int minutes = duration == null ? -1 : PresentationValidator.parseDuration(duration.trim());
+        if (minutes < 0) {
+            errors.add(prefix + "Duration must be a positive integer or 'lightning'");
+        } else if (minutes == 0 || minutes > longestDuration) {
+            errors.add(prefix + "Duration must be between 1 and " + longestDuration + " minutes");
+        } else {
+            return true;
+        }
+        return false;
+    }
+
+    private void add(String subject, int durationInMinutes) {
+        if (nextId == subjects.length) {
+            subjects = Arrays.copyOf(subjects, nextId * 2);
+            durations = Arrays.copyOf(durations, nextId * 2);
+            sessionOf = Arrays.copyOf(sessionOf, nextId * 2);
+        }
+        int presentation = nextId++;
+        subjects[presentation] = subject;
+        durations[presentation] = durationInMinutes;
+        ids.put(subject, presentation);
+        place(presentation);
+    }
+
+    private void remove(int presentation) {
+        int session = sessionOf[presentation];
+        snapshot(session);
+        int[] items = sessionItems[session];
+        int position = 0;
+        while (items[position] != presentation) {
+            position++;
+        }
+        System.arraycopy(items, position + 1, items, position, sessionSizes[session] - position - 1);
+        sessionSizes[session]--;
+        sessionLoads[session] -= durations[presentation];
+        trackSizes[session / sessionsPerTrack]--;
+        residuals.set(session, sessionCapacities[session % sessionsPerTrack] - sessionLoads[session]);
+        sessionOf[presentation] = REMOVED;
+    }
+
+    private int update(int presentation, ScheduleDraftPatchRequest.Change change) {
+        int session = sessionOf[presentation];
+        snapshot(session);
+        if (change.getNewSubject() != null) {
+            String newSubject = change.getNewSubject().trim();
+            ids.remove(subjects[presentation]);
+            ids.put(newSubject, presentation);
+            subjects[presentation] = newSubject;
+        }
+        if (change.getDuration() != null) {
+            int newDuration = PresentationValidator.parseDuration(change.getDuration().trim());
+            int load = sessionLoads[session] - durations[presentation] + newDuration;
+            if (load <= sessionCapacities[session % sessionsPerTrack]) {
+                // Still fits, the presentation keeps its place and the rest of the session follows
+                sessionLoads[session] = load;
+                durations[presentation] = newDuration;
+                residuals.set(session, sessionCapacities[session % sessionsPerTrack] - load);
+            } else {
+                remove(presentation);
+                durations[presentation] = newDuration;
+                place(presentation);
+            }
+        }
+        return presentation;
+    }
+
+    private void place(int presentation) {
+        int session = residuals.firstFitting(durations[presentation]);
+        if (session < 0) {
+            openTrack();
+            session = residuals.firstFitting(durations[presentation]);
+        }
+        snapshot(session);
+        append(session, presentation);
+    }
+
+    private void append(int session, int presentation) {
+        int[] items = sessionItems[session];
+        if (sessionSizes[session] == items.length) {
+            items = sessionItems[session] = Arrays.copyOf(items, Math.max(4, items.length * 2));
+        }
+        items[sessionSizes[session]++] = presentation;
+        sessionLoads[session] += durations[presentation];
+        sessionOf[presentation] = session;
+        trackSizes[session / sessionsPerTrack]++;
+        residuals.set(session, sessionCapacities[session % sessionsPerTrack] - sessionLoads[session]);
+    }
+
+    private void openTrack() {
+        int track = trackCount++;
+        int sessions = trackCount * sessionsPerTrack;
+        if (sessions > sessionItems.length) {
+            int capacity = Math.max(sessions, sessionItems.length * 2);
+            sessionItems = Arrays.copyOf(sessionItems, capacity);
+            sessionSizes = Arrays.copyOf(sessionSizes, capacity);
+            sessionLoads = Arrays.copyOf(sessionLoads, capacity);
+        }
+        if (trackCount > trackSizes.length) {
+            trackSizes = Arrays.copyOf(trackSizes, trackSizes.length * 2);
+        }
+        for (int session = track * sessionsPerTrack; session < sessions; session++) {
+            sessionItems[session] = new int[4];
+            sessionSizes[session] = 0;
+            sessionLoads[session] = 0;
+            residuals.set(session, sessionCapacities[session % sessionsPerTrack]);
+        }
+        trackSizes[track] = 0;
+    }
+
+    private void dropEmptyTracks() {
+        while (trackCount > 0 && trackSizes[trackCount - 1] == 0) {
+            trackCount--;
+            for (int session = trackCount * sessionsPerTrack; session < (trackCount + 1) * sessionsPerTrack; session++) {
+                residuals.set(session, 0);
+            }
+        }
+    }
+
+    // Session of a track that contains the given start minute of one of its presentations
+    private int sessionAt(int track, int startMinute) {
+        int day = startMinute / ResolvedDayTemplate.MINUTES_PER_DAY;
+        int minuteOfDay = startMinute % ResolvedDayTemplate.MINUTES_PER_DAY;
+        int[] sessionStarts = dayTemplate.getSessionStarts();
+        int session = sessionStarts.length - 1;
+        while (session > 0 && sessionStarts[session] > minuteOfDay) {
+            session--;
+        }
+        return track * sessionsPerTrack + day * sessionStarts.length + session;
+    }
+
+    // Remembers where the presentations of a session were before the patch changed it for the first time
+    private void snapshot(int session) {
+        if (!touchedSessions.add(session)) {
+            return;
+        }
+        forEachPlacement(session, (presentation, placement) -> {
+            placementsBefore.putIfAbsent(presentation, placement);
+            subjectsBefore.putIfAbsent(presentation, subjects[presentation]);
+        });
+    }
+
+    private List<DraftChange> diff(Set<Integer> changed) {
+        Map<Integer, DraftChange.Placement> placementsAfter = new LinkedHashMap<>();
+        for (int session : touchedSessions) {
+            if (session / sessionsPerTrack < trackCount) {
+                forEachPlacement(session, placementsAfter::put);
+            }
+        }
+
+        List<DraftChange> changes = new ArrayList<>();
+        placementsBefore.forEach((presentation, before) -> {
+            DraftChange.Placement after = placementsAfter.get(presentation);
+            String previousSubject = subjectsBefore.get(presentation);
+            if (after == null) {
+                changes.add(new DraftChange(previousSubject, null, PresentationChangeType.REMOVED, before, null));
+            } else if (changed.contains(presentation)) {
+                String renamedFrom = previousSubject.equals(subjects[presentation]) ? null : previousSubject;
+                changes.add(new DraftChange(subjects[presentation], renamedFrom, PresentationChangeType.CHANGED, before, after));
+            } else if (!before.isSameAs(after)) {
+                changes.add(new DraftChange(subjects[presentation], null, PresentationChangeType.MOVED, before, after));
+            }
+        });
+        placementsAfter.forEach((presentation, after) -> {
+            if (!placementsBefore.containsKey(presentation)) {
+                changes.add(new DraftChange(subjects[presentation], null, PresentationChangeType.ADDED, null, after));
+            }
+        });
+        return changes;
+    }
+
+    private void forEachPlacement(int session, PlacementConsumer consumer) {
+        int track = session / sessionsPerTrack;
+        int trackSession = session % sessionsPerTrack;
+        int daySession = trackSession % dayTemplate.sessionCount();
+        int minute = trackSession / dayTemplate.sessionCount() * ResolvedDayTemplate.MINUTES_PER_DAY + dayTemplate.getSessionStarts()[daySession];
+        int[] items = sessionItems[session];
+        for (int position = 0; position < sessionSizes[session]; position++) {
+            int presentation = items[position];
+            consumer.accept(presentation, new DraftChange.Placement(track, minute, durations[presentation]));
+            minute += durations[presentation];
+        }
+    }
+
+    @FunctionalInterface
+    private interface PlacementConsumer {
+        void accept(int presentation, DraftChange.Placement placement);
+    }
+}
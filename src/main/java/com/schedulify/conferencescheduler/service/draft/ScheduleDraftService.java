@@ -0,0 +1,126 @@
+package com.schedulify.conferencescheduler.service.draft;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Scheduler;
+import com.schedulify.conferencescheduler.domain.dto.ScheduleLayout;
+import com.schedulify.conferencescheduler.exception.CustomValidationException;
+import com.schedulify.conferencescheduler.exception.DraftNotFoundException;
+import com.schedulify.conferencescheduler.mapper.ScheduleServiceMapper;
+import com.schedulify.conferencescheduler.service.ScheduleService;
+import com.schedulify.conferencescheduler.web.model.v1.request.ScheduleDraftPatchRequest;
+import com.schedulify.conferencescheduler.web.model.v1.request.SchedulePresentationsRequest;
+import com.schedulify.conferencescheduler.web.model.v1.response.SchedulePresentationsResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Keeps schedule drafts in memory and applies patches to them.
+ * <p>
+ * A draft starts from a regular schedule of the request, so strategy and day template apply as usual; after that
+ * every patch goes through {@link ScheduleDraft} and only the tracks it touched are laid out and built again.
+ * Patches to one draft are applied one at a time. Drafts not read or patched for their time to live are dropped,
+ * also when no request comes in.
+ * Presentations are addressed by subject, so lightning blocks, which all share one subject, are not supported.
+ */
+@Slf4j
+@Service
+public class ScheduleDraftService {
+
+    private final ScheduleService scheduleService;
+    private final ScheduleServiceMapper scheduleServiceMapper;
+    private final Cache<String, ScheduleDraft> drafts;
+
+    @Autowired
+    public ScheduleDraftService(ScheduleService scheduleService, ScheduleServiceMapper scheduleServiceMapper,
+                                @Value("${schedule.drafts.time-to-live:30m}") Duration timeToLive) {
+        this(scheduleService, scheduleServiceMapper, timeToLive, Clock.systemUTC());
+    }
+
+    ScheduleDraftService(ScheduleService scheduleService, ScheduleServiceMapper scheduleServiceMapper, Duration timeToLive, Clock clock) {
+        this.scheduleService = scheduleService;
+        this.scheduleServiceMapper = scheduleServiceMapper;
+        // The system scheduler drops idle drafts when their time is up, not only when the next request finds them
+        this.drafts = Caffeine.newBuilder()
+                .expireAfterAccess(timeToLive)
+                .ticker(() -> TimeUnit.MILLISECONDS.toNanos(clock.millis()))
+                .scheduler(Scheduler.systemScheduler())
+                .build();
+    }
+
+    public DraftSnapshot create(SchedulePresentationsRequest request) {
+        if (request.getLightningBlockMinutes() != null && request.getLightningBlockMinutes() > 0) {
+            throw new CustomValidationException("Drafts cannot group lightning talks into blocks, leave out lightningBlockMinutes");
+        }
+        ScheduleDraft draft = new ScheduleDraft(UUID.randomUUID().toString(), scheduleService.layout(request));
+        drafts.put(draft.getId(), draft);
+        log.info("Created schedule draft {} with {} presentations", draft.getId(), draft.size());
+        synchronized (draft) {
+            return snapshot(draft, allTracks(draft), null);
+        }
+    }
+
+    public DraftSnapshot get(String draftId) {
+        ScheduleDraft draft = find(draftId);
+        synchronized (draft) {
+            return snapshot(draft, allTracks(draft), null);
+        }
+    }
+
+    public DraftSnapshot patch(String draftId, ScheduleDraftPatchRequest patch) {
+        ScheduleDraft draft = find(draftId);
+        synchronized (draft) {
+            List<DraftChange> changes = draft.apply(patch.getChanges());
+            log.debug("Patched schedule draft {} to version {} with {} changes", draftId, draft.getVersion(), changes.size());
+            return snapshot(draft, draft.touchedTracks(), changes);
+        }
+    }
+
+    public void delete(String draftId) {
+        if (drafts.asMap().remove(draftId) == null) {
+            throw new DraftNotFoundException(draftId);
+        }
+        log.info("Deleted schedule draft {}", draftId);
+    }
+
+    private ScheduleDraft find(String draftId) {
+        ScheduleDraft draft = drafts.getIfPresent(draftId);
+        if (draft == null) {
+            throw new DraftNotFoundException(draftId);
+        }
+        return draft;
+    }
+
+    // Lays out and builds only the given tracks, numbered as in the whole draft
+    private DraftSnapshot snapshot(ScheduleDraft draft, int[] tracks, List<DraftChange> changes) {
+        ScheduleLayout layout = scheduleService.arrange(draft.presentations(), draft.getDayTemplate(), draft.trackPlans(tracks));
+        List<SchedulePresentationsResponse.Track> builtTracks = new ArrayList<>(tracks.length);
+        for (int i = 0; i < tracks.length; i++) {
+            SchedulePresentationsResponse.Track track = scheduleServiceMapper.mapToTrack(layout, i);
+            track.setTrackNo(tracks[i] + 1);
+            builtTracks.add(track);
+        }
+        return new DraftSnapshot(draft.getId(), draft.getVersion(), draft.size(), draft.getTrackCount(),
+                draft.getDayTemplate().getDays() > 1, builtTracks, changes);
+    }
+
+    private int[] allTracks(ScheduleDraft draft) {
+        return IntStream.range(0, draft.getTrackCount()).toArray();
+    }
+
+    // Package-private so tests can see drafts leave without another request
+    long draftCount() {
+        drafts.cleanUp();
+        return drafts.estimatedSize();
+    }
+}
@@ -0,0 +1,123 @@
+package com.schedulify.conferencescheduler.service.job;
+
+import com.schedulify.conferencescheduler.domain.enums.JobState;
+import com.schedulify.conferencescheduler.service.admission.AdmissionControl;
+import lombok.AccessLevel;
+import com.schedulify.conferencescheduler.web.model.v1.response.SchedulePresentationsResponse;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A schedule request running in the background, updated by the worker and read by status requests.
+ */
+@Getter
+public class ScheduleJob {
+
+    private final String id;
+    private final int presentations;
+    private final Instant submittedAt;
+    private final AtomicInteger tracksDone = new AtomicInteger();
+    private volatile int presentationsPlanned;
+    private volatile JobState state = JobState.QUEUED;
+    private volatile Instant finishedAt;
+    private volatile SchedulePresentationsResponse result;
+    private volatile String errorMessage;
+    private volatile List<String> errors;
+    private volatile Future<?> future;
+    @Getter(AccessLevel.NONE)
+    private AdmissionControl.Permit permit;
+    @Getter(AccessLevel.NONE)
+    private boolean workerDone;
+
+    ScheduleJob(String id, int presentations, Instant submittedAt) {
+        this.id = id;
+        this.presentations = presentations;
+        this.submittedAt = submittedAt;
+    }
+
+    public int getTracksDone() {
+        return tracksDone.get();
+    }
+
+    void planned(int presentationsPlanned) {
+        this.presentationsPlanned = presentationsPlanned;
+    }
+
+    void trackDone() {
+        tracksDone.incrementAndGet();
+    }
+
+    void setFuture(Future<?> future) {
+        this.future = future;
+    }
+
+    /**
+     * Keeps the share of the cost budget the job was admitted with until the worker is done with the job, so jobs
+     * in the background still count against the budget. Closes it right away when the worker is already done.
+     */
+    public synchronized void holdUntilFinished(AdmissionControl.Permit permit) {
+        if (workerDone) {
+            permit.close();
+        } else {
+            this.permit = permit;
+        }
+    }
+
+    // Called once the worker has stopped working on the job, or never will
+    synchronized void workerDone() {
+        workerDone = true;
+        if (permit != null) {
+            permit.close();
+            permit = null;
+        }
+    }
+
+    synchronized boolean start() {
+        if (state != JobState.QUEUED) {
+            return false;
+        }
+        state = JobState.RUNNING;
+        return true;
+    }
+
+    synchronized void succeed(SchedulePresentationsResponse result, Instant now) {
+        if (!state.isFinished()) {
+            this.result = result;
+            finish(JobState.SUCCEEDED, now);
+        }
+    }
+
+    synchronized void fail(String errorMessage, List<String> errors, Instant now) {
+        if (!state.isFinished()) {
+            this.errorMessage = errorMessage;
+            this.errors = errors;
+            finish(JobState.FAILED, now);
+        }
+    }
+
+    synchronized boolean cancel(Instant now) {
+        if (state.isFinished()) {
+            return false;
+        }
+        boolean queued = state == JobState.QUEUED;
+        finish(JobState.CANCELLED, now);
+        if (queued) {
+            // A queued job is never started, a running one gives its cost back once the worker notices
+            workerDone();
+        }
+        return true;
+    }
+
+    boolean isCancelled() {
+        return state == JobState.CANCELLED;
+    }
+
+    private void finish(JobState state, Instant now) {
+        this.finishedAt = now;
+        this.state = state;
+    }
+}
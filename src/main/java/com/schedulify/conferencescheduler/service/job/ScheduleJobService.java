@@ -0,0 +1,204 @@
+package com.schedulify.conferencescheduler.service.job;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Scheduler;
+import com.schedulify.conferencescheduler.domain.dto.ScheduleLayout;
+import com.schedulify.conferencescheduler.domain.dto.ValidatedPresentations;
+import com.schedulify.conferencescheduler.exception.CustomValidationException;
+import com.schedulify.conferencescheduler.exception.JobNotFoundException;
+import com.schedulify.conferencescheduler.exception.TooManyJobsException;
+import com.schedulify.conferencescheduler.service.ScheduleService;
+import com.schedulify.conferencescheduler.web.model.v1.request.SchedulePresentationsRequest;
+import com.schedulify.conferencescheduler.web.model.v1.response.SchedulePresentationsResponse;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs schedule requests in the background so large runs do not hold a servlet thread.
+ * <p>
+ * Jobs run on a fixed pool behind a bounded queue; once the queue is full new jobs are rejected instead of piling
+ * up. Presentations are validated before a job is accepted, so invalid requests still fail right away. Progress is
+ * the number of presentations planned into tracks and then the number of tracks built so far. Cancelling stops a
+ * running job at its next planning checkpoint or before its next track. Finished jobs are dropped once their time to
+ * live has passed, also when no request comes in, so their results do not outstay it on the heap.
+ */
+@Slf4j
+@Service
+public class ScheduleJobService {
+
+    private static final String THREAD_NAME_PREFIX = "schedule-job-";
+
+    private final ScheduleService scheduleService;
+    private final int queueCapacity;
+    private final Clock clock;
+    private final ThreadPoolExecutor executor;
+    private final Cache<String, ScheduleJob> jobs;
+
+    @Autowired
+    public ScheduleJobService(ScheduleService scheduleService,
+                              @Value("${schedule.jobs.threads:0}") int threads,
+                              @Value("${schedule.jobs.queue-capacity:16}") int queueCapacity,
+                              @Value("${schedule.jobs.time-to-live:15m}") Duration timeToLive,
+                              Environment environment) {
+        this(scheduleService, threads, queueCapacity, timeToLive, Threading.VIRTUAL.isActive(environment), Clock.systemUTC());
+    }
+
+    ScheduleJobService(ScheduleService scheduleService, int threads, int queueCapacity, Duration timeToLive, boolean virtualThreads, Clock clock) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.scheduleService = scheduleService;
+        this.queueCapacity = queueCapacity;
+        this.clock = clock;
+        // The system scheduler drops finished jobs when their time is up, not only when the next request finds them
+        this.jobs = Caffeine.newBuilder()
+                .expireAfter(finishedJobExpiry(timeToLive))
+                .ticker(() -> TimeUnit.MILLISECONDS.toNanos(clock.millis()))
+                .scheduler(Scheduler.systemScheduler())
+                .build();
+        // The pool size still bounds how many jobs run at once, virtual threads only make a blocked worker cheap
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueCapacity),
+                virtualThreads ? new VirtualThreadTaskExecutor(THREAD_NAME_PREFIX).getVirtualThreadFactory() : platformThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy());
+        log.info("Schedule jobs run on {} {} threads", poolSize, virtualThreads ? "virtual" : "platform");
+    }
+
+    public ScheduleJob submit(SchedulePresentationsRequest request) {
+        ValidatedPresentations presentations = scheduleService.validate(request);
+
+        ScheduleJob job = new ScheduleJob(UUID.randomUUID().toString(), presentations.size(), clock.instant());
+        jobs.put(job.getId(), job);
+        try {
+            job.setFuture(executor.submit(() -> run(job, presentations, request)));
+        } catch (RejectedExecutionException e) {
+            jobs.invalidate(job.getId());
+            throw new TooManyJobsException(queueCapacity);
+        }
+        log.info("Accepted schedule job {} with {} presentations", job.getId(), presentations.size());
+        return job;
+    }
+
+    public ScheduleJob get(String jobId) {
+        ScheduleJob job = jobs.getIfPresent(jobId);
+        if (job == null) {
+            throw new JobNotFoundException(jobId);
+        }
+        return job;
+    }
+
+    public ScheduleJob cancel(String jobId) {
+        ScheduleJob job = get(jobId);
+        if (job.cancel(clock.instant())) {
+            // No interrupt needed, a running job notices the cancellation before its next track; a queued one leaves the queue
+            job.getFuture().cancel(false);
+            if (job.getFuture() instanceof Runnable queuedJob) {
+                executor.remove(queuedJob);
+            }
+            finished(job);
+            log.info("Cancelled schedule job {}", jobId);
+        }
+        return job;
+    }
+
+    private void run(ScheduleJob job, ValidatedPresentations presentations, SchedulePresentationsRequest options) {
+        if (!job.start()) {
+            return;
+        }
+        try {
+            ScheduleLayout layout = scheduleService.layout(presentations, options, presentationsPlanned -> {
+                if (job.isCancelled()) {
+                    throw new CancellationException();
+                }
+                job.planned(presentationsPlanned);
+            });
+            job.planned(presentations.size());
+            List<SchedulePresentationsResponse.Track> tracks = new ArrayList<>(layout.trackCount());
+            SchedulePresentationsResponse response = scheduleService.render(layout, options, track -> {
+                if (job.isCancelled()) {
+                    throw new CancellationException();
+                }
+                tracks.add(track);
+                job.trackDone();
+            });
+            response.setData(tracks);
+            job.succeed(response, clock.instant());
+            finished(job);
+            log.info("Schedule job {} finished with {} tracks", job.getId(), tracks.size());
+        } catch (CancellationException e) {
+            log.debug("Schedule job {} stopped after cancellation", job.getId());
+        } catch (CustomValidationException e) {
+            job.fail(e.getMessage(), e.getErrors(), clock.instant());
+            finished(job);
+        } catch (RuntimeException e) {
+            log.error("Schedule job {} failed", job.getId(), e);
+            job.fail("Scheduling failed: " + e.getMessage(), null, clock.instant());
+            finished(job);
+        } finally {
+            job.workerDone();
+        }
+    }
+
+    // Putting a finished job again starts its time to live; replace() would not, it keeps the expiry of the same instance
+    private void finished(ScheduleJob job) {
+        jobs.put(job.getId(), job);
+    }
+
+    // Package-private so tests can see jobs leave without another request
+    long jobCount() {
+        return jobs.estimatedSize();
+    }
+
+    // Queued and running jobs never expire, a finished one lives for the time to live from when it was put again
+    private static Expiry<String, ScheduleJob> finishedJobExpiry(Duration timeToLive) {
+        long timeToLiveNanos = timeToLive.toNanos();
+        return new Expiry<>() {
+            @Override
+            public long expireAfterCreate(String jobId, ScheduleJob job, long currentTime) {
+                return job.getState().isFinished() ? timeToLiveNanos : Long.MAX_VALUE;
+            }
+
+            @Override
+            public long expireAfterUpdate(String jobId, ScheduleJob job, long currentTime, long currentDuration) {
+                return expireAfterCreate(jobId, job, currentTime);
+            }
+
+            @Override
+            public long expireAfterRead(String jobId, ScheduleJob job, long currentTime, long currentDuration) {
+                return currentDuration;
+            }
+        };
+    }
+
+    private static ThreadFactory platformThreadFactory() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, THREAD_NAME_PREFIX + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
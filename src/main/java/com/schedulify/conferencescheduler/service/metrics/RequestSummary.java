@@ -0,0 +1,74 @@
+package com.schedulify.conferencescheduler.service.metrics;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * What one API request did, gathered while it runs and logged once when it completes: schedules made, their sizes
+ * and the time every phase took.
+ * <p>
+ * The summary belongs to the thread handling the request and is only written by it, so recording is a thread-local
+ * lookup and a map update. Work handed to other threads, tracks arranged in parallel or the conferences of a batch,
+ * is not recorded where it runs; phases that fan out are measured around the fan-out on the request thread instead.
+ */
+public final class RequestSummary {
+
+    private static final ThreadLocal<RequestSummary> CURRENT = new ThreadLocal<>();
+
+    private final Map<String, Long> phaseNanos = new LinkedHashMap<>();
+    private int schedules;
+    private long presentations;
+    private long tracks;
+
+    private RequestSummary() {
+    }
+
+    /**
+     * Starts the summary of the request handled by this thread.
+     */
+    public static RequestSummary start() {
+        RequestSummary summary = new RequestSummary();
+        CURRENT.set(summary);
+        return summary;
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    static void recordPhase(String phase, long elapsedNanos) {
+        RequestSummary summary = CURRENT.get();
+        if (summary != null) {
+            summary.phaseNanos.merge(phase, elapsedNanos, Long::sum);
+        }
+    }
+
+    static void recordSchedule(int presentations, int tracks) {
+        RequestSummary summary = CURRENT.get();
+        if (summary != null) {
+            summary.schedules++;
+            summary.presentations += presentations;
+            summary.tracks += tracks;
+        }
+    }
+
+    public int getSchedules() {
+        return schedules;
+    }
+
+    public long getPresentations() {
+        return presentations;
+    }
+
+    public long getTracks() {
+        return tracks;
+    }
+
+    /**
+     * Time spent in every phase, in the order the phases first ran.
+     */
+    public Map<String, Long> getPhaseNanos() {
+        return Collections.unmodifiableMap(phaseNanos);
+    }
+}
@@ -0,0 +1,176 @@
+package com.schedulify.conferencescheduler.service.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Meters of the scheduling engine.
+ * <p>
+ * Every phase is a {@code schedule.phase} timer tagged with its name, so one query shows where the latency of a
+ * request goes; filling a session happens once per session, so it has its own {@code schedule.session.fill} timer.
+ * Sessions are tagged {@code morning} or {@code afternoon} by their start, whatever the day template, which keeps
+ * the number of meters fixed however many sessions templates define. Per request quantities (input size, tracks,
+ * idle minutes) are distribution summaries rather than gauges: a gauge would only show whichever request finished
+ * last, a summary keeps count, total and maximum.
+ * All meters are created up front so recording on the hot path is a plain field access.
+ * <p>
+ * Phases timed on the request thread also go into the {@link RequestSummary} of the request, if it has one.
+ * Arranging and building run once per track, possibly in parallel, so their timers are fed per track while the
+ * summary gets the time of all tracks together through {@link #traceArrange} and {@link #traceTrackBuild}.
+ */
+@Component
+public class ScheduleMetrics {
+
+    public static final String PHASE_TIMER = "schedule.phase";
+    public static final String PHASE_VALIDATE = "validate";
+    public static final String PHASE_SORT = "sort";
+    public static final String PHASE_OPTIMIZE = "optimize";
+    public static final String PHASE_ARRANGE = "arrange";
+    public static final String PHASE_TRACK_BUILD = "track.build";
+    public static final String PHASE_RESPONSE_BUILD = "response.build";
+    // Only in request summaries, filling sessions has its own timer
+    public static final String PHASE_PLAN = "plan";
+
+    private static final String[] SESSION_NAMES = {"morning", "afternoon"};
+    private static final int NOON_MINUTE = 12 * 60;
+
+    private final Timer validateTimer;
+    private final Timer sortTimer;
+    private final Timer optimizeTimer;
+    private final Timer[] sessionFillTimers;
+    private final Timer arrangeTimer;
+    private final Timer trackBuildTimer;
+    private final Timer responseBuildTimer;
+    private final DistributionSummary inputSize;
+    private final DistributionSummary tracksProduced;
+    private final DistributionSummary[] idleMinutes;
+    private final Counter shortSessions;
+
+    public ScheduleMetrics(MeterRegistry meterRegistry) {
+        validateTimer = phaseTimer(meterRegistry, PHASE_VALIDATE);
+        sortTimer = phaseTimer(meterRegistry, PHASE_SORT);
+        optimizeTimer = phaseTimer(meterRegistry, PHASE_OPTIMIZE);
+        arrangeTimer = phaseTimer(meterRegistry, PHASE_ARRANGE);
+        trackBuildTimer = phaseTimer(meterRegistry, PHASE_TRACK_BUILD);
+        responseBuildTimer = phaseTimer(meterRegistry, PHASE_RESPONSE_BUILD);
+        sessionFillTimers = new Timer[SESSION_NAMES.length];
+        idleMinutes = new DistributionSummary[SESSION_NAMES.length];
+        for (int session = 0; session < SESSION_NAMES.length; session++) {
+            sessionFillTimers[session] = Timer.builder("schedule.session.fill")
+                    .description("Time spent filling a single session")
+                    .tag("session", SESSION_NAMES[session])
+                    .register(meterRegistry);
+            idleMinutes[session] = DistributionSummary.builder("schedule.session.idle")
+                    .description("Minutes of a session left without presentations")
+                    .baseUnit("minutes")
+                    .tag("session", SESSION_NAMES[session])
+                    .register(meterRegistry);
+        }
+        inputSize = DistributionSummary.builder("schedule.input.size")
+                .description("Presentations per schedule request")
+                .baseUnit("presentations")
+                .register(meterRegistry);
+        tracksProduced = DistributionSummary.builder("schedule.tracks")
+                .description("Tracks per schedule")
+                .baseUnit("tracks")
+                .register(meterRegistry);
+        shortSessions = Counter.builder("schedule.session.short")
+                .description("Sessions filled with minutes to spare while presentations too long for them were still waiting")
+                .register(meterRegistry);
+    }
+
+    public <T> T timeValidate(Supplier<T> step) {
+        return time(validateTimer, PHASE_VALIDATE, step);
+    }
+
+    public <T> T timeSort(Supplier<T> step) {
+        return time(sortTimer, PHASE_SORT, step);
+    }
+
+    public <T> T timeOptimize(Supplier<T> step) {
+        return time(optimizeTimer, PHASE_OPTIMIZE, step);
+    }
+
+    public <T> T timeArrange(Supplier<T> step) {
+        return arrangeTimer.record(step);
+    }
+
+    public <T> T timeTrackBuild(Supplier<T> step) {
+        return trackBuildTimer.record(step);
+    }
+
+    public <T> T timeResponseBuild(Supplier<T> step) {
+        return time(responseBuildTimer, PHASE_RESPONSE_BUILD, step);
+    }
+
+    public <T> T tracePlan(Supplier<T> step) {
+        return trace(PHASE_PLAN, step);
+    }
+
+    public <T> T traceArrange(Supplier<T> step) {
+        return trace(PHASE_ARRANGE, step);
+    }
+
+    public void traceTrackBuild(Runnable step) {
+        trace(PHASE_TRACK_BUILD, () -> {
+            step.run();
+            return null;
+        });
+    }
+
+    public void recordSessionFill(int sessionStartMinute, long elapsedNanos) {
+        sessionFillTimers[sessionIndex(sessionStartMinute)].record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordIdleMinutes(int sessionStartMinute, long minutes) {
+        idleMinutes[sessionIndex(sessionStartMinute)].record(minutes);
+    }
+
+    public void recordShortSession() {
+        shortSessions.increment();
+    }
+
+    public void recordSchedule(int presentations, int tracks) {
+        inputSize.record(presentations);
+        tracksProduced.record(tracks);
+        RequestSummary.recordSchedule(presentations, tracks);
+    }
+
+    private static <T> T time(Timer timer, String phase, Supplier<T> step) {
+        long startNanos = System.nanoTime();
+        try {
+            return step.get();
+        } finally {
+            long elapsedNanos = System.nanoTime() - startNanos;
+            timer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+            RequestSummary.recordPhase(phase, elapsedNanos);
+        }
+    }
+
+    // Wall time of a phase for the request summary only
+    private static <T> T trace(String phase, Supplier<T> step) {
+        long startNanos = System.nanoTime();
+        try {
+            return step.get();
+        } finally {
+            RequestSummary.recordPhase(phase, System.nanoTime() - startNanos);
+        }
+    }
+
+    private static int sessionIndex(int sessionStartMinute) {
+        return sessionStartMinute < NOON_MINUTE ? 0 : 1;
+    }
+
+    private static Timer phaseTimer(MeterRegistry meterRegistry, String phase) {
+        return Timer.builder(PHASE_TIMER)
+                .description("Time spent in each phase of scheduling")
+                .tag("phase", phase)
+                .register(meterRegistry);
+    }
+}
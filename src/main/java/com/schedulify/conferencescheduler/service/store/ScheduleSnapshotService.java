@@ -0,0 +1,79 @@
+package com.schedulify.conferencescheduler.service.store;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import com.schedulify.conferencescheduler.domain.dto.ScheduleLayout;
+import com.schedulify.conferencescheduler.exception.ScheduleNotFoundException;
+import com.schedulify.conferencescheduler.mapper.CompactScheduleMapper;
+import com.schedulify.conferencescheduler.web.model.v1.response.CompactScheduleResponse;
+import com.schedulify.conferencescheduler.web.model.v1.response.SchedulePresentationsResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+/**
+ * Stores schedules as snapshots in the {@link ScheduleStore} and reads them back.
+ * <p>
+ * A snapshot is the CBOR encoding of the compact schedule, the same bytes a client gets when it asks for CBOR, so
+ * reading one as CBOR hands out the stored bytes as they are and only a JSON read decodes it.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ScheduleSnapshotService {
+
+    private final ScheduleStore scheduleStore;
+    private final CompactScheduleMapper compactScheduleMapper;
+    private final ObjectMapper cborObjectMapper;
+
+    /**
+     * Stores the schedule of the layout as it was answered in {@code summary} and returns its id.
+     */
+    public String save(ScheduleLayout layout, SchedulePresentationsResponse summary) {
+        return save(compactScheduleMapper.mapToCompactResponse(layout, summary));
+    }
+
+    /**
+     * Stores a compact schedule and returns its id, which is also set on the schedule.
+     */
+    public String save(CompactScheduleResponse schedule) {
+        UUID id = UUID.randomUUID();
+        schedule.setScheduleId(id.toString());
+        try {
+            scheduleStore.append(id, cborObjectMapper.writeValueAsBytes(schedule));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not encode schedule " + id, e);
+        }
+        log.debug("Stored schedule {} with {} tracks", id, schedule.getData().size());
+        return schedule.getScheduleId();
+    }
+
+    /**
+     * The stored CBOR snapshot, a read-only view of the store's mapped log.
+     */
+    public ByteBuffer snapshot(String scheduleId) {
+        UUID id = parseId(scheduleId);
+        return scheduleStore.read(id).orElseThrow(() -> new ScheduleNotFoundException(scheduleId));
+    }
+
+    public SchedulePresentationsResponse read(String scheduleId) {
+        try {
+            CompactScheduleResponse schedule = cborObjectMapper.readValue(new ByteBufferBackedInputStream(snapshot(scheduleId)),
+                    CompactScheduleResponse.class);
+            return compactScheduleMapper.mapToResponse(schedule);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not decode schedule " + scheduleId, e);
+        }
+    }
+
+    private static UUID parseId(String scheduleId) {
+        try {
+            return UUID.fromString(scheduleId);
+        } catch (IllegalArgumentException e) {
+            throw new ScheduleNotFoundException(scheduleId);
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package com.schedulify.conferencescheduler.service.store;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.zip.CRC32;
+
+/**
+ * File-backed store of schedule snapshots: an append-only log split into memory-mapped segments, plus a
+ * memory-mapped {@link ScheduleStoreIndex} of where every snapshot starts.
+ * <p>
+ * A record is a fixed header (marker, length, CRC-32 of the snapshot and the schedule id) followed by the snapshot.
+ * Records are written into the mapped segment and are never changed again, so a read is a read-only view of the
+ * mapping and nothing is copied or decoded. A new segment is started when a record does not fit the current one.
+ * <p>
+ * Opening the store only reads the index and checks the header each entry points to, so a restart costs
+ * microseconds per stored schedule whatever their size. Records appended after the last indexed one, left by a
+ * process that stopped between writing a record and its index entry, are found by their checksum and indexed
+ * again; a torn record ends the log.
+ */
+@Slf4j
+public class ScheduleStore implements AutoCloseable {
+
+    static final int RECORD_HEADER_SIZE = 32;
+
+    private static final int RECORD_MAGIC = 0x53434852;
+    private static final String INDEX_FILE = "schedules.idx";
+    private static final String SEGMENT_FILE_FORMAT = "schedules-%06d.log";
+
+    private final Path directory;
+    private final int segmentSize;
+    private final ScheduleStoreIndex index;
+    private final List<MappedByteBuffer> segments = new CopyOnWriteArrayList<>();
+    // Segment number in the high and record offset in the low half
+    private final Map<UUID, Long> locations = new ConcurrentHashMap<>();
+    private int writePosition;
+
+    public ScheduleStore(Path directory, int segmentSize) throws IOException {
+        if (segmentSize < RECORD_HEADER_SIZE) {
+            throw new IllegalArgumentException("Segment size must be at least " + RECORD_HEADER_SIZE + " bytes");
+        }
+        long startNanos = System.nanoTime();
+        this.directory = Files.createDirectories(directory);
+        this.segmentSize = segmentSize;
+        this.index = new ScheduleStoreIndex(directory.resolve(INDEX_FILE));
+
+        for (int segment = 0; Files.exists(segmentFile(segment)); segment++) {
+            segments.add(mapSegment(segment, 0));
+        }
+        if (segments.isEmpty()) {
+            segments.add(mapSegment(0, segmentSize));
+        }
+        int recovered = recover();
+        log.info("Opened schedule store in {} with {} schedules in {} ms{}", directory, locations.size(),
+                (System.nanoTime() - startNanos) / 1_000_000, recovered > 0 ? ", " + recovered + " recovered from the log" : "");
+    }
+
+    /**
+     * Appends a snapshot under the given id. The snapshot can be read as soon as this returns.
+     */
+    public synchronized void append(UUID id, byte[] snapshot) {
+        int recordSize = RECORD_HEADER_SIZE + snapshot.length;
+        try {
+            if (writePosition + (long) recordSize > activeSegment().capacity()) {
+                // Starting a new segment, one that holds at least this record
+                segments.add(mapSegment(segments.size(), Math.max(segmentSize, recordSize)));
+                writePosition = 0;
+            }
+            int segment = segments.size() - 1;
+            MappedByteBuffer buffer = activeSegment();
+            int position = writePosition;
+
+            CRC32 crc = new CRC32();
+            crc.update(snapshot);
+            buffer.put(position + RECORD_HEADER_SIZE, snapshot);
+            buffer.putInt(position + 4, snapshot.length);
+            buffer.putInt(position + 8, (int) crc.getValue());
+            buffer.putLong(position + 16, id.getMostSignificantBits());
+            buffer.putLong(position + 24, id.getLeastSignificantBits());
+            // The marker goes last, a record without it was never completely written
+            buffer.putInt(position, RECORD_MAGIC);
+            index.add(id, segment, position);
+
+            writePosition += recordSize;
+            if (writePosition + 4 <= buffer.capacity()) {
+                // Ending the log right after this record, so leftovers of an earlier torn write are never read as a record
+                buffer.putInt(writePosition, 0);
+            }
+            locations.put(id, location(segment, position));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not append schedule " + id, e);
+        }
+    }
+
+    /**
+     * Read-only view of the stored snapshot, backed by the mapped log.
+     */
+    public Optional<ByteBuffer> read(UUID id) {
+        Long location = locations.get(id);
+        if (location == null) {
+            return Optional.empty();
+        }
+        MappedByteBuffer buffer = segments.get((int) (location >>> 32));
+        int position = (int) location.longValue();
+        return Optional.of(buffer.slice(position + RECORD_HEADER_SIZE, buffer.getInt(position + 4)).asReadOnlyBuffer());
+    }
+
+    public int size() {
+        return locations.size();
+    }
+
+    /**
+     * Loads the index and moves the write position past the last record, indexing records the index missed.
+     */
+    private int recover() throws IOException {
+        int indexed = 0;
+        while (indexed < index.count() && isRecord(index.segment(indexed), index.offset(indexed), index.id(indexed))) {
+            locations.put(index.id(indexed), location(index.segment(indexed), index.offset(indexed)));
+            indexed++;
+        }
+        if (indexed < index.count()) {
+            log.warn("Schedule store index has {} entries past the end of the log, dropping them", index.count() - indexed);
+            index.truncate(indexed);
+        }
+
+        int segment = 0;
+        int position = 0;
+        if (indexed > 0) {
+            segment = index.segment(indexed - 1);
+            position = index.offset(indexed - 1) + RECORD_HEADER_SIZE + segments.get(segment).getInt(index.offset(indexed - 1) + 4);
+        }
+        int recovered = 0;
+        while (true) {
+            while (isCompleteRecord(segment, position)) {
+                MappedByteBuffer buffer = segments.get(segment);
+                UUID id = new UUID(buffer.getLong(position + 16), buffer.getLong(position + 24));
+                index.add(id, segment, position);
+                locations.put(id, location(segment, position));
+                position += RECORD_HEADER_SIZE + buffer.getInt(position + 4);
+                recovered++;
+            }
+            if (segment == segments.size() - 1) {
+                break;
+            }
+            segment++;
+            position = 0;
+        }
+        this.writePosition = position;
+        return recovered;
+    }
+
+    // Cheap check for indexed records: the header the entry points to is there and belongs to the same schedule
+    private boolean isRecord(int segment, int position, UUID id) {
+        if (segment < 0 || segment >= segments.size() || !hasHeader(segments.get(segment), position)) {
+            return false;
+        }
+        MappedByteBuffer buffer = segments.get(segment);
+        return buffer.getLong(position + 16) == id.getMostSignificantBits() && buffer.getLong(position + 24) == id.getLeastSignificantBits();
+    }
+
+    // Full check for records nobody indexed, the snapshot has to match its checksum
+    private boolean isCompleteRecord(int segment, int position) {
+        MappedByteBuffer buffer = segments.get(segment);
+        if (!hasHeader(buffer, position)) {
+            return false;
+        }
+        CRC32 crc = new CRC32();
+        crc.update(buffer.slice(position + RECORD_HEADER_SIZE, buffer.getInt(position + 4)));
+        return (int) crc.getValue() == buffer.getInt(position + 8);
+    }
+
+    private boolean hasHeader(MappedByteBuffer buffer, int position) {
+        if (position < 0 || position > buffer.capacity() - RECORD_HEADER_SIZE || buffer.getInt(position) != RECORD_MAGIC) {
+            return false;
+        }
+        int length = buffer.getInt(position + 4);
+        return length >= 0 && length <= buffer.capacity() - RECORD_HEADER_SIZE - position;
+    }
+
+    private MappedByteBuffer activeSegment() {
+        return segments.get(segments.size() - 1);
+    }
+
+    // Maps a whole segment read-write, a new segment is created with the given size
+    private MappedByteBuffer mapSegment(int segment, int size) throws IOException {
+        try (FileChannel channel = FileChannel.open(segmentFile(segment),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            // The mapping stays valid after its channel is closed
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(size, channel.size()));
+        }
+    }
+
+    private Path segmentFile(int segment) {
+        return directory.resolve(String.format(SEGMENT_FILE_FORMAT, segment));
+    }
+
+    private static long location(int segment, int position) {
+        return (long) segment << 32 | position;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        activeSegment().force();
+        index.close();
+    }
+}
@@ -0,0 +1,102 @@
+package com.schedulify.conferencescheduler.service.store;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.UUID;
+
+/**
+ * Memory-mapped index of the schedule log: a header followed by one fixed size entry per stored schedule, in the
+ * order the schedules were appended.
+ * <p>
+ * An entry is the schedule id and where its record starts in the log. The entry count in the header is written
+ * after the entry itself, so an entry being written when the process stops is simply not counted. The file grows
+ * by doubling and is mapped again whenever it does.
+ */
+class ScheduleStoreIndex implements AutoCloseable {
+
+    static final int HEADER_SIZE = 32;
+    static final int ENTRY_SIZE = 32;
+
+    private static final int MAGIC = 0x53434958;
+    private static final int VERSION = 1;
+    private static final int COUNT_POSITION = 8;
+    private static final int INITIAL_CAPACITY = 4096;
+
+    private final FileChannel channel;
+    private MappedByteBuffer buffer;
+    private int capacity;
+    private int count;
+
+    ScheduleStoreIndex(Path file) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        long size = channel.size();
+        if (size == 0) {
+            map(INITIAL_CAPACITY);
+            buffer.putInt(0, MAGIC);
+            buffer.putInt(4, VERSION);
+            buffer.putInt(COUNT_POSITION, 0);
+            return;
+        }
+        map((int) ((size - HEADER_SIZE) / ENTRY_SIZE));
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            throw new IOException("Not a schedule store index: " + file);
+        }
+        this.count = Math.min(buffer.getInt(COUNT_POSITION), capacity);
+    }
+
+    int count() {
+        return count;
+    }
+
+    UUID id(int entry) {
+        int position = position(entry);
+        return new UUID(buffer.getLong(position), buffer.getLong(position + 8));
+    }
+
+    int segment(int entry) {
+        return buffer.getInt(position(entry) + 16);
+    }
+
+    int offset(int entry) {
+        return buffer.getInt(position(entry) + 20);
+    }
+
+    void add(UUID id, int segment, int offset) throws IOException {
+        if (count == capacity) {
+            map(capacity * 2);
+        }
+        int position = position(count);
+        buffer.putLong(position, id.getMostSignificantBits());
+        buffer.putLong(position + 8, id.getLeastSignificantBits());
+        buffer.putInt(position + 16, segment);
+        buffer.putInt(position + 20, offset);
+        buffer.putInt(COUNT_POSITION, ++count);
+    }
+
+    /**
+     * Drops every entry from {@code entry} on, used when recovery finds entries that point past the log.
+     */
+    void truncate(int entry) {
+        count = entry;
+        buffer.putInt(COUNT_POSITION, count);
+    }
+
+    private void map(int entries) throws IOException {
+        // Mapping read-write past the end of the file grows the file to the mapped size
+        this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + (long) entries * ENTRY_SIZE);
+        this.capacity = entries;
+    }
+
+    private static int position(int entry) {
+        return HEADER_SIZE + entry * ENTRY_SIZE;
+    }
+
+    @Override
+    public void close() throws IOException {
+        buffer.force();
+        channel.close();
+    }
+}
@@ -0,0 +1,47 @@
+package com.schedulify.conferencescheduler.service.time;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import org.springframework.stereotype.Service;
+
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Formats times of day from precomputed label tables instead of running a {@link DateTimeFormatter} per event.
+ * <p>
+ * The table of the configured {@code time.format.pattern} is built at startup; tables of other patterns or locales
+ * are built on first use and kept, there are only as many of them as formats being served.
+ */
+@Service
+public class TimeLabelService {
+
+    private final TimeLabelTable defaultTable;
+    private final Map<TableKey, TimeLabelTable> tables = new ConcurrentHashMap<>();
+
+    public TimeLabelService(DateTimeFormatter timeFormatter) {
+        this.defaultTable = new TimeLabelTable(timeFormatter);
+    }
+
+    /**
+     * Label of the given minute since midnight in the configured format.
+     */
+    public String label(int minuteOfDay) {
+        return defaultTable.label(minuteOfDay);
+    }
+
+    public TimeLabelTable table(String pattern, Locale locale) {
+        return tables.computeIfAbsent(new TableKey(pattern, locale),
+                key -> new TimeLabelTable(DateTimeFormatter.ofPattern(pattern, locale)));
+    }
+
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    private static final class TableKey {
+
+        private final String pattern;
+        private final Locale locale;
+    }
+}
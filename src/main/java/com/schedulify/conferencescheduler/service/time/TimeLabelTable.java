@@ -0,0 +1,27 @@
+package com.schedulify.conferencescheduler.service.time;
+
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Labels of all 1440 minutes of a day in one format, computed once so formatting an event time is an array lookup.
+ */
+public class TimeLabelTable {
+
+    public static final int MINUTES_PER_DAY = 24 * 60;
+
+    private final String[] labels = new String[MINUTES_PER_DAY];
+
+    public TimeLabelTable(DateTimeFormatter formatter) {
+        for (int minuteOfDay = 0; minuteOfDay < MINUTES_PER_DAY; minuteOfDay++) {
+            labels[minuteOfDay] = LocalTime.ofSecondOfDay(minuteOfDay * 60L).format(formatter);
+        }
+    }
+
+    /**
+     * Label of the given minute since midnight; minute 1440, the end of a day, is labeled as midnight.
+     */
+    public String label(int minuteOfDay) {
+        return labels[Math.floorMod(minuteOfDay, MINUTES_PER_DAY)];
+    }
+}
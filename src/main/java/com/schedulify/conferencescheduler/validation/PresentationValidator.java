@@ -0,0 +1,168 @@
+package com.schedulify.conferencescheduler.validation;
+
+import com.schedulify.conferencescheduler.domain.dto.ValidatedPresentations;
+import com.schedulify.conferencescheduler.exception.CustomValidationException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Single validate-and-parse pass over the presentations of one request.
+ * <p>
+ * Presentations are fed one at a time, so the same stage serves bound request bodies and streamed ones.
+ * Each subject is trimmed once and each duration is scanned by hand, without regular expressions; the parsed
+ * minutes are handed on so nothing downstream parses them again, with lightning talks flagged. By default the first invalid presentation
+ * fails the request, optionally all errors are gathered and reported together.
+ */
+public class PresentationValidator {
+
+    public static final int LIGHTNING_DURATION_IN_MINUTES = 5;
+    public static final int MAX_DURATION_IN_MINUTES = 240;
+    public static final int MAX_REPORTED_ERRORS = 100;
+
+    static final String SUBJECT_TOO_SHORT = "The subject must contain at least two non-whitespace characters";
+    static final String DURATION_EMPTY = "Duration cannot be empty";
+    static final String DURATION_INVALID = "Duration must be a positive integer or 'lightning', 'LIGHTNING', or 'Lightning'";
+    static final String DURATION_OUT_OF_RANGE = "Duration must be between 1 and " + MAX_DURATION_IN_MINUTES + " minutes";
+    static final String DUPLICATE_SUBJECT = "Duplicate presentation subject: ";
+
+    private static final int INVALID_DURATION = -1;
+    private static final String LIGHTNING = "lightning";
+
+    private final boolean collectAllErrors;
+    private final Set<String> subjects;
+    private final List<String> errors = new ArrayList<>();
+    private String firstError;
+    private int errorCount;
+
+    private String[] validSubjects;
+    private int[] durationsInMinutes;
+    // Only allocated with the first lightning talk
+    private boolean[] lightning;
+    private int position;
+    private int size;
+
+    public PresentationValidator(int expectedSize, boolean collectAllErrors) {
+        int capacity = Math.max(expectedSize, 16);
+        this.collectAllErrors = collectAllErrors;
+        this.subjects = new HashSet<>((int) (capacity / 0.75f) + 1);
+        this.validSubjects = new String[capacity];
+        this.durationsInMinutes = new int[capacity];
+    }
+
+    /**
+     * Validates the next presentation; fails immediately unless all errors are collected.
+     */
+    public void accept(String subject, String duration) {
+        String trimmedSubject = subject == null ? "" : subject.trim();
+        int durationInMinutes = parseDuration(duration);
+        String error = null;
+
+        if (trimmedSubject.length() < 2) {
+            error = SUBJECT_TOO_SHORT;
+        } else if (duration == null || duration.trim().isEmpty()) {
+            error = DURATION_EMPTY;
+        } else if (durationInMinutes == INVALID_DURATION) {
+            error = DURATION_INVALID;
+        } else if (!subjects.add(trimmedSubject)) {
+            error = DUPLICATE_SUBJECT + trimmedSubject;
+        } else if (durationInMinutes <= 0 || durationInMinutes > MAX_DURATION_IN_MINUTES) {
+            error = DURATION_OUT_OF_RANGE;
+        }
+
+        if (error != null) {
+            reject(error);
+        } else {
+            add(trimmedSubject, durationInMinutes, isLightning(duration));
+        }
+        position++;
+    }
+
+    /**
+     * Returns the validated presentations, or throws with every collected error.
+     */
+    public ValidatedPresentations finish() {
+        return finish(true);
+    }
+
+    /**
+     * Returns the validated presentations; with collected errors, throws either all of them or only the first one
+     * as a fail-fast validation would have. Lets streamed requests decide on the error mode after reading.
+     */
+    public ValidatedPresentations finish(boolean reportAllErrors) {
+        if (errorCount > 0) {
+            if (!reportAllErrors) {
+                throw new CustomValidationException(firstError);
+            }
+            String message = errorCount == 1 ? errors.get(0) : "Validation failed with " + errorCount + " errors";
+            throw new CustomValidationException(message, List.copyOf(errors));
+        }
+        if (validSubjects.length != size) {
+            validSubjects = Arrays.copyOf(validSubjects, size);
+            durationsInMinutes = Arrays.copyOf(durationsInMinutes, size);
+            lightning = lightning == null ? null : Arrays.copyOf(lightning, size);
+        }
+        return new ValidatedPresentations(validSubjects, durationsInMinutes, lightning, null);
+    }
+
+    /**
+     * Minutes of a duration that is either all digits or 'lightning' in any case; {@code -1} for anything else.
+     * Values beyond the allowed range saturate instead of overflowing.
+     */
+    public static int parseDuration(String duration) {
+        if (duration == null || duration.isEmpty()) {
+            return INVALID_DURATION;
+        }
+        if (duration.length() == LIGHTNING.length() && duration.equalsIgnoreCase(LIGHTNING)) {
+            return LIGHTNING_DURATION_IN_MINUTES;
+        }
+        int minutes = 0;
+        for (int i = 0; i < duration.length(); i++) {
+            char c = duration.charAt(i);
+            if (c < '0' || c > '9') {
+                return INVALID_DURATION;
+            }
+            minutes = Math.min(minutes * 10 + (c - '0'), MAX_DURATION_IN_MINUTES + 1);
+        }
+        return minutes;
+    }
+
+    // Only called for valid durations, whose first character tells digits from 'lightning'
+    private static boolean isLightning(String duration) {
+        char first = duration.charAt(0);
+        return first < '0' || first > '9';
+    }
+
+    private void reject(String error) {
+        if (!collectAllErrors) {
+            throw new CustomValidationException(error);
+        }
+        if (firstError == null) {
+            firstError = error;
+        }
+        if (errorCount < MAX_REPORTED_ERRORS) {
+            errors.add("presentations[" + position + "]: " + error);
+        }
+        errorCount++;
+    }
+
+    private void add(String subject, int durationInMinutes, boolean lightningTalk) {
+        if (size == validSubjects.length) {
+            validSubjects = Arrays.copyOf(validSubjects, size * 2);
+            durationsInMinutes = Arrays.copyOf(durationsInMinutes, size * 2);
+            lightning = lightning == null ? null : Arrays.copyOf(lightning, size * 2);
+        }
+        if (lightningTalk && lightning == null) {
+            lightning = new boolean[validSubjects.length];
+        }
+        validSubjects[size] = subject;
+        durationsInMinutes[size] = durationInMinutes;
+        if (lightningTalk) {
+            lightning[size] = true;
+        }
+        size++;
+    }
+}
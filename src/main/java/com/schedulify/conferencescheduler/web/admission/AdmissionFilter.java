@@ -0,0 +1,106 @@
+package com.schedulify.conferencescheduler.web.admission;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.schedulify.conferencescheduler.service.admission.AdmissionControl;
+import com.schedulify.conferencescheduler.web.model.v1.response.BaseResponse;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+/**
+ * First line of admission control for the API, run before a handler is picked or the body is read: rate limited
+ * clients get 429 and bodies declared larger than allowed get 413 without a byte of them being read. Bodies sent
+ * without a length are counted while they are read instead. The streaming endpoint has a body limit of its own.
+ * <p>
+ * Whatever share of the cost budget the request is admitted into later on is given back here once the response
+ * is complete, also for responses that are streamed, unless the handler hands it over to work that outlives the
+ * response.
+ */
+@Component
+@RequiredArgsConstructor
+public class AdmissionFilter extends OncePerRequestFilter {
+
+    private static final String PERMIT_ATTRIBUTE = AdmissionFilter.class.getName() + ".permit";
+    private static final String STREAM_PATH = "/api/v1/schedule/stream";
+
+    private final AdmissionControl admissionControl;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Keeps the permit until the response of the request is complete.
+     */
+    public static void holdUntilComplete(HttpServletRequest request, AdmissionControl.Permit permit) {
+        request.setAttribute(PERMIT_ATTRIBUTE, permit);
+    }
+
+    /**
+     * Passes the permit of the request, if it holds one, to work that goes on after the response, which then has to
+     * close it.
+     */
+    public static void handOver(HttpServletRequest request, Consumer<AdmissionControl.Permit> holder) {
+        if (request.getAttribute(PERMIT_ATTRIBUTE) instanceof AdmissionControl.Permit permit) {
+            request.removeAttribute(PERMIT_ATTRIBUTE);
+            holder.accept(permit);
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !admissionControl.isEnabled() || !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (admissionControl.isRateLimited() && !admissionControl.tryAcquireRate(clientOf(request))) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(admissionControl.retryAfterSeconds()));
+            reject(response, HttpStatus.TOO_MANY_REQUESTS, "Too many requests, retry later");
+            return;
+        }
+        long maxBodyBytes = request.getRequestURI().equals(STREAM_PATH) ? admissionControl.maxStreamedBodyBytes() : admissionControl.maxBodyBytes();
+        long contentLength = request.getContentLengthLong();
+        if (contentLength > maxBodyBytes) {
+            admissionControl.reject(AdmissionControl.Reason.BODY_SIZE);
+            reject(response, HttpStatus.PAYLOAD_TOO_LARGE, "Request body is larger than " + maxBodyBytes + " bytes");
+            return;
+        }
+
+        try {
+            filterChain.doFilter(contentLength < 0 ? new SizeLimitedRequest(request, maxBodyBytes, admissionControl) : request, response);
+        } finally {
+            if (request.getAttribute(PERMIT_ATTRIBUTE) instanceof AdmissionControl.Permit permit) {
+                permit.close();
+            }
+        }
+    }
+
+    private String clientOf(HttpServletRequest request) {
+        String clientHeader = admissionControl.clientHeader();
+        String client = StringUtils.hasText(clientHeader) ? request.getHeader(clientHeader) : null;
+        return StringUtils.hasText(client) ? client : request.getRemoteAddr();
+    }
+
+    private void reject(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        BaseResponse<Object> body = BaseResponse.builder()
+                .status("Error")
+                .message(message)
+                .timestamp(LocalDateTime.now())
+                .data(null)
+                .build();
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), body);
+    }
+}
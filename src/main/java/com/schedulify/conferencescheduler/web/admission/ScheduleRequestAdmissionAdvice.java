@@ -0,0 +1,60 @@
+package com.schedulify.conferencescheduler.web.admission;
+
+import com.schedulify.conferencescheduler.service.admission.AdmissionControl;
+import com.schedulify.conferencescheduler.web.model.v1.request.SchedulePresentationsRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.mvc.method.annotation.RequestBodyAdviceAdapter;
+
+import java.lang.reflect.Type;
+import java.util.List;
+
+/**
+ * Admits bound schedule requests, single or as a batch, into the cost budget right after their body is read and
+ * before the handler runs. The permit is held by {@link AdmissionFilter} until the response is complete, or by the
+ * background job a submitted request turns into until that job is finished.
+ */
+@ControllerAdvice
+@RequiredArgsConstructor
+public class ScheduleRequestAdmissionAdvice extends RequestBodyAdviceAdapter {
+
+    private final AdmissionControl admissionControl;
+
+    @Override
+    public boolean supports(MethodParameter methodParameter, Type targetType, Class<? extends HttpMessageConverter<?>> converterType) {
+        if (!admissionControl.isEnabled()) {
+            return false;
+        }
+        ResolvableType type = ResolvableType.forType(targetType);
+        return SchedulePresentationsRequest.class.isAssignableFrom(type.toClass())
+                || (List.class.isAssignableFrom(type.toClass()) && type.getGeneric(0).toClass() == SchedulePresentationsRequest.class);
+    }
+
+    @Override
+    public Object afterBodyRead(Object body, HttpInputMessage inputMessage, MethodParameter parameter, Type targetType,
+                                Class<? extends HttpMessageConverter<?>> converterType) {
+        long cost = 0;
+        if (body instanceof SchedulePresentationsRequest request) {
+            cost = cost(request);
+        } else if (body instanceof List<?> requests) {
+            for (Object request : requests) {
+                cost += request instanceof SchedulePresentationsRequest scheduleRequest ? cost(scheduleRequest) : 0;
+            }
+        }
+        AdmissionControl.Permit permit = admissionControl.admit(cost);
+        AdmissionFilter.holdUntilComplete(((ServletRequestAttributes) RequestContextHolder.currentRequestAttributes()).getRequest(), permit);
+        return body;
+    }
+
+    private long cost(SchedulePresentationsRequest request) {
+        int presentations = request.getPresentations() == null ? 0 : request.getPresentations().size();
+        admissionControl.checkPresentations(presentations);
+        return admissionControl.cost(presentations, request.getStrategy());
+    }
+}
@@ -0,0 +1,95 @@
+package com.schedulify.conferencescheduler.web.admission;
+
+import com.schedulify.conferencescheduler.exception.PayloadTooLargeException;
+import com.schedulify.conferencescheduler.service.admission.AdmissionControl;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Request whose body fails with {@link PayloadTooLargeException} as soon as more than the allowed bytes are read,
+ * for bodies sent without a Content-Length.
+ */
+class SizeLimitedRequest extends HttpServletRequestWrapper {
+
+    private final long maxBodyBytes;
+    private final AdmissionControl admissionControl;
+    private ServletInputStream inputStream;
+
+    SizeLimitedRequest(HttpServletRequest request, long maxBodyBytes, AdmissionControl admissionControl) {
+        super(request);
+        this.maxBodyBytes = maxBodyBytes;
+        this.admissionControl = admissionControl;
+    }
+
+    @Override
+    public ServletInputStream getInputStream() throws IOException {
+        if (inputStream == null) {
+            inputStream = new LimitedInputStream(super.getInputStream());
+        }
+        return inputStream;
+    }
+
+    @Override
+    public BufferedReader getReader() throws IOException {
+        String encoding = getCharacterEncoding();
+        return new BufferedReader(new InputStreamReader(getInputStream(), encoding != null ? encoding : StandardCharsets.UTF_8.name()));
+    }
+
+    private class LimitedInputStream extends ServletInputStream {
+
+        private final ServletInputStream delegate;
+        private long bytesRead;
+
+        LimitedInputStream(ServletInputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int value = delegate.read();
+            if (value >= 0) {
+                count(1);
+            }
+            return value;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = delegate.read(buffer, offset, length);
+            if (read > 0) {
+                count(read);
+            }
+            return read;
+        }
+
+        private void count(int read) {
+            bytesRead += read;
+            if (bytesRead > maxBodyBytes) {
+                admissionControl.reject(AdmissionControl.Reason.BODY_SIZE);
+                throw new PayloadTooLargeException("Request body is larger than " + maxBodyBytes + " bytes");
+            }
+        }
+
+        @Override
+        public boolean isFinished() {
+            return delegate.isFinished();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setReadListener(ReadListener readListener) {
+            delegate.setReadListener(readListener);
+        }
+    }
+}
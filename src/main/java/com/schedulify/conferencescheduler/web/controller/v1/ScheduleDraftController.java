@@ -0,0 +1,79 @@
+package com.schedulify.conferencescheduler.web.controller.v1;
+
+import com.schedulify.conferencescheduler.mapper.ScheduleDraftMapper;
+import com.schedulify.conferencescheduler.service.draft.DraftSnapshot;
+import com.schedulify.conferencescheduler.service.draft.ScheduleDraftService;
+import com.schedulify.conferencescheduler.web.model.v1.request.ScheduleDraftPatchRequest;
+import com.schedulify.conferencescheduler.web.model.v1.request.SchedulePresentationsRequest;
+import com.schedulify.conferencescheduler.web.model.v1.response.ScheduleDraftResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+@Slf4j
+@RestController
+@Validated
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/schedule/drafts")
+public class ScheduleDraftController {
+
+    private final ScheduleDraftService scheduleDraftService;
+    private final ScheduleDraftMapper scheduleDraftMapper;
+
+    @Operation(summary = "Create a schedule draft", description = "Schedules the presentations and keeps the schedule so it can be patched one presentation at a time")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Draft created"),
+            @ApiResponse(responseCode = "400", description = "Invalid input data")
+    })
+    @PostMapping(
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ScheduleDraftResponse> createDraft(@RequestBody SchedulePresentationsRequest request) {
+        DraftSnapshot draft = scheduleDraftService.create(request);
+        return ResponseEntity.created(ServletUriComponentsBuilder.fromCurrentRequest().path("/{id}").buildAndExpand(draft.getId()).toUri())
+                .body(scheduleDraftMapper.mapToResponse(draft));
+    }
+
+    @Operation(summary = "Get a schedule draft", description = "Returns every track of the draft")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Draft found"),
+            @ApiResponse(responseCode = "404", description = "Draft not found or expired")
+    })
+    @GetMapping(value = "/{draftId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ScheduleDraftResponse> getDraft(@PathVariable String draftId) {
+        return ResponseEntity.ok(scheduleDraftMapper.mapToResponse(scheduleDraftService.get(draftId)));
+    }
+
+    @Operation(summary = "Patch a schedule draft", description = "Adds, removes or updates presentations without scheduling the draft again; returns what moved and the tracks that changed")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Patch applied"),
+            @ApiResponse(responseCode = "400", description = "Invalid change, nothing was applied"),
+            @ApiResponse(responseCode = "404", description = "Draft not found or expired")
+    })
+    @PatchMapping(
+            value = "/{draftId}",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ScheduleDraftResponse> patchDraft(@PathVariable String draftId, @Valid @RequestBody ScheduleDraftPatchRequest patch) {
+        return ResponseEntity.ok(scheduleDraftMapper.mapToResponse(scheduleDraftService.patch(draftId, patch)));
+    }
+
+    @Operation(summary = "Delete a schedule draft")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Draft deleted"),
+            @ApiResponse(responseCode = "404", description = "Draft not found or expired")
+    })
+    @DeleteMapping(value = "/{draftId}")
+    public ResponseEntity<Void> deleteDraft(@PathVariable String draftId) {
+        scheduleDraftService.delete(draftId);
+        return ResponseEntity.noContent().build();
+    }
+}
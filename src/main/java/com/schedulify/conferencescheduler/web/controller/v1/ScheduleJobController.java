@@ -0,0 +1,68 @@
+package com.schedulify.conferencescheduler.web.controller.v1;
+
+import com.schedulify.conferencescheduler.mapper.ScheduleJobMapper;
+import com.schedulify.conferencescheduler.service.job.ScheduleJob;
+import com.schedulify.conferencescheduler.service.job.ScheduleJobService;
+import com.schedulify.conferencescheduler.web.admission.AdmissionFilter;
+import com.schedulify.conferencescheduler.web.model.v1.request.SchedulePresentationsRequest;
+import com.schedulify.conferencescheduler.web.model.v1.response.ScheduleJobResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+@Slf4j
+@RestController
+@Validated
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/schedule/jobs")
+public class ScheduleJobController {
+
+    private final ScheduleJobService scheduleJobService;
+    private final ScheduleJobMapper scheduleJobMapper;
+
+    @Operation(summary = "Submit a schedule job", description = "Validates the presentations and schedules them in the background; poll the returned job for progress and result")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Job accepted"),
+            @ApiResponse(responseCode = "400", description = "Invalid input data"),
+            @ApiResponse(responseCode = "429", description = "Too many jobs waiting, retry later")
+    })
+    @PostMapping(
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ScheduleJobResponse> submitJob(@RequestBody SchedulePresentationsRequest request, HttpServletRequest servletRequest) {
+        ScheduleJob job = scheduleJobService.submit(request);
+        // The job keeps the request's share of the cost budget until it is finished, not just until the 202 is sent
+        AdmissionFilter.handOver(servletRequest, job::holdUntilFinished);
+        return ResponseEntity.accepted()
+                .location(ServletUriComponentsBuilder.fromCurrentRequest().path("/{id}").buildAndExpand(job.getId()).toUri())
+                .body(scheduleJobMapper.mapToResponse(job));
+    }
+
+    @Operation(summary = "Get a schedule job", description = "Returns the state and progress of a job, and the schedule once it succeeded")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Job found"),
+            @ApiResponse(responseCode = "404", description = "Job not found or expired")
+    })
+    @GetMapping(value = "/{jobId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ScheduleJobResponse> getJob(@PathVariable String jobId) {
+        return ResponseEntity.ok(scheduleJobMapper.mapToResponse(scheduleJobService.get(jobId)));
+    }
+
+    @Operation(summary = "Cancel a schedule job", description = "Cancels a queued or running job; finished jobs are left as they are")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Job cancelled or already finished"),
+            @ApiResponse(responseCode = "404", description = "Job not found or expired")
+    })
+    @DeleteMapping(value = "/{jobId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ScheduleJobResponse> cancelJob(@PathVariable String jobId) {
+        return ResponseEntity.ok(scheduleJobMapper.mapToResponse(scheduleJobService.cancel(jobId)));
+    }
+}
@@ -1,19 +1,52 @@
 package com.schedulify.conferencescheduler.web.controller.v1;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.schedulify.conferencescheduler.config.BinaryFormatConfig;
+import com.schedulify.conferencescheduler.domain.dto.ScheduleLayout;
+import com.schedulify.conferencescheduler.domain.dto.ValidatedPresentations;
+import com.schedulify.conferencescheduler.exception.ScheduleNotFoundException;
+import com.schedulify.conferencescheduler.mapper.CompactScheduleMapper;
 import com.schedulify.conferencescheduler.service.ScheduleService;
+import com.schedulify.conferencescheduler.service.admission.AdmissionControl;
+import com.schedulify.conferencescheduler.service.batch.ScheduleBatchService;
+import com.schedulify.conferencescheduler.service.store.ScheduleSnapshotService;
+import com.schedulify.conferencescheduler.web.admission.AdmissionFilter;
+import com.schedulify.conferencescheduler.web.logging.PayloadLogger;
 import com.schedulify.conferencescheduler.web.model.v1.request.SchedulePresentationsRequest;
+import com.schedulify.conferencescheduler.web.model.v1.response.CompactScheduleResponse;
+import com.schedulify.conferencescheduler.web.model.v1.response.ScheduleBatchResponse;
 import com.schedulify.conferencescheduler.web.model.v1.response.SchedulePresentationsResponse;
+import com.schedulify.conferencescheduler.web.stream.NdjsonWriter;
+import com.schedulify.conferencescheduler.web.stream.ScheduleRequestStreamReader;
+import com.schedulify.conferencescheduler.web.stream.StreamedScheduleRequest;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.util.MimeTypeUtils;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.RequestMapping;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
 @Slf4j
 @RestController
 @Validated
@@ -21,22 +54,203 @@ import org.springframework.web.bind.annotation.RequestMapping;
 @RequestMapping("/api/v1/schedule")
 public class SchedulerController {
 
+    private static final List<MediaType> BINARY_TYPES =
+            List.of(MediaType.APPLICATION_CBOR, MediaType.valueOf(BinaryFormatConfig.APPLICATION_SMILE_VALUE));
+
     private final ScheduleService scheduleService;
+    private final ScheduleBatchService scheduleBatchService;
+    private final ScheduleRequestStreamReader scheduleRequestStreamReader;
+    private final ObjectMapper objectMapper;
+    private final CompactScheduleMapper compactScheduleMapper;
+    private final AdmissionControl admissionControl;
+    private final PayloadLogger payloadLogger;
+    // Only present when the schedule store is enabled
+    private final Optional<ScheduleSnapshotService> scheduleSnapshotService;
+
+    @Operation(summary = "Schedule presentations",
+            description = "Schedules presentations for the conference. Answers JSON unless the Accept header prefers CBOR or Smile, "
+                    + "which get the same schedule without the event wrapper, with times as minutes since midnight and event "
+                    + "types as ordinals")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully scheduled presentations",
+                    content = {
+                            @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = SchedulePresentationsResponse.class)),
+                            @Content(mediaType = MediaType.APPLICATION_CBOR_VALUE, schema = @Schema(implementation = CompactScheduleResponse.class)),
+                            @Content(mediaType = BinaryFormatConfig.APPLICATION_SMILE_VALUE, schema = @Schema(implementation = CompactScheduleResponse.class))
+                    }),
+            @ApiResponse(responseCode = "400", description = "Invalid input data")
+    })
+    @PostMapping(
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, BinaryFormatConfig.APPLICATION_SMILE_VALUE},
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, BinaryFormatConfig.APPLICATION_SMILE_VALUE})
+    public ResponseEntity<?> schedulePresentations(@RequestBody SchedulePresentationsRequest request,
+                                                   @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        Optional<MediaType> binaryType = preferredBinaryType(accept);
+        if (binaryType.isPresent()) {
+            CompactScheduleResponse compactScheduleResponse = compactScheduleMapper.mapToCompactResponse(scheduleService.layout(request));
+            scheduleSnapshotService.ifPresent(snapshots -> snapshots.save(compactScheduleResponse));
+            return ResponseEntity.ok().contentType(binaryType.get()).body(compactScheduleResponse);
+        }
+        payloadLogger.debug(log, "Received schedule presentations request", request);
+        SchedulePresentationsResponse schedulePresentationsResponse = scheduleSnapshotService.isPresent()
+                ? scheduleAndStore(request, scheduleSnapshotService.get())
+                : scheduleService.schedule(request);
+        payloadLogger.debug(log, "Schedule service response", schedulePresentationsResponse);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(schedulePresentationsResponse);
+    }
+
+    @Operation(summary = "Get a stored schedule", description = "Reads a schedule stored when it was scheduled, needs the schedule store to be enabled")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Schedule found"),
+            @ApiResponse(responseCode = "404", description = "Schedule not found or schedule store disabled")
+    })
+    @GetMapping(value = "/{scheduleId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<SchedulePresentationsResponse> getSchedule(@PathVariable String scheduleId) {
+        return ResponseEntity.ok(storedSchedules(scheduleId).read(scheduleId));
+    }
+
+    @Operation(summary = "Get a stored schedule in the compact CBOR encoding",
+            description = "Writes the stored snapshot as it is, without decoding it; needs the schedule store to be enabled")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Schedule found"),
+            @ApiResponse(responseCode = "404", description = "Schedule not found or schedule store disabled")
+    })
+    @GetMapping(value = "/{scheduleId}", produces = MediaType.APPLICATION_CBOR_VALUE)
+    public void getScheduleSnapshot(@PathVariable String scheduleId, HttpServletResponse httpResponse) throws IOException {
+        ByteBuffer snapshot = storedSchedules(scheduleId).snapshot(scheduleId);
+        httpResponse.setContentType(MediaType.APPLICATION_CBOR_VALUE);
+        httpResponse.setContentLength(snapshot.remaining());
+        // Writing straight from the mapped log, the snapshot is never copied into the heap as a whole
+        WritableByteChannel channel = Channels.newChannel(httpResponse.getOutputStream());
+        while (snapshot.hasRemaining()) {
+            channel.write(snapshot);
+        }
+    }
+
+    @Operation(summary = "Schedule presentations track by track",
+            description = "Writes every track as its own JSON line as soon as it is scheduled, followed by a last line "
+                    + "with the status and message of the schedule; optimized, parallel and lightning block schedules are "
+                    + "settled as a whole before their first track is written")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully scheduled presentations"),
+            @ApiResponse(responseCode = "400", description = "Invalid input data")
+    })
+    @PostMapping(
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void schedulePresentationsAsStream(@RequestBody SchedulePresentationsRequest request, HttpServletResponse httpResponse) throws IOException {
+        payloadLogger.debug(log, "Received schedule presentations request for a streamed response", request);
+        writeTracks(scheduleService.validate(request), request, httpResponse);
+    }
 
-    @Operation(summary = "Schedule presentations", description = "Schedules presentations for the conference")
+    @Operation(summary = "Schedule a batch of conferences",
+            description = "Schedules every request of the array on its own, in parallel; results keep the order of the requests "
+                    + "and a failing request is reported in place of its schedule without failing the others")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Batch processed, see each result for its outcome"),
+            @ApiResponse(responseCode = "400", description = "Malformed or oversized batch")
+    })
+    @PostMapping(
+            value = "/batch",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ScheduleBatchResponse> scheduleBatch(@RequestBody List<SchedulePresentationsRequest> requests) {
+        ScheduleBatchResponse scheduleBatchResponse = scheduleBatchService.schedule(requests);
+        payloadLogger.debug(log, "Schedule batch response", scheduleBatchResponse);
+        return ResponseEntity.ok(scheduleBatchResponse);
+    }
+
+    @Operation(summary = "Schedule presentations from a streamed request",
+            description = "Same as scheduling presentations, but the request body is read and validated presentation by presentation "
+                    + "instead of being bound as a whole; meant for very large requests")
+    @io.swagger.v3.oas.annotations.parameters.RequestBody(
+            content = @Content(schema = @Schema(implementation = SchedulePresentationsRequest.class)))
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully scheduled presentations"),
             @ApiResponse(responseCode = "400", description = "Invalid input data")
     })
     @PostMapping(
+            value = "/stream",
             consumes = MediaType.APPLICATION_JSON_VALUE,
             produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<SchedulePresentationsResponse> schedulePresentations(@RequestBody SchedulePresentationsRequest request) {
-        log.debug("Received schedule presentations request: {}", request);
-        //TODO response debug log will be added here
-        SchedulePresentationsResponse schedulePresentationsResponse = scheduleService.schedule(request);
-        log.debug("Schedule service response: {}", schedulePresentationsResponse);
+    public ResponseEntity<SchedulePresentationsResponse> scheduleStreamedPresentations(HttpServletRequest httpRequest) throws IOException {
+        StreamedScheduleRequest request = readStreamedRequest(httpRequest);
+        SchedulePresentationsResponse schedulePresentationsResponse = scheduleService.schedule(request.getPresentations(), request.getOptions());
+        payloadLogger.debug(log, "Schedule service response", schedulePresentationsResponse);
         return ResponseEntity.ok(schedulePresentationsResponse);
     }
 
+    @Operation(summary = "Schedule presentations from a streamed request track by track",
+            description = "Reads the request presentation by presentation and writes every track as its own JSON line "
+                    + "as soon as it is scheduled, followed by a last line with the status and message of the schedule; "
+                    + "optimized, parallel and lightning block schedules are settled as a whole before their first track is written")
+    @io.swagger.v3.oas.annotations.parameters.RequestBody(
+            content = @Content(schema = @Schema(implementation = SchedulePresentationsRequest.class)))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully scheduled presentations"),
+            @ApiResponse(responseCode = "400", description = "Invalid input data")
+    })
+    @PostMapping(
+            value = "/stream",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void scheduleStreamedPresentationsAsStream(HttpServletRequest httpRequest, HttpServletResponse httpResponse) throws IOException {
+        StreamedScheduleRequest request = readStreamedRequest(httpRequest);
+        writeTracks(request.getPresentations(), request.getOptions(), httpResponse);
+    }
+
+    // Scheduling into a layout first, so the response and the stored snapshot are built from the same schedule
+    private SchedulePresentationsResponse scheduleAndStore(SchedulePresentationsRequest request, ScheduleSnapshotService snapshots) {
+        ScheduleLayout layout = scheduleService.layout(request);
+        List<SchedulePresentationsResponse.Track> tracks = new ArrayList<>(layout.trackCount());
+        SchedulePresentationsResponse schedulePresentationsResponse = scheduleService.render(layout, request, tracks::add);
+        schedulePresentationsResponse.setData(tracks);
+        schedulePresentationsResponse.setScheduleId(snapshots.save(layout, schedulePresentationsResponse));
+        return schedulePresentationsResponse;
+    }
+
+    // A binary encoding only when the client ranks it above JSON; no Accept header and wildcards mean JSON
+    private static Optional<MediaType> preferredBinaryType(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return Optional.empty();
+        }
+        List<MediaType> acceptedTypes = MediaType.parseMediaTypes(accept);
+        MimeTypeUtils.sortBySpecificity(acceptedTypes);
+        for (MediaType acceptedType : acceptedTypes) {
+            if (acceptedType.includes(MediaType.APPLICATION_JSON)) {
+                return Optional.empty();
+            }
+            for (MediaType binaryType : BINARY_TYPES) {
+                if (acceptedType.includes(binaryType)) {
+                    return Optional.of(binaryType);
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    private ScheduleSnapshotService storedSchedules(String scheduleId) {
+        return scheduleSnapshotService.orElseThrow(() -> new ScheduleNotFoundException(scheduleId));
+    }
+
+    private StreamedScheduleRequest readStreamedRequest(HttpServletRequest httpRequest) throws IOException {
+        try {
+            StreamedScheduleRequest request = scheduleRequestStreamReader.read(httpRequest.getInputStream());
+            log.debug("Read streamed schedule request with {} valid presentations", request.getPresentations().size());
+            AdmissionFilter.holdUntilComplete(httpRequest,
+                    admissionControl.admitStreamed(request.getPresentations().size(), request.getOptions().getStrategy()));
+            return request;
+        } catch (JsonProcessingException e) {
+            throw new HttpMessageNotReadableException(e.getOriginalMessage(), e, new ServletServerHttpRequest(httpRequest));
+        }
+    }
+
+    private void writeTracks(ValidatedPresentations presentations, SchedulePresentationsRequest options, HttpServletResponse httpResponse) throws IOException {
+        // Presentations are validated by now, so nothing is written before a validation error could still be reported as JSON
+        httpResponse.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        try (NdjsonWriter writer = new NdjsonWriter(objectMapper, httpResponse.getOutputStream())) {
+            SchedulePresentationsResponse summary = scheduleService.schedule(presentations, options, writer::writeUnchecked);
+            writer.write(summary);
+        }
+    }
 }
@@ -0,0 +1,100 @@
+package com.schedulify.conferencescheduler.web.logging;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Logs request and response payloads at DEBUG, on the logger of the caller, without letting them dominate a request.
+ * <p>
+ * Only a sample of the requests is logged, and a payload is written as JSON up to a maximum length: serializing
+ * stops as soon as the limit is reached, so logging a schedule of thousands of tracks costs as much as logging a
+ * small one. Nothing is sampled or serialized while DEBUG is off for the caller.
+ */
+@Component
+public class PayloadLogger {
+
+    private final ObjectMapper objectMapper;
+    private final double sampleRate;
+    private final int maxLength;
+
+    @Autowired
+    public PayloadLogger(ObjectMapper objectMapper,
+                         @Value("${schedule.logging.payload.sample-rate:0.01}") double sampleRate,
+                         @Value("${schedule.logging.payload.max-length:4096}") int maxLength) {
+        this.objectMapper = objectMapper;
+        this.sampleRate = sampleRate;
+        this.maxLength = maxLength;
+    }
+
+    public void debug(Logger logger, String message, Object payload) {
+        if (logger.isDebugEnabled() && isSampled()) {
+            logger.debug("{}: {}", message, truncate(payload));
+        }
+    }
+
+    private boolean isSampled() {
+        return sampleRate >= 1 || ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+
+    String truncate(Object payload) {
+        LimitedWriter writer = new LimitedWriter(maxLength);
+        try {
+            objectMapper.writeValue(writer, payload);
+        } catch (IOException e) {
+            if (!writer.isFull()) {
+                return "<payload not serializable: " + e.getMessage() + ">";
+            }
+            // Serializing was cut off at the limit, however the mapper wrapped that
+        }
+        return writer.isFull() ? writer + "... (truncated at " + maxLength + " characters)" : writer.toString();
+    }
+
+    /**
+     * Keeps the first characters written to it and fails every write past them.
+     */
+    private static final class LimitedWriter extends Writer {
+
+        private final StringBuilder buffer;
+        private final int maxLength;
+        private boolean full;
+
+        private LimitedWriter(int maxLength) {
+            this.buffer = new StringBuilder(Math.min(maxLength, 1024));
+            this.maxLength = maxLength;
+        }
+
+        @Override
+        public void write(char[] chars, int offset, int length) throws IOException {
+            int room = maxLength - buffer.length();
+            buffer.append(chars, offset, Math.min(room, length));
+            if (length > room) {
+                full = true;
+                throw new IOException("Payload longer than " + maxLength + " characters");
+            }
+        }
+
+        boolean isFull() {
+            return full;
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public String toString() {
+            return buffer.toString();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.schedulify.conferencescheduler.web.logging;
+
+import com.schedulify.conferencescheduler.service.metrics.RequestSummary;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static net.logstash.logback.argument.StructuredArguments.v;
+
+/**
+ * Logs one summary event per API request: method, path, status, body size, how long it took, how many schedules
+ * of how many presentations and tracks it made and the time of every scheduling phase.
+ * <p>
+ * Every value is a structured argument, so the JSON encoder writes it as a field of its own while the plain text
+ * message stays readable. The filter runs first, so requests turned away by admission control are logged too.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestSummaryFilter extends OncePerRequestFilter {
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !log.isInfoEnabled() || !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long startNanos = System.nanoTime();
+        RequestSummary summary = RequestSummary.start();
+        boolean failed = true;
+        try {
+            filterChain.doFilter(request, response);
+            failed = false;
+        } finally {
+            RequestSummary.end();
+            // An exception leaving the chain becomes a server error once it reaches the container
+            int status = failed ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR : response.getStatus();
+            log.info("{} {} {} in {} ms, {} bytes in, {} schedules of {} presentations in {} tracks, phases {}",
+                    v("method", request.getMethod()),
+                    v("path", request.getRequestURI()),
+                    v("status", status),
+                    v("durationMs", millis(System.nanoTime() - startNanos)),
+                    v("requestBytes", request.getContentLengthLong()),
+                    v("schedules", summary.getSchedules()),
+                    v("presentations", summary.getPresentations()),
+                    v("tracks", summary.getTracks()),
+                    v("phasesMs", phasesMillis(summary)));
+        }
+    }
+
+    private static Map<String, Double> phasesMillis(RequestSummary summary) {
+        Map<String, Double> phases = new LinkedHashMap<>();
+        summary.getPhaseNanos().forEach((phase, nanos) -> phases.put(phase, millis(nanos)));
+        return phases;
+    }
+
+    // Milliseconds with microsecond precision
+    private static double millis(long nanos) {
+        return Math.round(nanos / 1_000.0) / 1_000.0;
+    }
+}
@@ -0,0 +1,81 @@
+package com.schedulify.conferencescheduler.web.model.v1.request;
+
+import com.schedulify.conferencescheduler.domain.enums.EventType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Layout of a conference day: the sessions presentations are packed into, breaks and fixed events between them,
+ * an optional networking window and how many days the conference runs. Times are {@code HH:mm} of the day, every
+ * day of the conference follows the same template.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DayTemplate {
+
+    @Schema(description = "Number of days of the conference, every track runs on each of them", example = "1", defaultValue = "1")
+    private Integer days;
+
+    @Schema(description = "Sessions presentations are scheduled into, at least one")
+    private List<Session> sessions;
+
+    @Schema(description = "Breaks between sessions, such as lunch or coffee breaks")
+    private List<FixedEvent> breaks;
+
+    @Schema(description = "Other events at a fixed time, such as a keynote every track attends")
+    private List<FixedEvent> fixedEvents;
+
+    @Schema(description = "Networking event after the last session of the day, left out when absent")
+    private Networking networking;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Session {
+
+        @Schema(description = "Start of the session", example = "09:00")
+        private String start;
+
+        @Schema(description = "End of the session", example = "12:00")
+        private String end;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class FixedEvent {
+
+        @Schema(description = "Subject of the event", example = "Coffee Break")
+        private String subject;
+
+        @Schema(description = "Start of the event", example = "10:30")
+        private String start;
+
+        @Schema(description = "End of the event", example = "10:45")
+        private String end;
+
+        @Schema(description = "Type the event is reported with, 'BREAK' for breaks and 'FIXED' for fixed events by default", example = "BREAK")
+        private EventType type;
+
+        public FixedEvent(String subject, String start, String end) {
+            this(subject, start, end, null);
+        }
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Networking {
+
+        @Schema(description = "Earliest start, the event is left out when the last session ends before it", example = "16:00")
+        private String earliestStart;
+
+        @Schema(description = "End of the event, the event is left out when the last session ends at or after it", example = "17:00")
+        private String end;
+    }
+}
@@ -0,0 +1,42 @@
+package com.schedulify.conferencescheduler.web.model.v1.request;
+
+import com.schedulify.conferencescheduler.domain.enums.DraftOperation;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScheduleDraftPatchRequest {
+
+    @NotNull
+    @Schema(description = "Changes applied in order, either all of them or none")
+    private List<Change> changes;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Change {
+
+        @Schema(description = "What the change does: 'add', 'remove' or 'update' a presentation", example = "add")
+        private DraftOperation op;
+
+        @Schema(description = "Subject of the presentation, identifies it for 'remove' and 'update'", example = "Architecting Your Codebase")
+        private String subject;
+
+        @Schema(description = "Duration in minutes or 'lightning', required for 'add' and optional for 'update'", example = "60")
+        private String duration;
+
+        @Schema(description = "New subject of the presentation for 'update'", example = "Architecting Your Monorepo")
+        private String newSubject;
+
+        public Change(DraftOperation op, String subject, String duration) {
+            this(op, subject, duration, null);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.schedulify.conferencescheduler.web.model.v1.request;
 
+import com.schedulify.conferencescheduler.domain.enums.SchedulingStrategy;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.Pattern;
 import lombok.AllArgsConstructor;
@@ -20,6 +21,38 @@ public class SchedulePresentationsRequest {
     @Schema(description = "List of presentations to be scheduled")
     private List<Presentation> presentations;
 
+    @Schema(description = "How the schedule is built: 'greedy' takes the longest presentation that fits, 'exact' searches for the combination that fills each session best, 'optimize' packs the whole schedule at once to minimize the number of tracks", example = "greedy", defaultValue = "greedy")
+    private SchedulingStrategy strategy;
+
+    @Schema(description = "Time budget of the 'optimize' strategy in milliseconds, capped at 10000", example = "200", defaultValue = "200")
+    private Long timeBudgetInMillis;
+
+    @Schema(description = "Report every invalid presentation at once instead of failing on the first one", example = "false", defaultValue = "false")
+    private Boolean collectAllErrors;
+
+    @Schema(description = "Plan all tracks first, then build their timings and events in parallel; the schedule is the same as without it", example = "false", defaultValue = "false")
+    private Boolean parallel;
+
+    @Schema(description = "Name of a day profile configured on the server, such as 'coffee-breaks'; the standard 9:00AM to 5:00PM day is used when neither a profile nor a template is given", example = "coffee-breaks")
+    private String dayProfile;
+
+    @Schema(description = "Layout of the conference day for this request only, cannot be combined with 'dayProfile'")
+    private DayTemplate dayTemplate;
+
+    @Schema(description = "Group lightning talks into blocks of this many minutes, each scheduled as one event listing its talks; "
+            + "rounded down to whole talks and capped at the longest session, no grouping when absent", example = "30")
+    private Integer lightningBlockMinutes;
+
+    @Schema(description = "List the events of every track as 'events' without the per-event wrapper object, instead of 'track'", example = "false", defaultValue = "false")
+    private Boolean flat;
+
+    @Schema(description = "Add a report of how well the schedule uses its sessions to the response", example = "false", defaultValue = "false")
+    private Boolean report;
+
+    public SchedulePresentationsRequest(List<Presentation> presentations) {
+        this.presentations = presentations;
+    }
+
     @Data
     @NoArgsConstructor
     @AllArgsConstructor
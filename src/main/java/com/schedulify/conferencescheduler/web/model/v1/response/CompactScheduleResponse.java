@@ -0,0 +1,67 @@
+package com.schedulify.conferencescheduler.web.model.v1.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+import java.util.List;
+
+/**
+ * Schedule for the binary encodings (CBOR, Smile): no per-event wrapper, times as minutes since midnight of the
+ * first day (so day two starts at 1440) and event types as their ordinal, every event encoded as a four element array.
+ */
+@Data
+@SuperBuilder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CompactScheduleResponse extends BaseResponse<List<CompactScheduleResponse.Track>> {
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Schema(description = "Outcome of the 'optimize' strategy, absent for other strategies")
+    private SchedulePresentationsResponse.Optimization optimization;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Schema(description = "Number of conference days, absent for a one day conference", example = "2")
+    private Integer days;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Schema(description = "Id the schedule is stored under, absent when the schedule store is disabled")
+    private String scheduleId;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Track {
+
+        @Schema(description = "Number of the track")
+        private int trackNo;
+
+        @Schema(description = "Events of the track in order")
+        private List<Event> events;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonFormat(shape = JsonFormat.Shape.ARRAY)
+    @JsonPropertyOrder({"type", "subject", "start", "end"})
+    public static class Event {
+
+        @Schema(description = "Ordinal of the event type: 0 presentation, 1 lunch, 2 networking, 3 break, 4 fixed event")
+        private int type;
+
+        @Schema(description = "Subject of the event")
+        private String subject;
+
+        @Schema(description = "Start in minutes since midnight of the first day", example = "540")
+        private int start;
+
+        @Schema(description = "End in minutes since midnight of the first day", example = "600")
+        private int end;
+    }
+}
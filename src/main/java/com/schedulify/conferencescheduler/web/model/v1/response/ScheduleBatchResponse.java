@@ -0,0 +1,22 @@
+package com.schedulify.conferencescheduler.web.model.v1.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+import java.util.List;
+
+@Data
+@SuperBuilder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScheduleBatchResponse extends BaseResponse<List<BaseResponse<?>>> {
+
+    @Schema(description = "Number of requests that were scheduled", example = "99")
+    private int succeeded;
+
+    @Schema(description = "Number of requests that failed, each reported in place of its schedule", example = "1")
+    private int failed;
+}
@@ -0,0 +1,86 @@
+package com.schedulify.conferencescheduler.web.model.v1.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.schedulify.conferencescheduler.domain.enums.PresentationChangeType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+import java.util.List;
+
+/**
+ * A schedule draft: every track when the draft is created or read, only the tracks a patch touched after a patch,
+ * together with what happened to each presentation.
+ */
+@Data
+@SuperBuilder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScheduleDraftResponse extends BaseResponse<List<SchedulePresentationsResponse.Track>> {
+
+    @Schema(description = "Id of the draft, used to read, patch or delete it", example = "6f1c2b9e-4d3a-4c59-9b0e-2a7d8f1e5c43")
+    private String draftId;
+
+    @Schema(description = "Number of patches applied so far", example = "3")
+    private long version;
+
+    @Schema(description = "Number of presentations in the draft", example = "120")
+    private int presentations;
+
+    @Schema(description = "Number of tracks of the whole draft", example = "6")
+    private int trackCount;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Schema(description = "Presentations added, removed, changed or moved by a patch, absent when the draft is created or read")
+    private List<PresentationChange> changes;
+
+    @Data
+    @SuperBuilder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PresentationChange {
+
+        @Schema(description = "Subject of the presentation after the patch", example = "Architecting Your Codebase")
+        private String subject;
+
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        @Schema(description = "Subject before the patch, only set when the presentation was renamed")
+        private String previousSubject;
+
+        @Schema(description = "What happened to the presentation", example = "MOVED")
+        private PresentationChangeType change;
+
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        @Schema(description = "Where the presentation was before the patch, absent for added presentations")
+        private Placement from;
+
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        @Schema(description = "Where the presentation is after the patch, absent for removed presentations")
+        private Placement to;
+    }
+
+    @Data
+    @SuperBuilder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Placement {
+
+        @Schema(description = "Number of the track", example = "2")
+        private int trackNo;
+
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        @Schema(description = "Day of the conference, counted from 1, only set for templates that run over several days")
+        private Integer day;
+
+        @Schema(description = "Start of the presentation", example = "09:00AM")
+        private String startsAt;
+
+        @Schema(description = "End of the presentation", example = "10:00AM")
+        private String endsAt;
+
+        @Schema(description = "Duration in minutes", example = "60")
+        private int durationInMinutes;
+    }
+}
@@ -0,0 +1,45 @@
+package com.schedulify.conferencescheduler.web.model.v1.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.schedulify.conferencescheduler.domain.enums.JobState;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+import java.time.Instant;
+import java.util.List;
+
+@Data
+@SuperBuilder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScheduleJobResponse extends BaseResponse<SchedulePresentationsResponse> {
+
+    @Schema(description = "Id of the job, used to poll or cancel it", example = "6f1c2b9e-4d3a-4c59-9b0e-2a7d8f1e5c43")
+    private String jobId;
+
+    @Schema(description = "State of the job", example = "RUNNING")
+    private JobState state;
+
+    @Schema(description = "Number of valid presentations being scheduled", example = "100000")
+    private int presentations;
+
+    @Schema(description = "Presentations placed into tracks so far, all of them once the tracks are being built", example = "100000")
+    private int presentationsPlanned;
+
+    @Schema(description = "Tracks built so far", example = "1200")
+    private int tracksDone;
+
+    @Schema(description = "When the job was accepted")
+    private Instant submittedAt;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Schema(description = "When the job succeeded, failed or was cancelled")
+    private Instant finishedAt;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Schema(description = "Every validation error of a failed job, when errors were collected")
+    private List<String> errors;
+}
@@ -1,35 +1,139 @@
 package com.schedulify.conferencescheduler.web.model.v1.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.schedulify.conferencescheduler.domain.dto.EventDto;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
 
 import java.util.List;
 
 @Data
 @SuperBuilder
+@NoArgsConstructor
 @AllArgsConstructor
 public class SchedulePresentationsResponse extends BaseResponse<List<SchedulePresentationsResponse.Track>> {
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Schema(description = "Outcome of the 'optimize' strategy, absent for other strategies")
+    private Optimization optimization;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Schema(description = "How well the schedule uses its sessions, only present when the request asks for a report")
+    private Report report;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Schema(description = "Id to read the schedule again with GET /api/v1/schedule/{id}, absent when the schedule store is disabled")
+    private String scheduleId;
+
     @Data
     @SuperBuilder
+    @NoArgsConstructor
     @AllArgsConstructor
     public static class Track {
 
         @Schema(description = "Number of the track")
         private int trackNo;
 
-        @Schema(description = "List of events in the track")
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        @Schema(description = "List of events in the track, each wrapped in an object; absent when the request asks for a flat response")
         private List<EventWrapper> track;
+
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        @Schema(description = "Events of the track without the wrapper object, only present when the request asks for a flat response")
+        private List<EventDto> events;
     }
 
     @Data
     @SuperBuilder
+    @NoArgsConstructor
     @AllArgsConstructor
     public static class EventWrapper {
         @Schema(description = "Event object containing event details")
         private EventDto event;
     }
+
+    @Data
+    @SuperBuilder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Optimization {
+
+        @Schema(description = "Number of tracks in the optimized schedule", example = "4")
+        private int trackCount;
+
+        @Schema(description = "Proven minimum number of tracks, no schedule can use fewer", example = "4")
+        private int lowerBound;
+
+        @Schema(description = "Whether the track count reached the lower bound")
+        private boolean provenOptimal;
+
+        @Schema(description = "Time spent optimizing in milliseconds", example = "12")
+        private long elapsedMillis;
+    }
+
+    @Data
+    @SuperBuilder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Report {
+
+        @Schema(description = "Strategy the schedule was built with", example = "greedy")
+        private String strategy;
+
+        @Schema(description = "Number of tracks in the schedule", example = "3")
+        private int trackCount;
+
+        @Schema(description = "Total presentation minutes divided by the session minutes of one track, rounded up; no schedule "
+                + "can use fewer tracks, though presentations not splitting across sessions may need more", example = "3")
+        private int theoreticalMinimumTrackCount;
+
+        @Schema(description = "Session minutes filled with presentations over all tracks", example = "1140")
+        private long usedMinutes;
+
+        @Schema(description = "Session minutes left without presentations over all tracks", example = "120")
+        private long idleMinutes;
+
+        @Schema(description = "Share of session minutes filled with presentations, from 0 to 1", example = "0.9048")
+        private double utilization;
+
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        @Schema(description = "Time the scheduling engine spent on the schedule in milliseconds, validation excluded; "
+                + "absent for schedules served from the cache", example = "1.25")
+        private Double engineMillis;
+
+        @Schema(description = "Whether the schedule was served from the cache instead of being built for this request", example = "false")
+        private boolean cached;
+
+        @Schema(description = "Used and idle minutes of every session of the day, summed over all tracks")
+        private List<Session> sessions;
+    }
+
+    @Data
+    @SuperBuilder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Session {
+
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        @Schema(description = "Day of the conference, counted from 1, only set for templates that run over several days")
+        private Integer day;
+
+        @Schema(description = "Start of the session", example = "09:00AM")
+        private String startsAt;
+
+        @Schema(description = "End of the session", example = "12:00PM")
+        private String endsAt;
+
+        @Schema(description = "Minutes filled with presentations over all tracks", example = "540")
+        private long usedMinutes;
+
+        @Schema(description = "Minutes left without presentations over all tracks", example = "0")
+        private long idleMinutes;
+
+        @Schema(description = "Share of the session filled with presentations, from 0 to 1", example = "1.0")
+        private double utilization;
+    }
 }
@@ -0,0 +1,59 @@
+package com.schedulify.conferencescheduler.web.stream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * Writes values as newline-delimited JSON, one value per line, as they become available.
+ * <p>
+ * The first line is flushed to the client right away so it sees output early; later lines go through the
+ * container's response buffer, which sends a chunk whenever it fills up, instead of a flush per line.
+ */
+public class NdjsonWriter implements Closeable {
+
+    private final ObjectMapper objectMapper;
+    private final OutputStream outputStream;
+    private final JsonGenerator generator;
+    private boolean flushed;
+
+    public NdjsonWriter(ObjectMapper objectMapper, OutputStream outputStream) throws IOException {
+        this.objectMapper = objectMapper;
+        this.outputStream = outputStream;
+        this.generator = objectMapper.getFactory().createGenerator(outputStream)
+                .disable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .setRootValueSeparator(null);
+    }
+
+    public void write(Object value) throws IOException {
+        objectMapper.writeValue(generator, value);
+        generator.writeRaw('\n');
+        generator.flush();
+        if (!flushed) {
+            outputStream.flush();
+            flushed = true;
+        }
+    }
+
+    /**
+     * {@link #write(Object)} for callbacks that cannot throw checked exceptions.
+     */
+    public void writeUnchecked(Object value) {
+        try {
+            write(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.close();
+        outputStream.flush();
+    }
+}
@@ -0,0 +1,146 @@
+package com.schedulify.conferencescheduler.web.stream;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.schedulify.conferencescheduler.domain.enums.SchedulingStrategy;
+import com.schedulify.conferencescheduler.service.admission.AdmissionControl;
+import com.schedulify.conferencescheduler.validation.PresentationValidator;
+import com.schedulify.conferencescheduler.web.model.v1.request.DayTemplate;
+import com.schedulify.conferencescheduler.web.model.v1.request.SchedulePresentationsRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.IntConsumer;
+
+/**
+ * Reads a schedule request body token by token instead of binding it to a {@link SchedulePresentationsRequest}.
+ * <p>
+ * Every presentation is handed to the {@link PresentationValidator} as soon as its object closes, so neither
+ * a JSON tree nor a list of {@code Presentation} objects is ever built; only the trimmed subjects and parsed
+ * durations are kept. Errors are always collected while reading, since {@code collectAllErrors} may come after
+ * the presentations in the body, and are reported the way the request asked for once the body is consumed.
+ * The day template is small, so it is bound as usual. A body with more presentations than admission control allows
+ * is turned away at the first one too many.
+ */
+@Component
+public class ScheduleRequestStreamReader {
+
+    private static final String PRESENTATIONS = "presentations";
+    private static final String SUBJECT = "subject";
+    private static final String DURATION = "duration";
+    private static final String STRATEGY = "strategy";
+    private static final String TIME_BUDGET_IN_MILLIS = "timeBudgetInMillis";
+    private static final String COLLECT_ALL_ERRORS = "collectAllErrors";
+    private static final String PARALLEL = "parallel";
+    private static final String DAY_PROFILE = "dayProfile";
+    private static final String DAY_TEMPLATE = "dayTemplate";
+    private static final String REPORT = "report";
+    private static final String FLAT = "flat";
+    private static final String LIGHTNING_BLOCK_MINUTES = "lightningBlockMinutes";
+
+    private final ObjectMapper objectMapper;
+    private final JsonFactory jsonFactory;
+    // Called with the number of presentations read so far, throws once there are too many
+    private final IntConsumer presentationCountCheck;
+
+    @Autowired
+    public ScheduleRequestStreamReader(ObjectMapper objectMapper, AdmissionControl admissionControl) {
+        this(objectMapper, admissionControl::checkStreamedPresentations);
+    }
+
+    ScheduleRequestStreamReader(ObjectMapper objectMapper) {
+        this(objectMapper, count -> { });
+    }
+
+    private ScheduleRequestStreamReader(ObjectMapper objectMapper, IntConsumer presentationCountCheck) {
+        this.objectMapper = objectMapper;
+        this.jsonFactory = objectMapper.getFactory();
+        this.presentationCountCheck = presentationCountCheck;
+    }
+
+    public StreamedScheduleRequest read(InputStream inputStream) throws IOException {
+        SchedulePresentationsRequest options = new SchedulePresentationsRequest();
+        PresentationValidator validator = new PresentationValidator(0, true);
+
+        try (JsonParser parser = jsonFactory.createParser(inputStream)) {
+            expect(parser, parser.nextToken(), JsonToken.START_OBJECT);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                switch (field) {
+                    case PRESENTATIONS -> readPresentations(parser, value, validator);
+                    case STRATEGY -> options.setStrategy(readStrategy(parser, value));
+                    case TIME_BUDGET_IN_MILLIS -> options.setTimeBudgetInMillis(value == JsonToken.VALUE_NULL ? null : parser.getValueAsLong());
+                    case COLLECT_ALL_ERRORS -> options.setCollectAllErrors(value == JsonToken.VALUE_NULL ? null : parser.getValueAsBoolean());
+                    case PARALLEL -> options.setParallel(value == JsonToken.VALUE_NULL ? null : parser.getValueAsBoolean());
+                    case DAY_PROFILE -> options.setDayProfile(value == JsonToken.VALUE_NULL ? null : readText(parser));
+                    case DAY_TEMPLATE -> options.setDayTemplate(value == JsonToken.VALUE_NULL ? null : objectMapper.readValue(parser, DayTemplate.class));
+                    case LIGHTNING_BLOCK_MINUTES -> options.setLightningBlockMinutes(value == JsonToken.VALUE_NULL ? null : parser.getValueAsInt());
+                    case FLAT -> options.setFlat(value == JsonToken.VALUE_NULL ? null : parser.getValueAsBoolean());
+                    case REPORT -> options.setReport(value == JsonToken.VALUE_NULL ? null : parser.getValueAsBoolean());
+                    default -> parser.skipChildren();
+                }
+            }
+            expect(parser, parser.currentToken(), JsonToken.END_OBJECT);
+        }
+
+        return new StreamedScheduleRequest(options, validator.finish(Boolean.TRUE.equals(options.getCollectAllErrors())));
+    }
+
+    private void readPresentations(JsonParser parser, JsonToken value, PresentationValidator validator) throws IOException {
+        if (value == JsonToken.VALUE_NULL) {
+            return;
+        }
+        expect(parser, value, JsonToken.START_ARRAY);
+        JsonToken token;
+        int count = 0;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            // Stopping at the first presentation over the limit, the rest of the body is never read
+            presentationCountCheck.accept(++count);
+            if (token == JsonToken.VALUE_NULL) {
+                validator.accept(null, null);
+                continue;
+            }
+            expect(parser, token, JsonToken.START_OBJECT);
+            String subject = null;
+            String duration = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case SUBJECT -> subject = readText(parser);
+                    case DURATION -> duration = readText(parser);
+                    default -> parser.skipChildren();
+                }
+            }
+            validator.accept(subject, duration);
+        }
+    }
+
+    private String readText(JsonParser parser) throws IOException {
+        if (parser.currentToken().isStructStart()) {
+            parser.skipChildren();
+            return null;
+        }
+        return parser.getValueAsString();
+    }
+
+    private SchedulingStrategy readStrategy(JsonParser parser, JsonToken value) throws IOException {
+        try {
+            return SchedulingStrategy.fromValue(value == JsonToken.VALUE_NULL ? null : parser.getValueAsString());
+        } catch (IllegalArgumentException e) {
+            throw new JsonParseException(parser, e.getMessage(), e);
+        }
+    }
+
+    private void expect(JsonParser parser, JsonToken actual, JsonToken expected) throws JsonParseException {
+        if (actual != expected) {
+            throw new JsonParseException(parser, "Expected " + expected + " but found " + actual);
+        }
+    }
+}
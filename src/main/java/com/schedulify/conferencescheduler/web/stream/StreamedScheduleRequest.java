@@ -0,0 +1,16 @@
+package com.schedulify.conferencescheduler.web.stream;
+
+import com.schedulify.conferencescheduler.domain.dto.ValidatedPresentations;
+import com.schedulify.conferencescheduler.web.model.v1.request.SchedulePresentationsRequest;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * A schedule request read from a stream: the options of the request and its presentations, already validated.
+ */
+@Getter
+@AllArgsConstructor
+public class StreamedScheduleRequest {
+    private final SchedulePresentationsRequest options;
+    private final ValidatedPresentations presentations;
+}
@@ -1,13 +1,17 @@
 package com.schedulify.conferencescheduler.exception;
 
+import com.fasterxml.jackson.databind.JsonMappingException;
 import com.schedulify.conferencescheduler.web.model.v1.response.BaseResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.MockitoAnnotations;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -43,6 +47,47 @@ class GlobalExceptionHandlerTest {
         assertNull(responseBody.getData());
     }
 
+    @Test
+    void testHandleCustomValidationExceptionWithCollectedErrors() {
+        CustomValidationException ex = new CustomValidationException("Validation failed with 2 errors", List.of("first", "second"));
+        ResponseEntity<BaseResponse<Object>> response = globalExceptionHandler.handleCustomValidationException(ex);
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+
+        BaseResponse<Object> responseBody = response.getBody();
+        assertNotNull(responseBody);
+        assertEquals("Validation failed with 2 errors", responseBody.getMessage());
+        assertEquals(List.of("first", "second"), responseBody.getData());
+    }
+
+    @Test
+    void testHandleHttpMessageNotReadableException() {
+        JsonMappingException cause = JsonMappingException.wrapWithPath(
+                new IllegalArgumentException("Unknown scheduling strategy: fastest"), new Object(), "strategy");
+        HttpMessageNotReadableException ex = new HttpMessageNotReadableException("JSON parse error", cause, mock(HttpInputMessage.class));
+        ResponseEntity<BaseResponse<Object>> response = globalExceptionHandler.handleHttpMessageNotReadableException(ex);
+        assertNotNull(response);
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+
+        BaseResponse<Object> responseBody = response.getBody();
+        assertNotNull(responseBody);
+        assertEquals("Error", responseBody.getStatus());
+        assertEquals("Malformed request: invalid value at strategy", responseBody.getMessage());
+    }
+
+    @Test
+    void testHandleHttpMessageNotReadableExceptionHidesParserMessage() {
+        JsonMappingException cause = JsonMappingException.wrapWithPath(JsonMappingException.wrapWithPath(
+                new IllegalStateException("Cannot deserialize value of type `com.example.Internal`"), new Object(), "duration"), List.of(), 2);
+        JsonMappingException nested = JsonMappingException.wrapWithPath(cause, new Object(), "presentations");
+        ResponseEntity<BaseResponse<Object>> response = globalExceptionHandler.handleHttpMessageNotReadableException(
+                new HttpMessageNotReadableException("JSON parse error", nested, mock(HttpInputMessage.class)));
+        assertEquals("Malformed request: invalid value at presentations[2].duration", response.getBody().getMessage());
+
+        response = globalExceptionHandler.handleHttpMessageNotReadableException(new HttpMessageNotReadableException("JSON parse error",
+                new IllegalStateException("Unexpected character at line 1"), mock(HttpInputMessage.class)));
+        assertEquals("Malformed request", response.getBody().getMessage());
+    }
+
     @Test
     void testHandleValidationExceptions() {
         BindingResult bindingResult = mock(BindingResult.class);
@@ -61,4 +106,23 @@ class GlobalExceptionHandlerTest {
         assertNotNull(responseBody.getData());
         assertEquals("defaultMessage", responseBody.getData().get("fieldName"));
     }
+
+    @Test
+    void testHandleNotFoundException() {
+        ResponseEntity<BaseResponse<Object>> response = globalExceptionHandler.handleNotFoundException(new JobNotFoundException("42"));
+
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        assertEquals("Schedule job not found or expired: 42", response.getBody().getMessage());
+        assertEquals(HttpStatus.NOT_FOUND, globalExceptionHandler.handleNotFoundException(new DraftNotFoundException("7")).getStatusCode());
+        assertEquals(HttpStatus.NOT_FOUND, globalExceptionHandler.handleNotFoundException(new ScheduleNotFoundException("3")).getStatusCode());
+    }
+
+    @Test
+    void testHandleTooManyRequestsException() {
+        ResponseEntity<BaseResponse<Object>> response = globalExceptionHandler.handleTooManyRequestsException(new TooManyJobsException(16));
+
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, response.getStatusCode());
+        assertEquals("1", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertEquals("Error", response.getBody().getStatus());
+    }
 }
@@ -0,0 +1,101 @@
+package com.schedulify.conferencescheduler.load;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+import java.util.TreeSet;
+
+/**
+ * Baseline of a load run kept as a properties file, together with the machine it was recorded on.
+ * <p>
+ * A run is only held against a baseline from a machine with the same number of processors and the same Java
+ * feature release; anything else would compare hardware, not code. A run regresses when its throughput drops or its
+ * p99 latency grows by more than the tolerance, or when it fails more requests than the baseline did.
+ */
+final class LoadBaseline {
+
+    private final Properties values;
+
+    private LoadBaseline(Properties values) {
+        this.values = values;
+    }
+
+    static LoadBaseline read(Path file) throws IOException {
+        Properties values = new Properties();
+        try (Reader reader = Files.newBufferedReader(file)) {
+            values.load(reader);
+        }
+        return new LoadBaseline(values);
+    }
+
+    static void write(Path file, LoadResult result, int concurrency, int presentations) throws IOException {
+        Properties values = new Properties();
+        values.setProperty("machine.processors", String.valueOf(Runtime.getRuntime().availableProcessors()));
+        values.setProperty("machine.java", String.valueOf(Runtime.version().feature()));
+        values.setProperty("machine.max-heap-mb", String.valueOf(Runtime.getRuntime().maxMemory() / (1024 * 1024)));
+        values.setProperty("load.concurrency", String.valueOf(concurrency));
+        values.setProperty("load.presentations", String.valueOf(presentations));
+        values.setProperty("load.seconds", format(result.seconds()));
+        values.setProperty("throughput", format(result.throughput()));
+        values.setProperty("latency.p50-ms", format(result.millis(50)));
+        values.setProperty("latency.p99-ms", format(result.millis(99)));
+        values.setProperty("latency.p99.9-ms", format(result.millis(99.9)));
+        values.setProperty("error-rate", format(result.errorRate()));
+        values.setProperty("gc.count", String.valueOf(result.gcCount()));
+        values.setProperty("gc.millis", String.valueOf(result.gcMillis()));
+        values.setProperty("heap.peak-mb", format(result.heapPeakMegabytes()));
+        Files.createDirectories(file.getParent());
+        // Written by hand in key order, Properties.store would shuffle the keys and make baselines hard to diff
+        try (Writer writer = Files.newBufferedWriter(file)) {
+            writer.write("# Load baseline of POST /api/v1/schedule, recorded " + LocalDate.now() + System.lineSeparator());
+            for (String key : new TreeSet<>(values.stringPropertyNames())) {
+                writer.write(key + "=" + values.getProperty(key) + System.lineSeparator());
+            }
+        }
+    }
+
+    /**
+     * Why the baseline does not apply to this machine, or {@code null} when it does.
+     */
+    String mismatch() {
+        String processors = String.valueOf(Runtime.getRuntime().availableProcessors());
+        String java = String.valueOf(Runtime.version().feature());
+        if (!processors.equals(values.getProperty("machine.processors")) || !java.equals(values.getProperty("machine.java"))) {
+            return "recorded with " + values.getProperty("machine.processors") + " processors on Java " + values.getProperty("machine.java")
+                    + ", this machine has " + processors + " on Java " + java;
+        }
+        return null;
+    }
+
+    List<String> regressions(LoadResult result, double tolerance) {
+        List<String> regressions = new ArrayList<>();
+        double throughput = number("throughput");
+        if (result.throughput() < throughput * (1 - tolerance)) {
+            regressions.add(String.format(Locale.ROOT, "throughput %.1f/s is below the baseline %.1f/s", result.throughput(), throughput));
+        }
+        double p99 = number("latency.p99-ms");
+        if (result.millis(99) > p99 * (1 + tolerance)) {
+            regressions.add(String.format(Locale.ROOT, "p99 latency %.2f ms is above the baseline %.2f ms", result.millis(99), p99));
+        }
+        double errorRate = number("error-rate");
+        if (result.errorRate() > errorRate) {
+            regressions.add(String.format(Locale.ROOT, "error rate %.4f is above the baseline %.4f", result.errorRate(), errorRate));
+        }
+        return regressions;
+    }
+
+    private double number(String key) {
+        return Double.parseDouble(values.getProperty(key));
+    }
+
+    private static String format(double value) {
+        return String.format(Locale.ROOT, "%.3f", value);
+    }
+}
@@ -0,0 +1,199 @@
+package com.schedulify.conferencescheduler.load;
+
+import com.schedulify.conferencescheduler.ConferenceSchedulerApplication;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Drives {@code POST /api/v1/schedule} of an application started in this JVM with a fixed number of clients, each
+ * sending the next request as soon as the previous one is answered.
+ * <p>
+ * Latencies go into an HdrHistogram {@link Recorder}, so the clients never block each other while recording and a
+ * long soak run can report interval by interval. Heap and GC figures come from the platform MX beans; they cover the
+ * whole JVM, the clients included, whose share is small next to scheduling. Clients are closed-loop: a stalled
+ * server slows them down instead of piling up requests, so latencies under overload look better than an open
+ * arrival rate would see them.
+ */
+class LoadHarness {
+
+    // Latencies up to a minute are recorded with three significant digits
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    private final HttpRequest request;
+    private final int concurrency;
+
+    LoadHarness(URI uri, String body, int concurrency) {
+        this.request = HttpRequest.newBuilder(uri)
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json")
+                .timeout(Duration.ofSeconds(30))
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        this.concurrency = concurrency;
+    }
+
+    /**
+     * Starts the application on a random port with the given extra properties; scheduling logs are kept quiet so
+     * logging does not dominate the measurement.
+     */
+    static ConfigurableApplicationContext startApplication(String... properties) {
+        List<String> allProperties = new ArrayList<>(List.of("server.port=0", "logging.level.com.schedulify=WARN"));
+        allProperties.addAll(List.of(properties));
+        return new SpringApplicationBuilder(ConferenceSchedulerApplication.class)
+                .properties(allProperties.toArray(String[]::new))
+                .run();
+    }
+
+    static URI scheduleUri(ConfigurableApplicationContext context) {
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        return URI.create("http://localhost:" + port + "/api/v1/schedule");
+    }
+
+    /**
+     * Body of a schedule request with {@code presentations} generated presentations, the same for the same seed:
+     * durations of 15 to 60 minutes with every tenth presentation a lightning talk.
+     */
+    static String requestBody(int presentations, long seed) {
+        Random random = new Random(seed);
+        StringBuilder body = new StringBuilder("{\"presentations\": [");
+        for (int i = 0; i < presentations; i++) {
+            if (i > 0) {
+                body.append(',');
+            }
+            String duration = random.nextInt(10) == 0 ? "lightning" : String.valueOf(15 + random.nextInt(46));
+            body.append("{\"subject\": \"Presentation ").append(i).append("\", \"duration\": \"").append(duration).append("\"}");
+        }
+        return body.append("]}").toString();
+    }
+
+    /**
+     * Sends load for {@code warmUp} without measuring it, then for {@code duration}, handing a report of every
+     * {@code interval} to the consumer on the way; pass a zero interval for no interval reports.
+     */
+    LoadResult run(Duration warmUp, Duration duration, Duration interval, Consumer<LoadResult> intervalConsumer) throws Exception {
+        if (!warmUp.isZero()) {
+            // Warming up the JIT, connections and pools, nothing of it is kept
+            drive(warmUp, Duration.ZERO, result -> { });
+        }
+        return drive(duration, interval, intervalConsumer);
+    }
+
+    private LoadResult drive(Duration duration, Duration interval, Consumer<LoadResult> intervalConsumer) throws Exception {
+        Recorder recorder = new Recorder(HIGHEST_TRACKABLE_NANOS, 3);
+        LongAdder errors = new LongAdder();
+        System.gc();
+        Jvm start = Jvm.sample(true);
+        long startNanos = System.nanoTime();
+        long deadline = startNanos + duration.toNanos();
+
+        ExecutorService clients = Executors.newFixedThreadPool(concurrency);
+        try {
+            List<Future<?>> futures = new ArrayList<>(concurrency);
+            for (int i = 0; i < concurrency; i++) {
+                futures.add(clients.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        send(recorder, errors);
+                    }
+                    return null;
+                }));
+            }
+
+            Histogram total = new Histogram(HIGHEST_TRACKABLE_NANOS, 3);
+            Histogram intervalHistogram = null;
+            long intervalStartNanos = startNanos;
+            long intervalErrors = 0;
+            Jvm intervalStart = start;
+            while (System.nanoTime() < deadline) {
+                long now = System.nanoTime();
+                long nextReport = interval.isZero() ? deadline : Math.min(deadline, intervalStartNanos + interval.toNanos());
+                TimeUnit.NANOSECONDS.sleep(Math.max(0, nextReport - now));
+                if (System.nanoTime() >= deadline) {
+                    break;
+                }
+                intervalHistogram = recorder.getIntervalHistogram(intervalHistogram);
+                total.add(intervalHistogram);
+                long errorsSoFar = errors.sum();
+                Jvm intervalEnd = Jvm.sample(false);
+                intervalConsumer.accept(new LoadResult(intervalHistogram.copy(), errorsSoFar - intervalErrors,
+                        System.nanoTime() - intervalStartNanos, intervalStart, intervalEnd));
+                intervalStartNanos = System.nanoTime();
+                intervalErrors = errorsSoFar;
+                intervalStart = intervalEnd;
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            long elapsedNanos = System.nanoTime() - startNanos;
+            total.add(recorder.getIntervalHistogram());
+            return new LoadResult(total, errors.sum(), elapsedNanos, start, Jvm.sample(false));
+        } finally {
+            clients.shutdownNow();
+        }
+    }
+
+    private void send(Recorder recorder, LongAdder errors) {
+        long start = System.nanoTime();
+        try {
+            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() != 200) {
+                errors.increment();
+                return;
+            }
+            recorder.recordValue(Math.min(System.nanoTime() - start, HIGHEST_TRACKABLE_NANOS));
+        } catch (IOException e) {
+            errors.increment();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Heap and GC counters of this JVM at one point in time.
+     */
+    record Jvm(long gcCount, long gcMillis, long heapUsedBytes, long heapPeakBytes) {
+
+        static Jvm sample(boolean resetPeak) {
+            long gcCount = 0;
+            long gcMillis = 0;
+            for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+                gcCount += Math.max(0, collector.getCollectionCount());
+                gcMillis += Math.max(0, collector.getCollectionTime());
+            }
+            long peak = 0;
+            for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+                if (pool.getType() == MemoryType.HEAP) {
+                    if (resetPeak) {
+                        pool.resetPeakUsage();
+                    }
+                    peak += pool.getPeakUsage().getUsed();
+                }
+            }
+            return new Jvm(gcCount, gcMillis, ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed(), peak);
+        }
+    }
+}
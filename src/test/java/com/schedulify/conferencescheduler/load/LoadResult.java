@@ -0,0 +1,57 @@
+package com.schedulify.conferencescheduler.load;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * Outcome of a load run or of one interval of it: latencies of the successful requests, failed requests and how
+ * heap and GC moved in the meantime.
+ */
+record LoadResult(Histogram latencies, long errors, long elapsedNanos, LoadHarness.Jvm start, LoadHarness.Jvm end) {
+
+    static final String HEADER = String.format("%-14s %9s %11s %8s %8s %8s %8s %9s %7s %8s %9s %9s",
+            "run", "requests", "throughput", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms", "errors", "gc count", "gc ms", "heap MB");
+
+    long requests() {
+        return latencies.getTotalCount() + errors;
+    }
+
+    double seconds() {
+        return elapsedNanos / 1_000_000_000.0;
+    }
+
+    /**
+     * Successful requests per second.
+     */
+    double throughput() {
+        return latencies.getTotalCount() / seconds();
+    }
+
+    double errorRate() {
+        return requests() == 0 ? 0 : errors / (double) requests();
+    }
+
+    double millis(double percentile) {
+        return latencies.getValueAtPercentile(percentile) / 1_000_000.0;
+    }
+
+    long gcCount() {
+        return end.gcCount() - start.gcCount();
+    }
+
+    long gcMillis() {
+        return end.gcMillis() - start.gcMillis();
+    }
+
+    double heapPeakMegabytes() {
+        return end.heapPeakBytes() / (1024.0 * 1024.0);
+    }
+
+    /**
+     * One line of the report, lined up under {@link #HEADER}.
+     */
+    String row(String run) {
+        return String.format("%-14s %9d %9.1f/s %8.2f %8.2f %8.2f %8.2f %9.2f %6.2f%% %8d %9d %9.1f", run, requests(), throughput(),
+                millis(50), millis(90), millis(99), millis(99.9), latencies.getMaxValue() / 1_000_000.0, errorRate() * 100,
+                gcCount(), gcMillis(), heapPeakMegabytes());
+    }
+}
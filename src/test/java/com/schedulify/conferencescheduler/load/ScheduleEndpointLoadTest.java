@@ -0,0 +1,86 @@
+package com.schedulify.conferencescheduler.load;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Load and soak test of {@code POST /api/v1/schedule}: starts the application on a random port, sends every
+ * workload at the configured concurrency and reports throughput, latency percentiles, error rate, GC and heap.
+ * <p>
+ * Excluded from the regular build, run it with {@code ./mvnw -Pload-test test -Dtest=ScheduleEndpointLoadTest}.
+ * System properties:
+ * <ul>
+ *     <li>{@code load.concurrency}, {@code load.seconds} and {@code load.warmup-seconds} shape the run</li>
+ *     <li>{@code load.workloads} lists the presentation counts of the generated requests, e.g. {@code 100,2000}</li>
+ *     <li>{@code load.report-interval-seconds} prints a line per interval, for soak runs of minutes or hours</li>
+ *     <li>{@code load.baseline.record=true} writes the results as baselines to {@code load.baseline.dir} instead of
+ *     comparing against them; {@code load.baseline.tolerance} is the allowed drift, 0.2 by default</li>
+ *     <li>{@code load.max-error-rate} is the share of failed requests a run may have without a baseline</li>
+ * </ul>
+ */
+@Tag("load")
+class ScheduleEndpointLoadTest {
+
+    private static final int CONCURRENCY = Integer.getInteger("load.concurrency", 64);
+    private static final int SECONDS = Integer.getInteger("load.seconds", 10);
+    private static final int WARMUP_SECONDS = Integer.getInteger("load.warmup-seconds", Math.max(1, SECONDS / 2));
+    private static final int REPORT_INTERVAL_SECONDS = Integer.getInteger("load.report-interval-seconds", 0);
+    private static final String WORKLOADS = System.getProperty("load.workloads", "100,2000");
+    private static final Path BASELINE_DIRECTORY = Path.of(System.getProperty("load.baseline.dir", "src/test/load-baselines"));
+    private static final boolean RECORD_BASELINE = Boolean.getBoolean("load.baseline.record");
+    private static final double TOLERANCE = Double.parseDouble(System.getProperty("load.baseline.tolerance", "0.2"));
+    private static final double MAX_ERROR_RATE = Double.parseDouble(System.getProperty("load.max-error-rate", "0"));
+
+    @Test
+    void scheduleEndpointUnderLoad() throws Exception {
+        List<String> report = new ArrayList<>(List.of(LoadResult.HEADER));
+        List<String> failures = new ArrayList<>();
+
+        try (ConfigurableApplicationContext context = LoadHarness.startApplication("schedule.cache.enabled=false")) {
+            for (int presentations : Arrays.stream(WORKLOADS.split(",")).map(String::trim).mapToInt(Integer::parseInt).toArray()) {
+                String run = presentations + " talks";
+                LoadHarness harness = new LoadHarness(LoadHarness.scheduleUri(context), LoadHarness.requestBody(presentations, 42), CONCURRENCY);
+                LoadResult result = harness.run(Duration.ofSeconds(WARMUP_SECONDS), Duration.ofSeconds(SECONDS),
+                        Duration.ofSeconds(REPORT_INTERVAL_SECONDS), interval -> System.out.println(interval.row(run + " ~")));
+                report.add(result.row(run));
+                failures.addAll(check(run, result, BASELINE_DIRECTORY.resolve("schedule-" + presentations + "-c" + CONCURRENCY + ".properties"),
+                        presentations, report));
+            }
+        }
+
+        System.out.println(String.join(System.lineSeparator(), report));
+        assertTrue(failures.isEmpty(), String.join(System.lineSeparator(), failures));
+    }
+
+    private List<String> check(String run, LoadResult result, Path baselineFile, int presentations, List<String> report) throws Exception {
+        if (RECORD_BASELINE) {
+            LoadBaseline.write(baselineFile, result, CONCURRENCY, presentations);
+            report.add("  recorded baseline " + baselineFile);
+            return List.of();
+        }
+        if (!Files.exists(baselineFile)) {
+            return result.errorRate() > MAX_ERROR_RATE
+                    ? List.of(run + ": error rate " + result.errorRate() + " is above " + MAX_ERROR_RATE)
+                    : List.of();
+        }
+        LoadBaseline baseline = LoadBaseline.read(baselineFile);
+        String mismatch = baseline.mismatch();
+        if (mismatch != null) {
+            report.add("  baseline " + baselineFile + " not compared, " + mismatch);
+            return List.of();
+        }
+        List<String> regressions = baseline.regressions(result, TOLERANCE);
+        report.add("  baseline " + baselineFile + (regressions.isEmpty() ? " holds" : " regressed"));
+        return regressions.stream().map(regression -> run + ": " + regression).toList();
+    }
+}
@@ -0,0 +1,55 @@
+package com.schedulify.conferencescheduler.load;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares throughput and latency of {@code POST /api/v1/schedule} with request handling on the classic Tomcat
+ * thread pool and on virtual threads. Each mode gets its own application on a random port and the same load.
+ * <p>
+ * Runs on {@link LoadHarness}. Excluded from the regular build, run it with
+ * {@code ./mvnw -Pload-test test -Dtest=ThreadingModeLoadTest}; tune it with the system properties
+ * {@code load.concurrency}, {@code load.seconds} and {@code load.presentations}. The virtual thread run needs a
+ * JDK 21+ runtime and is skipped on older ones.
+ */
+@Tag("load")
+class ThreadingModeLoadTest {
+
+    private static final int CONCURRENCY = Integer.getInteger("load.concurrency", 64);
+    private static final int SECONDS = Integer.getInteger("load.seconds", 10);
+    private static final int PRESENTATIONS = Integer.getInteger("load.presentations", 2000);
+
+    @Test
+    void compareClassicAndVirtualThreads() throws Exception {
+        String body = LoadHarness.requestBody(PRESENTATIONS, 42);
+        List<String> report = new ArrayList<>();
+        report.add(LoadResult.HEADER);
+
+        report.add(run("classic", false, body));
+        if (Runtime.version().feature() >= 21) {
+            report.add(run("virtual", true, body));
+        } else {
+            report.add("virtual    skipped, virtual threads need a JDK 21+ runtime");
+        }
+
+        System.out.println(String.join(System.lineSeparator(), report));
+    }
+
+    private String run(String mode, boolean virtualThreads, String body) throws Exception {
+        try (ConfigurableApplicationContext context = LoadHarness.startApplication(
+                "spring.threads.virtual.enabled=" + virtualThreads, "schedule.cache.enabled=false")) {
+            LoadHarness harness = new LoadHarness(LoadHarness.scheduleUri(context), body, CONCURRENCY);
+            // Warming up the JIT so both modes are measured on compiled code
+            LoadResult result = harness.run(Duration.ofSeconds(Math.max(1, SECONDS / 2)), Duration.ofSeconds(SECONDS), Duration.ZERO, interval -> { });
+            assertEquals(0, result.errors(), mode + " run had failed requests");
+            return result.row(mode);
+        }
+    }
+}
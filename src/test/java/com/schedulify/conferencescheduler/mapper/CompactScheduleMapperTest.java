@@ -0,0 +1,54 @@
+package com.schedulify.conferencescheduler.mapper;
+
+import com.schedulify.conferencescheduler.domain.dto.ScheduleLayout;
+import com.schedulify.conferencescheduler.domain.dto.ValidatedPresentations;
+import com.schedulify.conferencescheduler.service.time.TimeLabelService;
+import com.schedulify.conferencescheduler.web.model.v1.response.CompactScheduleResponse;
+import com.schedulify.conferencescheduler.web.model.v1.response.SchedulePresentationsResponse;
+import org.junit.jupiter.api.Test;
+
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompactScheduleMapperTest {
+
+    private static final TimeLabelService TIME_LABEL_SERVICE = new TimeLabelService(DateTimeFormatter.ofPattern("hh:mma"));
+
+    private final CompactScheduleMapper compactScheduleMapper =
+            new CompactScheduleMapper(new ScheduleServiceMapper(TIME_LABEL_SERVICE), TIME_LABEL_SERVICE);
+
+    @Test
+    void testMapToCompactResponse() {
+        ScheduleLayout layout = new ScheduleLayout(new ValidatedPresentations(new String[]{"Keynote"}, new int[]{60}), new int[]{0, 3});
+        layout.setEvent(0, 0, 0, 540, 60);
+        layout.setEvent(1, 0, ScheduleLayout.LUNCH, 720, 60);
+        layout.setEvent(2, 0, ScheduleLayout.NETWORKING, 990, 30);
+
+        CompactScheduleResponse compactResponse = compactScheduleMapper.mapToCompactResponse(layout);
+
+        assertEquals("Success", compactResponse.getStatus());
+        assertEquals("Successfully scheduled events under 1 tracks.", compactResponse.getMessage());
+        assertNull(compactResponse.getOptimization());
+        assertEquals(1, compactResponse.getData().get(0).getTrackNo());
+        assertEquals(new CompactScheduleResponse.Event(0, "Keynote", 540, 600), compactResponse.getData().get(0).getEvents().get(0));
+        assertEquals(new CompactScheduleResponse.Event(1, "Lunch", 720, 780), compactResponse.getData().get(0).getEvents().get(1));
+        assertEquals(new CompactScheduleResponse.Event(2, "Networking Event", 990, 1020), compactResponse.getData().get(0).getEvents().get(2));
+    }
+
+    @Test
+    void testMapToResponseRestoresTheRegularSchedule() {
+        ScheduleLayout layout = new ScheduleLayout(new ValidatedPresentations(new String[]{"Keynote"}, new int[]{60}), new int[]{0, 3});
+        layout.setEvent(0, 0, 0, 540, 60);
+        layout.setEvent(1, 0, ScheduleLayout.LUNCH, 720, 60);
+        layout.setEvent(2, 0, ScheduleLayout.NETWORKING, 990, 30);
+        SchedulePresentationsResponse expected = new ScheduleServiceMapper(TIME_LABEL_SERVICE).mapToResponse(layout);
+        expected.setData(List.of(new ScheduleServiceMapper(TIME_LABEL_SERVICE).mapToTrack(layout, 0)));
+
+        CompactScheduleResponse compactResponse = compactScheduleMapper.mapToCompactResponse(layout);
+        compactResponse.setTimestamp(expected.getTimestamp());
+
+        assertEquals(expected, compactScheduleMapper.mapToResponse(compactResponse));
+    }
+}
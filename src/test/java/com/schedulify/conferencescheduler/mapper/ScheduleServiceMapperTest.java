@@ -1,14 +1,15 @@
 package com.schedulify.conferencescheduler.mapper;
 
 import com.schedulify.conferencescheduler.domain.dto.EventDto;
+import com.schedulify.conferencescheduler.domain.dto.ResolvedDayTemplate;
+import com.schedulify.conferencescheduler.domain.dto.ScheduleLayout;
+import com.schedulify.conferencescheduler.domain.dto.ValidatedPresentations;
 import com.schedulify.conferencescheduler.domain.enums.EventType;
-import com.schedulify.conferencescheduler.web.model.v1.request.SchedulePresentationsRequest;
+import com.schedulify.conferencescheduler.web.model.v1.response.SchedulePresentationsResponse;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
-import java.util.List;
-
 import static org.junit.jupiter.api.Assertions.*;
 
 @SpringBootTest
@@ -18,20 +19,49 @@ class ScheduleServiceMapperTest {
     private ScheduleServiceMapper scheduleServiceMapper;
 
     @Test
-    void testMapToEventDtos() {
-        List<SchedulePresentationsRequest.Presentation> presentations = List.of(
-                new SchedulePresentationsRequest.Presentation("Test Presentation", "60"),
-                new SchedulePresentationsRequest.Presentation("Lightning Presentation", "lightning")
-        );
+    void testMapToTrack() {
+        ScheduleLayout layout = layout(false);
+
+        SchedulePresentationsResponse.Track track = scheduleServiceMapper.mapToTrack(layout, 1);
 
-        SchedulePresentationsRequest request = new SchedulePresentationsRequest(presentations);
+        assertEquals(2, track.getTrackNo());
+        assertEquals(2, track.getTrack().size());
+        EventDto presentation = track.getTrack().get(0).getEvent();
+        assertEquals(EventType.PRESENTATION, presentation.getEventType());
+        assertEquals("Lightning Presentation", presentation.getSubject());
+        assertEquals(5, presentation.getDurationInMinutes());
+        assertEquals("09:00AM", presentation.getStartsAt());
+        assertEquals("09:05AM", presentation.getEndsAt());
+        EventDto lunch = track.getTrack().get(1).getEvent();
+        assertEquals(EventType.LUNCH, lunch.getEventType());
+        assertEquals("Lunch", lunch.getSubject());
+        assertEquals("12:00PM", lunch.getStartsAt());
+        assertEquals("01:00PM", lunch.getEndsAt());
+    }
 
-        List<EventDto> eventDtos = scheduleServiceMapper.mapToEventDtos(request);
+    @Test
+    void testMapToResponse() {
+        SchedulePresentationsResponse response = scheduleServiceMapper.mapToResponse(layout(false));
+
+        assertEquals("Success", response.getStatus());
+        assertNull(response.getData());
+        assertNull(response.getOptimization());
+
+        SchedulePresentationsResponse.Optimization optimization = scheduleServiceMapper.mapToResponse(layout(true)).getOptimization();
+        assertEquals(2, optimization.getTrackCount());
+        assertEquals(1, optimization.getLowerBound());
+        assertFalse(optimization.isProvenOptimal());
+        assertEquals(7, optimization.getElapsedMillis());
+    }
 
-        assertNotNull(eventDtos);
-        assertEquals(2, eventDtos.size());
-        assertEquals(EventType.PRESENTATION, eventDtos.get(0).getEventType());
-        assertEquals(60, eventDtos.get(0).getDurationInMinutes());
-        assertEquals(5, eventDtos.get(1).getDurationInMinutes());
+    private ScheduleLayout layout(boolean optimized) {
+        ValidatedPresentations presentations = new ValidatedPresentations(
+                new String[]{"Test Presentation", "Lightning Presentation"}, new int[]{60, 5});
+        ScheduleLayout layout = new ScheduleLayout(presentations, ResolvedDayTemplate.STANDARD, new int[]{0, 2, 4}, optimized, 1, 7);
+        layout.setEvent(0, 0, 0, 540, 60);
+        layout.setEvent(1, 0, ScheduleLayout.LUNCH, 720, 60);
+        layout.setEvent(2, 1, 1, 540, 5);
+        layout.setEvent(3, 1, ScheduleLayout.LUNCH, 720, 60);
+        return layout;
     }
 }
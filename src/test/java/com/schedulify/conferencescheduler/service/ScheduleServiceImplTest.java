@@ -1,23 +1,29 @@
 package com.schedulify.conferencescheduler.service;
 
-import com.schedulify.conferencescheduler.domain.dto.EventDto;
+import com.schedulify.conferencescheduler.config.DayProfileProperties;
+import com.schedulify.conferencescheduler.domain.dto.ScheduleLayout;
 import com.schedulify.conferencescheduler.domain.enums.EventType;
+import com.schedulify.conferencescheduler.domain.enums.SchedulingStrategy;
 import com.schedulify.conferencescheduler.exception.CustomValidationException;
 import com.schedulify.conferencescheduler.mapper.ScheduleServiceMapper;
+import com.schedulify.conferencescheduler.service.day.DayTemplateResolver;
+import com.schedulify.conferencescheduler.service.metrics.ScheduleMetrics;
+import com.schedulify.conferencescheduler.service.time.TimeLabelService;
+import com.schedulify.conferencescheduler.web.model.v1.request.DayTemplate;
 import com.schedulify.conferencescheduler.web.model.v1.request.SchedulePresentationsRequest;
 import com.schedulify.conferencescheduler.web.model.v1.response.SchedulePresentationsResponse;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
-import org.mockito.Mock;
-import org.mockito.MockitoAnnotations;
 import org.springframework.boot.test.context.SpringBootTest;
 
 import java.lang.reflect.Method;
-import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CancellationException;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -25,16 +31,18 @@ import static org.mockito.Mockito.*;
 @SpringBootTest
 class ScheduleServiceImplTest {
 
-    @Mock
     private ScheduleServiceMapper scheduleServiceMapper;
 
-    @InjectMocks
     private ScheduleServiceImpl scheduleService;
 
+    private SimpleMeterRegistry meterRegistry;
+
     @BeforeEach
     void setUp() {
-        MockitoAnnotations.openMocks(this);
-        scheduleService = new ScheduleServiceImpl(scheduleServiceMapper, DateTimeFormatter.ofPattern("hh:mma"));
+        meterRegistry = new SimpleMeterRegistry();
+        scheduleServiceMapper = spy(new ScheduleServiceMapper(new TimeLabelService(DateTimeFormatter.ofPattern("hh:mma"))));
+        scheduleService = new ScheduleServiceImpl(scheduleServiceMapper, new ScheduleMetrics(meterRegistry),
+                new DayTemplateResolver(new DayProfileProperties()));
     }
 
     @Test
@@ -46,18 +54,11 @@ class ScheduleServiceImplTest {
 
         SchedulePresentationsRequest request = new SchedulePresentationsRequest(presentations);
 
-        List<EventDto> eventDtos = List.of(
-                EventDto.builder().subject("Test Presentation").durationInMinutes(60).eventType(EventType.PRESENTATION).build(),
-                EventDto.builder().subject("Another Presentation").durationInMinutes(30).eventType(EventType.PRESENTATION).build()
-        );
-
-        when(scheduleServiceMapper.mapToEventDtos(any(SchedulePresentationsRequest.class))).thenReturn(eventDtos);
-
         SchedulePresentationsResponse response = scheduleService.schedule(request);
 
         assertNotNull(response);
         assertEquals("Success", response.getStatus());
-        verify(scheduleServiceMapper, times(1)).mapToEventDtos(any(SchedulePresentationsRequest.class));
+        verify(scheduleServiceMapper, times(1)).mapToTrack(any(ScheduleLayout.class), eq(0));
     }
 
     @Test
@@ -110,86 +111,450 @@ class ScheduleServiceImplTest {
     }
 
     @Test
-    void testSortPresentations() {
-        List<EventDto> eventDtos = new ArrayList<>();
-        eventDtos.add(EventDto.builder().subject("Short").durationInMinutes(30).eventType(EventType.PRESENTATION).build());
-        eventDtos.add(EventDto.builder().subject("Long").durationInMinutes(60).eventType(EventType.PRESENTATION).build());
+    void testScheduleCollectsAllValidationErrors() {
+        SchedulePresentationsRequest request = new SchedulePresentationsRequest(List.of(
+                new SchedulePresentationsRequest.Presentation("Valid", "60"),
+                new SchedulePresentationsRequest.Presentation("x", "60"),
+                new SchedulePresentationsRequest.Presentation("Too Long", "300")
+        ));
+        request.setCollectAllErrors(true);
+
+        CustomValidationException exception = assertThrows(CustomValidationException.class, () -> scheduleService.schedule(request));
+
+        assertEquals("Validation failed with 2 errors", exception.getMessage());
+        assertEquals(List.of(
+                "presentations[1]: The subject must contain at least two non-whitespace characters",
+                "presentations[2]: Duration must be between 1 and 240 minutes"
+        ), exception.getErrors());
+        verify(scheduleServiceMapper, never()).mapToTrack(any(ScheduleLayout.class), anyInt());
+    }
+
+    @Test
+    void testLayoutKeepsEventsAsPrimitives() {
+        ScheduleLayout layout = scheduleService.layout(requestWithDurations(60, 30, 240));
+
+        // Track 1: 60 + 30 in the morning, lunch, 240 in the afternoon; nothing is left for networking
+        assertEquals(1, layout.trackCount());
+        assertEquals(4, layout.eventCount());
+        assertArrayEquals(new int[]{0, 1, ScheduleLayout.LUNCH, 2}, layout.getReferences());
+        assertArrayEquals(new int[]{540, 600, 720, 780}, layout.getStartMinutes());
+        assertArrayEquals(new int[]{60, 30, 60, 240}, layout.getDurations());
+        assertEquals("Presentation 1", layout.subject(1));
+        verify(scheduleServiceMapper, never()).mapToTrack(any(ScheduleLayout.class), anyInt());
+    }
 
-        List<EventDto> sortedEventDtos = invokeSortPresentations(eventDtos);
+    @Test
+    void testScheduleFormatsTimesAtTheEdge() {
+        SchedulePresentationsResponse response = scheduleService.schedule(requestWithDurations(60, 30, 210));
+
+        List<SchedulePresentationsResponse.EventWrapper> track = response.getData().get(0).getTrack();
+        assertEquals("09:00AM", track.get(0).getEvent().getStartsAt());
+        assertEquals("10:00AM", track.get(1).getEvent().getStartsAt());
+        assertEquals("10:30AM", track.get(1).getEvent().getEndsAt());
+        assertEquals(EventType.NETWORKING, track.get(4).getEvent().getEventType());
+        assertEquals("04:30PM", track.get(4).getEvent().getStartsAt());
+        assertEquals("05:00PM", track.get(4).getEvent().getEndsAt());
+    }
 
-        assertEquals("Long", sortedEventDtos.get(0).getSubject());
-        assertEquals("Short", sortedEventDtos.get(1).getSubject());
+    @Test
+    void testLayoutFollowsDayTemplateOverSeveralDays() {
+        SchedulePresentationsRequest request = requestWithDurations(60, 45, 60);
+        request.setDayTemplate(new DayTemplate(2,
+                List.of(new DayTemplate.Session("10:15", "11:00"), new DayTemplate.Session("09:00", "10:00")),
+                List.of(new DayTemplate.FixedEvent("Coffee Break", "10:00", "10:15")),
+                null,
+                new DayTemplate.Networking("10:30", "11:30")));
+
+        ScheduleLayout layout = scheduleService.layout(request);
+
+        // Day 1: 60, coffee, 45 and networking until 11:30; day 2: 60, coffee and an empty session without networking
+        assertEquals(1, layout.trackCount());
+        assertArrayEquals(new int[]{0, -1, 1, -2, 2, -1}, layout.getReferences());
+        assertArrayEquals(new int[]{540, 600, 615, 660, 1440 + 540, 1440 + 600}, layout.getStartMinutes());
+        assertArrayEquals(new int[]{60, 15, 45, 30, 60, 15}, layout.getDurations());
+        assertEquals(EventType.BREAK, layout.eventType(1));
+        assertEquals(EventType.NETWORKING, layout.eventType(3));
+        assertEquals("Coffee Break", layout.subject(5));
+        assertEquals(1, layout.day(4));
+        assertEquals(540, layout.startMinuteOfDay(4));
     }
 
     @Test
-    void testAllocatePresentations() {
-        List<EventDto> eventDtos = List.of(
-                EventDto.builder().subject("Presentation 1").durationInMinutes(60).eventType(EventType.PRESENTATION).build(),
-                EventDto.builder().subject("Presentation 2").durationInMinutes(30).eventType(EventType.PRESENTATION).build()
-        );
+    void testScheduleWithDayTemplateReportsDays() {
+        SchedulePresentationsRequest request = requestWithDurations(30, 30);
+        request.setDayTemplate(new DayTemplate(2, List.of(new DayTemplate.Session("09:00", "09:30")), null, null, null));
 
-        List<EventDto> allocatedEvents = invokeAllocatePresentations(new ArrayList<>(eventDtos)); // Use a mutable list
+        SchedulePresentationsResponse response = scheduleService.schedule(request);
 
-        assertNotNull(allocatedEvents);
-        assertTrue(allocatedEvents.size() > 0);
+        List<SchedulePresentationsResponse.EventWrapper> track = response.getData().get(0).getTrack();
+        assertEquals(1, track.get(0).getEvent().getDay());
+        assertEquals(2, track.get(1).getEvent().getDay());
+        assertEquals("09:00AM", track.get(1).getEvent().getStartsAt());
     }
 
     @Test
-    void testAddPresentationsToSession() {
-        List<EventDto> sessionEvents = new ArrayList<>();
-        List<EventDto> unallocatedPresentations = new ArrayList<>();
-        unallocatedPresentations.add(EventDto.builder().subject("Presentation 1").durationInMinutes(60).eventType(EventType.PRESENTATION).build());
-        unallocatedPresentations.add(EventDto.builder().subject("Presentation 2").durationInMinutes(30).eventType(EventType.PRESENTATION).build());
+    void testScheduleOptimizeStrategyPacksDayTemplateSessions() {
+        SchedulePresentationsRequest request = requestWithDurations(50, 50, 40, 30, 30);
+        request.setStrategy(SchedulingStrategy.OPTIMIZE);
+        request.setDayTemplate(new DayTemplate(1,
+                List.of(new DayTemplate.Session("09:00", "10:40"), new DayTemplate.Session("11:00", "12:40")), null, null, null));
 
-        invokeAddPresentationsToSession(sessionEvents, unallocatedPresentations, LocalTime.of(9, 0), 180);
+        SchedulePresentationsResponse response = scheduleService.schedule(request);
 
-        assertFalse(sessionEvents.isEmpty());
-        assertEquals(2, sessionEvents.size());
+        assertEquals(1, response.getData().size());
+        assertEquals(5, response.getData().get(0).getTrack().size());
+        assertTrue(response.getOptimization().isProvenOptimal());
     }
 
-    // Helper methods to invoke private methods using reflection
+    @Test
+    void testScheduleRejectsPresentationsLongerThanEverySession() {
+        SchedulePresentationsRequest request = requestWithDurations(30, 90);
+        request.setDayTemplate(new DayTemplate(1, List.of(new DayTemplate.Session("09:00", "10:00")), null, null, null));
 
-    private void invokeValidatePresentations(List<SchedulePresentationsRequest.Presentation> presentations) {
-        try {
-            Method method = ScheduleServiceImpl.class.getDeclaredMethod("validatePresentations", List.class);
-            method.setAccessible(true);
-            method.invoke(scheduleService, presentations);
-        } catch (Exception e) {
-            if (e.getCause() instanceof CustomValidationException) {
-                throw (CustomValidationException) e.getCause();
+        CustomValidationException exception = assertThrows(CustomValidationException.class, () -> scheduleService.schedule(request));
+
+        assertEquals("Presentation 'Presentation 1' of 90 minutes does not fit into the longest session of the day (60 minutes)",
+                exception.getMessage());
+    }
+
+    @Test
+    void testScheduleResolvesDayTemplateOnce() {
+        DayTemplateResolver dayTemplateResolver = spy(new DayTemplateResolver(new DayProfileProperties()));
+        ScheduleServiceImpl service = new ScheduleServiceImpl(scheduleServiceMapper, new ScheduleMetrics(meterRegistry), dayTemplateResolver);
+        SchedulePresentationsRequest request = requestWithDurations(30, 30);
+        request.setDayTemplate(new DayTemplate(2, List.of(new DayTemplate.Session("09:00", "09:30")), null, null, null));
+
+        service.schedule(request);
+
+        verify(dayTemplateResolver).resolve(request);
+        verify(dayTemplateResolver).checkPresentationsFit(any(), any());
+    }
+
+    @Test
+    void testScheduleKeepsLongestFirstOrderAcrossTracks() {
+        List<SchedulePresentationsRequest.Presentation> presentations = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            presentations.add(new SchedulePresentationsRequest.Presentation("Long " + i, "240"));
+        }
+        presentations.add(new SchedulePresentationsRequest.Presentation("Short", "30"));
+
+        SchedulePresentationsResponse response = scheduleService.schedule(new SchedulePresentationsRequest(presentations));
+
+        assertEquals(4, response.getData().size());
+        // The 30 minute talk fills the first morning, 240 minute talks take one afternoon each in input order
+        assertEquals("Short", response.getData().get(0).getTrack().get(0).getEvent().getSubject());
+        assertEquals("Long 0", response.getData().get(0).getTrack().get(2).getEvent().getSubject());
+        assertEquals("Long 3", response.getData().get(3).getTrack().get(1).getEvent().getSubject());
+    }
+
+    @Test
+    void testScheduleExactStrategyUsesFewerTracks() {
+        SchedulePresentationsRequest greedyRequest = requestWithDurations(140, 100, 90, 60, 30);
+        SchedulePresentationsRequest exactRequest = requestWithDurations(140, 100, 90, 60, 30);
+        exactRequest.setStrategy(SchedulingStrategy.EXACT);
+
+        SchedulePresentationsResponse greedyResponse = scheduleService.schedule(greedyRequest);
+        SchedulePresentationsResponse exactResponse = scheduleService.schedule(exactRequest);
+
+        assertEquals(2, greedyResponse.getData().size());
+        assertEquals(1, exactResponse.getData().size());
+        List<SchedulePresentationsResponse.EventWrapper> track = exactResponse.getData().get(0).getTrack();
+        assertEquals("09:00AM", track.get(0).getEvent().getStartsAt());
+        assertEquals(EventType.LUNCH, track.get(3).getEvent().getEventType());
+        assertEquals("05:00PM", track.get(5).getEvent().getEndsAt());
+    }
+
+    @Test
+    void testScheduleOptimizeStrategyReportsLowerBound() {
+        SchedulePresentationsRequest request = requestWithDurations(240, 240, 180, 180, 60, 60, 45, 45, 30, 30);
+        request.setStrategy(SchedulingStrategy.OPTIMIZE);
+        request.setTimeBudgetInMillis(500L);
+
+        SchedulePresentationsResponse response = scheduleService.schedule(request);
+
+        assertNotNull(response.getOptimization());
+        assertEquals(response.getData().size(), response.getOptimization().getTrackCount());
+        assertEquals(3, response.getOptimization().getLowerBound());
+        assertTrue(response.getOptimization().isProvenOptimal());
+        long scheduledPresentations = response.getData().stream()
+                .flatMap(track -> track.getTrack().stream())
+                .filter(wrapper -> wrapper.getEvent().getEventType() == EventType.PRESENTATION)
+                .count();
+        assertEquals(10, scheduledPresentations);
+    }
+
+    @Test
+    void testScheduleGreedyStrategyHasNoOptimizationSummary() {
+        SchedulePresentationsResponse response = scheduleService.schedule(requestWithDurations(60, 30));
+
+        assertNull(response.getOptimization());
+    }
+
+    @Test
+    void testScheduleParallelModeMatchesSequentialMode() {
+        Random random = new Random(42);
+        int[] durations = new int[3000];
+        for (int i = 0; i < durations.length; i++) {
+            durations[i] = random.nextInt(8) == 0 ? 5 : 60 + random.nextInt(181);
+        }
+
+        for (SchedulingStrategy strategy : SchedulingStrategy.values()) {
+            SchedulePresentationsRequest sequentialRequest = requestWithDurations(durations);
+            sequentialRequest.setStrategy(strategy);
+            SchedulePresentationsRequest parallelRequest = requestWithDurations(durations);
+            parallelRequest.setStrategy(strategy);
+            parallelRequest.setParallel(true);
+
+            SchedulePresentationsResponse sequentialResponse = scheduleService.schedule(sequentialRequest);
+            SchedulePresentationsResponse parallelResponse = scheduleService.schedule(parallelRequest);
+
+            assertTrue(parallelResponse.getData().size() > 1024, "spans more than one parallel batch");
+            assertEquals(sequentialResponse.getData(), parallelResponse.getData(), strategy.name());
+            assertEquals(sequentialResponse.getMessage(), parallelResponse.getMessage());
+        }
+    }
+
+    @Test
+    void testScheduleRecordsPhaseMetrics() {
+        scheduleService.schedule(requestWithDurations(180, 200, 60));
+
+        for (String phase : new String[]{ScheduleMetrics.PHASE_VALIDATE, ScheduleMetrics.PHASE_SORT,
+                ScheduleMetrics.PHASE_ARRANGE, ScheduleMetrics.PHASE_TRACK_BUILD, ScheduleMetrics.PHASE_RESPONSE_BUILD}) {
+            assertTrue(meterRegistry.get(ScheduleMetrics.PHASE_TIMER).tag("phase", phase).timer().count() > 0, phase);
+        }
+        assertEquals(2, meterRegistry.get("schedule.session.fill").tag("session", "morning").timer().count());
+        assertEquals(3, meterRegistry.get("schedule.input.size").summary().totalAmount());
+        assertEquals(2, meterRegistry.get("schedule.tracks").summary().totalAmount());
+        // Track 1: 180 + 200, track 2: 60 in the morning and nothing in the afternoon
+        assertEquals(120, meterRegistry.get("schedule.session.idle").tag("session", "morning").summary().totalAmount());
+        assertEquals(40 + 240, meterRegistry.get("schedule.session.idle").tag("session", "afternoon").summary().totalAmount());
+        // Only the afternoon of track 1 ended with minutes to spare while the 60 minute presentation was still waiting
+        assertEquals(1, meterRegistry.get("schedule.session.short").counter().count());
+    }
+
+    @Test
+    void testScheduleReportsSessionUsage() {
+        SchedulePresentationsRequest request = requestWithDurations(180, 200, 60);
+        request.setReport(true);
+
+        SchedulePresentationsResponse response = scheduleService.schedule(request);
+
+        // Track 1: 180 + 200, track 2: 60 in the morning and nothing in the afternoon
+        SchedulePresentationsResponse.Report report = response.getReport();
+        assertEquals("Successfully scheduled events under 2 tracks.", response.getMessage());
+        assertEquals("greedy", report.getStrategy());
+        assertEquals(2, report.getTrackCount());
+        assertEquals(2, report.getTheoreticalMinimumTrackCount());
+        assertEquals(440, report.getUsedMinutes());
+        assertEquals(400, report.getIdleMinutes());
+        assertEquals(0.5238, report.getUtilization());
+        assertTrue(report.getEngineMillis() > 0);
+        assertEquals(2, report.getSessions().size());
+        SchedulePresentationsResponse.Session morning = report.getSessions().get(0);
+        assertEquals("09:00AM", morning.getStartsAt());
+        assertEquals("12:00PM", morning.getEndsAt());
+        assertEquals(240, morning.getUsedMinutes());
+        assertEquals(120, morning.getIdleMinutes());
+        assertNull(morning.getDay());
+        assertEquals(200, report.getSessions().get(1).getUsedMinutes());
+        assertEquals(280, report.getSessions().get(1).getIdleMinutes());
+    }
+
+    @Test
+    void testScheduleReportFollowsDayTemplate() {
+        SchedulePresentationsRequest request = requestWithDurations(50, 50, 40, 30, 30);
+        request.setStrategy(SchedulingStrategy.EXACT);
+        request.setDayTemplate(new DayTemplate(2, List.of(new DayTemplate.Session("09:00", "10:40")), null, null, null));
+        request.setReport(true);
+
+        SchedulePresentationsResponse.Report report = scheduleService.schedule(request).getReport();
+
+        // 200 minutes of presentations over tracks of two 100 minute sessions
+        assertEquals("exact", report.getStrategy());
+        assertEquals(1, report.getTheoreticalMinimumTrackCount());
+        assertEquals(report.getTrackCount(), report.getTheoreticalMinimumTrackCount());
+        assertEquals(1.0, report.getUtilization());
+        assertEquals(List.of(1, 2), report.getSessions().stream().map(SchedulePresentationsResponse.Session::getDay).toList());
+    }
+
+    @Test
+    void testScheduleWithoutReportRequested() {
+        assertNull(scheduleService.schedule(requestWithDurations(60, 30)).getReport());
+    }
+
+    @Test
+    void testScheduleGroupsLightningTalksIntoBlocks() {
+        List<SchedulePresentationsRequest.Presentation> presentations = new ArrayList<>();
+        presentations.add(new SchedulePresentationsRequest.Presentation("Keynote", "170"));
+        for (int i = 0; i < 8; i++) {
+            presentations.add(new SchedulePresentationsRequest.Presentation("Lightning " + i, "lightning"));
+        }
+        SchedulePresentationsRequest request = new SchedulePresentationsRequest(presentations);
+        request.setLightningBlockMinutes(30);
+        request.setReport(true);
+
+        SchedulePresentationsResponse response = scheduleService.schedule(request);
+
+        // Keynote and the first two talks close the morning, the other six open the afternoon
+        List<SchedulePresentationsResponse.EventWrapper> track = response.getData().get(0).getTrack();
+        assertEquals(1, response.getData().size());
+        assertEquals("Keynote", track.get(0).getEvent().getSubject());
+        assertNull(track.get(0).getEvent().getTalks());
+        assertBlock(track.get(1), 10, "11:50AM");
+        assertBlock(track.get(3), 30, "01:00PM");
+        assertEquals(List.of("Lightning 0", "Lightning 1"), track.get(1).getEvent().getTalks());
+        assertEquals(List.of("Lightning 2", "Lightning 3", "Lightning 4", "Lightning 5", "Lightning 6", "Lightning 7"),
+                track.get(3).getEvent().getTalks());
+        assertEquals(210, response.getReport().getUsedMinutes());
+    }
+
+    @Test
+    void testLightningBlocksNeverOutgrowTheLongestSession() {
+        List<SchedulePresentationsRequest.Presentation> presentations = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            presentations.add(new SchedulePresentationsRequest.Presentation("Lightning " + i, "lightning"));
+        }
+        SchedulePresentationsRequest request = new SchedulePresentationsRequest(presentations);
+        request.setLightningBlockMinutes(500);
+        request.setDayTemplate(new DayTemplate(1, List.of(new DayTemplate.Session("09:00", "10:00")), null, null, null));
+
+        ScheduleLayout layout = scheduleService.layout(request);
+
+        assertArrayEquals(new int[]{60, 60, 30}, layout.getDurations());
+        assertEquals(3, layout.trackCount());
+    }
+
+    @Test
+    void testLightningBlocksStillFillFiveMinuteGaps() {
+        List<SchedulePresentationsRequest.Presentation> presentations = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            presentations.add(new SchedulePresentationsRequest.Presentation("Talk " + i, "175"));
+        }
+        for (int i = 0; i < 70; i++) {
+            presentations.add(new SchedulePresentationsRequest.Presentation("Lightning " + i, "lightning"));
+        }
+        SchedulePresentationsRequest request = new SchedulePresentationsRequest(presentations);
+
+        for (SchedulingStrategy strategy : SchedulingStrategy.values()) {
+            request.setStrategy(strategy);
+            request.setLightningBlockMinutes(null);
+            assertEquals(5, scheduleService.layout(request).trackCount(), strategy.name());
+            request.setLightningBlockMinutes(30);
+            ScheduleLayout layout = scheduleService.layout(request);
+
+            // Every morning closes its 5 minute gap with a single talk, every afternoon takes 13 talks in three blocks
+            assertEquals(5, layout.trackCount(), strategy.name());
+            assertEquals(5 * 4 + 10, layout.getPresentations().size(), strategy.name());
+        }
+    }
+
+    @Test
+    void testLightningBlocksNeverNeedMoreTracks() {
+        Random random = new Random(24);
+        for (int run = 0; run < 20; run++) {
+            List<SchedulePresentationsRequest.Presentation> presentations = new ArrayList<>();
+            for (int i = 0, count = 1 + random.nextInt(40); i < count; i++) {
+                presentations.add(new SchedulePresentationsRequest.Presentation("Talk " + i, String.valueOf(5 * (1 + random.nextInt(48)))));
+            }
+            for (int i = 0, count = random.nextInt(120); i < count; i++) {
+                presentations.add(new SchedulePresentationsRequest.Presentation("Lightning " + i, "lightning"));
+            }
+            SchedulePresentationsRequest request = new SchedulePresentationsRequest(presentations);
+
+            for (SchedulingStrategy strategy : SchedulingStrategy.values()) {
+                request.setStrategy(strategy);
+                request.setLightningBlockMinutes(null);
+                int withoutBlocks = scheduleService.layout(request).trackCount();
+                request.setLightningBlockMinutes(5 * (2 + random.nextInt(12)));
+
+                assertTrue(scheduleService.layout(request).trackCount() <= withoutBlocks, strategy + " run " + run);
             }
-            fail("Exception during reflection invocation: " + e.getMessage());
         }
     }
 
-    private List<EventDto> invokeSortPresentations(List<EventDto> eventDtos) {
-        try {
-            Method method = ScheduleServiceImpl.class.getDeclaredMethod("sortPresentations", List.class);
-            method.setAccessible(true);
-            return (List<EventDto>) method.invoke(scheduleService, eventDtos);
-        } catch (Exception e) {
-            fail("Exception during reflection invocation: " + e.getMessage());
-            return null;
+    @Test
+    void testPlanningReportsProgressAndStopsWhenCancelled() {
+        SchedulePresentationsRequest request = requestWithDurations(180, 240, 180, 240, 180, 240);
+        for (SchedulingStrategy strategy : new SchedulingStrategy[]{SchedulingStrategy.GREEDY, SchedulingStrategy.OPTIMIZE}) {
+            request.setStrategy(strategy);
+            List<Integer> checkpoints = new ArrayList<>();
+
+            assertThrows(CancellationException.class, () -> scheduleService.layout(scheduleService.validate(request), request, placed -> {
+                checkpoints.add(placed);
+                if (placed >= 2) {
+                    throw new CancellationException();
+                }
+            }));
+
+            // Checked in before every track, greedy places one talk per session and the optimizer one per opened track
+            assertEquals(strategy == SchedulingStrategy.GREEDY ? List.of(0, 2) : List.of(0, 1, 2), checkpoints, strategy.name());
         }
     }
 
-    private List<EventDto> invokeAllocatePresentations(List<EventDto> eventDtos) {
-        try {
-            Method method = ScheduleServiceImpl.class.getDeclaredMethod("allocatePresentations", List.class);
-            method.setAccessible(true);
-            return (List<EventDto>) method.invoke(scheduleService, eventDtos);
-        } catch (Exception e) {
-            fail("Exception during reflection invocation: " + e.getMessage());
-            return null;
+    @Test
+    void testStreamedScheduleHandsOverEveryTrackAsSoonAsItIsPlanned() {
+        SchedulePresentationsRequest request = requestWithDurations(180, 240, 180, 240, 180, 200);
+        request.setReport(true);
+        SchedulePresentationsResponse whole = scheduleService.schedule(request);
+        List<SchedulePresentationsResponse.Track> tracks = new ArrayList<>();
+        List<Long> sessionsFilled = new ArrayList<>();
+
+        SchedulePresentationsResponse streamed = scheduleService.schedule(scheduleService.validate(request), request, track -> {
+            tracks.add(track);
+            sessionsFilled.add(meterRegistry.get("schedule.session.fill").timers().stream().mapToLong(Timer::count).sum());
+        });
+
+        // Every track went out right after its own two sessions were filled, before the next track was planned
+        assertEquals(List.of(6L + 2, 6L + 4, 6L + 6), sessionsFilled);
+        assertEquals(whole.getData(), tracks);
+        assertEquals(whole.getMessage(), streamed.getMessage());
+        assertEquals(whole.getReport().getSessions(), streamed.getReport().getSessions());
+        assertEquals(40, streamed.getReport().getIdleMinutes());
+        assertNotNull(streamed.getReport().getEngineMillis());
+    }
+
+    @Test
+    void testFlatScheduleListsTheSameEventsWithoutWrappers() {
+        SchedulePresentationsRequest request = requestWithDurations(180, 200, 60, 45, 30);
+        SchedulePresentationsResponse wrapped = scheduleService.schedule(request);
+        request.setFlat(true);
+        SchedulePresentationsResponse flat = scheduleService.schedule(request);
+
+        assertEquals(wrapped.getData().size(), flat.getData().size());
+        for (int track = 0; track < flat.getData().size(); track++) {
+            SchedulePresentationsResponse.Track flatTrack = flat.getData().get(track);
+            assertNull(flatTrack.getTrack());
+            assertEquals(track + 1, flatTrack.getTrackNo());
+            assertEquals(wrapped.getData().get(track).getTrack().stream().map(SchedulePresentationsResponse.EventWrapper::getEvent).toList(),
+                    flatTrack.getEvents());
+        }
+    }
+
+    private static void assertBlock(SchedulePresentationsResponse.EventWrapper wrapper, int duration, String startsAt) {
+        assertEquals("Lightning Talks", wrapper.getEvent().getSubject());
+        assertEquals(duration, wrapper.getEvent().getDurationInMinutes());
+        assertEquals(startsAt, wrapper.getEvent().getStartsAt());
+    }
+
+    private SchedulePresentationsRequest requestWithDurations(int... durations) {
+        List<SchedulePresentationsRequest.Presentation> presentations = new ArrayList<>();
+        for (int i = 0; i < durations.length; i++) {
+            presentations.add(new SchedulePresentationsRequest.Presentation("Presentation " + i, String.valueOf(durations[i])));
         }
+        return new SchedulePresentationsRequest(presentations);
     }
 
-    private void invokeAddPresentationsToSession(List<EventDto> sessionEvents, List<EventDto> unallocatedPresentations, LocalTime startTime, int sessionDurationInMinutes) {
+    // Helper methods to invoke private methods using reflection
+
+    private void invokeValidatePresentations(List<SchedulePresentationsRequest.Presentation> presentations) {
         try {
-            Method method = ScheduleServiceImpl.class.getDeclaredMethod("addPresentationsToSession", List.class, List.class, LocalTime.class, int.class);
+            Method method = ScheduleServiceImpl.class.getDeclaredMethod("validatePresentations", List.class, boolean.class);
             method.setAccessible(true);
-            method.invoke(scheduleService, sessionEvents, unallocatedPresentations, startTime, sessionDurationInMinutes);
+            method.invoke(scheduleService, presentations, false);
         } catch (Exception e) {
+            if (e.getCause() instanceof CustomValidationException) {
+                throw (CustomValidationException) e.getCause();
+            }
             fail("Exception during reflection invocation: " + e.getMessage());
         }
     }
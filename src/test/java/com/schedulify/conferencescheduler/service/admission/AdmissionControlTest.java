@@ -0,0 +1,102 @@
+package com.schedulify.conferencescheduler.service.admission;
+
+import com.schedulify.conferencescheduler.config.AdmissionProperties;
+import com.schedulify.conferencescheduler.domain.enums.SchedulingStrategy;
+import com.schedulify.conferencescheduler.exception.PayloadTooLargeException;
+import com.schedulify.conferencescheduler.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdmissionControlTest {
+
+    private final AdmissionProperties properties = new AdmissionProperties();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong nanoTime = new AtomicLong();
+    private AdmissionControl admissionControl;
+
+    @BeforeEach
+    void setUp() {
+        properties.setMaxPresentations(100);
+        properties.setMaxConcurrentCost(200);
+        properties.getRateLimit().setRequestsPerSecond(2);
+        properties.getRateLimit().setBurst(3);
+        admissionControl = new AdmissionControl(properties, meterRegistry, nanoTime::get);
+    }
+
+    @Test
+    void testRequestsBeyondTheCostBudgetAreRejectedUntilCostIsGivenBack() {
+        AdmissionControl.Permit first = admissionControl.admit(100, SchedulingStrategy.GREEDY);
+        AdmissionControl.Permit second = admissionControl.admit(50, SchedulingStrategy.EXACT);
+
+        assertThrows(TooManyRequestsException.class, () -> admissionControl.admit(1, SchedulingStrategy.GREEDY));
+        assertEquals(200, gauge());
+
+        second.close();
+        second.close();
+        assertEquals(100, gauge());
+        try (AdmissionControl.Permit third = admissionControl.admit(25, SchedulingStrategy.OPTIMIZE)) {
+            assertEquals(200, gauge());
+        }
+        first.close();
+        assertEquals(0, gauge());
+        assertEquals(1, rejections("cost"));
+    }
+
+    @Test
+    void testSingleRequestIsAdmittedWhenNothingElseRuns() {
+        properties.setMaxConcurrentCost(10);
+
+        try (AdmissionControl.Permit permit = admissionControl.admit(100, SchedulingStrategy.OPTIMIZE)) {
+            assertEquals(400, gauge());
+        }
+    }
+
+    @Test
+    void testTooManyPresentationsAreRejected() {
+        PayloadTooLargeException exception = assertThrows(PayloadTooLargeException.class,
+                () -> admissionControl.admit(101, SchedulingStrategy.GREEDY));
+
+        assertEquals("A schedule request can contain at most 100 presentations", exception.getMessage());
+        assertEquals(0, gauge());
+        assertEquals(1, rejections("presentations"));
+    }
+
+    @Test
+    void testTokenBucketPerClient() {
+        for (int i = 0; i < 3; i++) {
+            assertTrue(admissionControl.tryAcquireRate("alpha"));
+        }
+        assertFalse(admissionControl.tryAcquireRate("alpha"));
+        assertTrue(admissionControl.tryAcquireRate("beta"));
+
+        // Half a second later one token is back
+        nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+        assertTrue(admissionControl.tryAcquireRate("alpha"));
+        assertFalse(admissionControl.tryAcquireRate("alpha"));
+        assertEquals(2, rejections("rate-limit"));
+    }
+
+    @Test
+    void testDisabledAdmissionControlLetsEverythingThrough() {
+        properties.setEnabled(false);
+
+        admissionControl.checkPresentations(1_000);
+        admissionControl.admit(1_000, SchedulingStrategy.GREEDY);
+        admissionControl.admit(1_000, SchedulingStrategy.GREEDY);
+        assertEquals(0, gauge());
+    }
+
+    private double gauge() {
+        return meterRegistry.get("schedule.admission.cost").gauge().value();
+    }
+
+    private double rejections(String reason) {
+        return meterRegistry.get(AdmissionControl.REJECTIONS_COUNTER).tag("reason", reason).counter().count();
+    }
+}
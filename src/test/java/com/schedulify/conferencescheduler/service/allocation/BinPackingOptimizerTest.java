@@ -0,0 +1,89 @@
+package com.schedulify.conferencescheduler.service.allocation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BinPackingOptimizerTest {
+
+    private static final int[] SESSION_DURATIONS = {180, 240};
+
+    private final BinPackingOptimizer optimizer = new BinPackingOptimizer();
+
+    @Test
+    void testOptimizeBeatsFirstFitDecreasing() {
+        // First-fit decreasing needs two tracks here, 90 + 60 + 30 and 140 + 100 fill a single one
+        int[] presentations = {140, 100, 90, 60, 30};
+
+        PackingResult result = optimizer.optimize(presentations, SESSION_DURATIONS, 1_000);
+
+        assertEquals(1, result.getTracks().size());
+        assertEquals(1, result.getLowerBound());
+        assertTrue(result.isProvenOptimal());
+        assertValidPacking(presentations, result);
+    }
+
+    @Test
+    void testLowerBoundCountsPresentationsThatOnlyFitAfternoons() {
+        int[] presentations = {200, 200, 200, 10};
+
+        PackingResult result = optimizer.optimize(presentations, SESSION_DURATIONS, 100);
+
+        assertEquals(3, result.getLowerBound());
+        assertEquals(3, result.getTracks().size());
+        assertValidPacking(presentations, result);
+    }
+
+    @Test
+    void testSessionsRunLongestPresentationFirst() {
+        int[] presentations = {30, 60, 45};
+        PackingResult result = optimizer.optimize(presentations, SESSION_DURATIONS, 100);
+
+        int[] morning = result.getTracks().get(0).getSessions()[0];
+        assertArrayEquals(new int[]{60, 45, 30}, Arrays.stream(morning).map(presentation -> presentations[presentation]).toArray());
+    }
+
+    @Test
+    void testOptimizeProducesValidPackingsWithinLowerBound() {
+        Random random = new Random(11);
+        for (int run = 0; run < 50; run++) {
+            int[] durations = new int[1 + random.nextInt(60)];
+            for (int i = 0; i < durations.length; i++) {
+                durations[i] = random.nextInt(4) == 0 ? 5 : 1 + random.nextInt(240);
+            }
+            PackingResult result = optimizer.optimize(durations, SESSION_DURATIONS, 20);
+
+            assertTrue(result.getTracks().size() >= result.getLowerBound());
+            assertValidPacking(durations, result);
+        }
+    }
+
+    @Test
+    void testOptimizeWithoutPresentations() {
+        PackingResult result = optimizer.optimize(new int[0], SESSION_DURATIONS, 10);
+
+        assertTrue(result.getTracks().isEmpty());
+        assertEquals(0, result.getLowerBound());
+    }
+
+    private void assertValidPacking(int[] presentations, PackingResult result) {
+        Set<Integer> scheduled = new HashSet<>();
+        for (TrackPlan track : result.getTracks()) {
+            assertEquals(SESSION_DURATIONS.length, track.getSessions().length);
+            for (int session = 0; session < SESSION_DURATIONS.length; session++) {
+                int total = 0;
+                for (int presentation : track.getSessions()[session]) {
+                    assertTrue(scheduled.add(presentation), "Scheduled twice: " + presentation);
+                    total += presentations[presentation];
+                }
+                assertTrue(total <= SESSION_DURATIONS[session]);
+            }
+        }
+        assertEquals(presentations.length, scheduled.size());
+    }
+}
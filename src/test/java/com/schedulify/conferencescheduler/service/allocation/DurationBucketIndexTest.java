@@ -0,0 +1,58 @@
+package com.schedulify.conferencescheduler.service.allocation;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DurationBucketIndexTest {
+
+    @Test
+    void testLongestFittingDurationServesLongestFirst() {
+        DurationBucketIndex index = new DurationBucketIndex(new int[]{30, 60, 240});
+
+        assertEquals(240, index.longestFittingDuration(240));
+        assertEquals(2, index.poll(240));
+        assertEquals(60, index.longestFittingDuration(240));
+        assertEquals(1, index.poll(60));
+        assertEquals(0, index.poll(index.longestFittingDuration(240)));
+        assertTrue(index.isEmpty());
+    }
+
+    @Test
+    void testPollKeepsInputOrderWithinDuration() {
+        DurationBucketIndex index = new DurationBucketIndex(new int[]{45, 30, 45});
+
+        assertEquals(0, index.poll(45));
+        assertEquals(2, index.poll(45));
+        assertEquals(1, index.poll(30));
+    }
+
+    @Test
+    void testLongestFittingDurationRespectsRemainingMinutes() {
+        DurationBucketIndex index = new DurationBucketIndex(new int[]{200, 64, 63});
+
+        assertEquals(64, index.longestFittingDuration(199));
+        assertEquals(63, index.longestFittingDuration(63));
+        assertEquals(2, index.poll(63));
+        assertEquals(-1, index.longestFittingDuration(10));
+        assertEquals(-1, index.longestFittingDuration(0));
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    void testPollClearsEmptyBuckets() {
+        DurationBucketIndex index = new DurationBucketIndex(new int[]{120});
+
+        assertEquals(1, index.count(120));
+        assertEquals(0, index.poll(120));
+        assertEquals(0, index.count(120));
+        assertEquals(-1, index.poll(120));
+        assertEquals(-1, index.longestFittingDuration(240));
+    }
+
+    @Test
+    void testRejectsDurationsOutOfRange() {
+        assertThrows(IllegalArgumentException.class, () -> new DurationBucketIndex(new int[]{241}));
+        assertThrows(IllegalArgumentException.class, () -> new DurationBucketIndex(new int[]{0}));
+    }
+}
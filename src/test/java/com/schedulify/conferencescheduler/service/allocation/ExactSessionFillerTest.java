@@ -0,0 +1,79 @@
+package com.schedulify.conferencescheduler.service.allocation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExactSessionFillerTest {
+
+    private final ExactSessionFiller sessionFiller = new ExactSessionFiller();
+
+    @Test
+    void testFillFindsCombinationThatFillsSession() {
+        // Medium, Long, Another Medium
+        DurationBucketIndex index = new DurationBucketIndex(new int[]{90, 100, 90});
+
+        int[] sessionPresentations = sessionFiller.fill(index, 180);
+
+        assertArrayEquals(new int[]{0, 2}, sessionPresentations);
+        assertEquals(1, index.size());
+        assertEquals(1, index.count(100));
+    }
+
+    @Test
+    void testFillReturnsPresentationsLongestFirst() {
+        int[] durations = {30, 60, 90, 100, 140};
+        DurationBucketIndex index = new DurationBucketIndex(durations);
+
+        int[] sessionPresentations = sessionFiller.fill(index, 180);
+
+        assertArrayEquals(new int[]{90, 60, 30}, Arrays.stream(sessionPresentations).map(presentation -> durations[presentation]).toArray());
+    }
+
+    @Test
+    void testFillUsesClosestTotalWhenSessionCannotBeFilled() {
+        DurationBucketIndex index = new DurationBucketIndex(new int[]{70, 70, 70});
+
+        int[] sessionPresentations = sessionFiller.fill(index, 240);
+
+        assertEquals(3, sessionPresentations.length);
+        assertTrue(index.isEmpty());
+    }
+
+    @Test
+    void testFillMatchesBestPossibleTotal() {
+        Random random = new Random(7);
+        for (int run = 0; run < 200; run++) {
+            int[] durations = new int[1 + random.nextInt(12)];
+            for (int i = 0; i < durations.length; i++) {
+                durations[i] = 1 + random.nextInt(240);
+            }
+            int capacity = random.nextBoolean() ? 180 : 240;
+
+            int[] sessionPresentations = sessionFiller.fill(new DurationBucketIndex(durations), capacity);
+
+            int total = Arrays.stream(sessionPresentations).map(presentation -> durations[presentation]).sum();
+            assertTrue(total <= capacity);
+            assertEquals(bestTotal(durations, capacity), total);
+        }
+    }
+
+    private int bestTotal(int[] durations, int capacity) {
+        int best = 0;
+        for (int mask = 0; mask < 1 << durations.length; mask++) {
+            int total = 0;
+            for (int i = 0; i < durations.length; i++) {
+                if ((mask & (1 << i)) != 0) {
+                    total += durations[i];
+                }
+            }
+            if (total <= capacity) {
+                best = Math.max(best, total);
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,37 @@
+package com.schedulify.conferencescheduler.service.allocation;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GreedySessionFillerTest {
+
+    private final GreedySessionFiller sessionFiller = new GreedySessionFiller();
+
+    @Test
+    void testFillTakesLongestPresentationThatFits() {
+        // Medium, Long, Another Medium
+        DurationBucketIndex index = new DurationBucketIndex(new int[]{90, 100, 90});
+
+        int[] sessionPresentations = sessionFiller.fill(index, 180);
+
+        assertArrayEquals(new int[]{1}, sessionPresentations);
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    void testFillKeepsTakingWhileTimeRemains() {
+        DurationBucketIndex index = new DurationBucketIndex(new int[]{30, 60, 45, 45});
+
+        assertArrayEquals(new int[]{1, 2, 3, 0}, sessionFiller.fill(index, 180));
+        assertTrue(index.isEmpty());
+    }
+
+    @Test
+    void testFillStopsWhenNothingFits() {
+        DurationBucketIndex index = new DurationBucketIndex(new int[]{240});
+
+        assertEquals(0, sessionFiller.fill(index, 180).length);
+        assertEquals(1, index.size());
+    }
+}
@@ -0,0 +1,72 @@
+package com.schedulify.conferencescheduler.service.allocation;
+
+import com.schedulify.conferencescheduler.domain.dto.ValidatedPresentations;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LightningBlocksTest {
+
+    private static final ValidatedPresentations PRESENTATIONS = new ValidatedPresentations(
+            new String[]{"Keynote", "One", "Two", "Three", "Panel", "Four", "Five"},
+            new int[]{60, 5, 5, 5, 45, 5, 5},
+            new boolean[]{false, true, true, true, false, true, true},
+            null);
+
+    @Test
+    void testTalksOfEverySessionAreGroupedInPlannedOrderWithAShorterLastBlock() {
+        List<TrackPlan> trackPlans = List.of(new TrackPlan(new int[][]{{0, 1, 2, 3, 5}, {4, 6}}));
+
+        LightningBlocks.Grouped grouped = LightningBlocks.group(PRESENTATIONS, trackPlans, 15);
+
+        ValidatedPresentations blocks = grouped.getPresentations();
+        assertArrayEquals(new String[]{"Keynote", "Panel", "Lightning Talks", "Lightning Talks", "Lightning Talks"}, blocks.getSubjects());
+        assertArrayEquals(new int[]{60, 45, 15, 5, 5}, blocks.getDurationsInMinutes());
+        assertArrayEquals(new String[]{"One", "Two", "Three"}, blocks.talks(2));
+        assertArrayEquals(new String[]{"Four"}, blocks.talks(3));
+        assertArrayEquals(new String[]{"Five"}, blocks.talks(4));
+        assertNull(blocks.talks(1));
+        assertTrue(blocks.isLightning(3));
+        assertFalse(blocks.isLightning(0));
+        assertArrayEquals(new int[]{0, 2, 3}, grouped.getTrackPlans().get(0).getSessions()[0]);
+        assertArrayEquals(new int[]{1, 4}, grouped.getTrackPlans().get(0).getSessions()[1]);
+    }
+
+    @Test
+    void testBlocksRunAfterLongerPresentations() {
+        ValidatedPresentations presentations = new ValidatedPresentations(
+                new String[]{"One", "Two", "Three", "Short"}, new int[]{5, 5, 5, 10}, new boolean[]{true, true, true, false}, null);
+
+        LightningBlocks.Grouped grouped = LightningBlocks.group(presentations, List.of(new TrackPlan(new int[][]{{0, 1, 3, 2}})), 30);
+
+        // The 15 minute block of three talks now runs before the 10 minute talk
+        assertArrayEquals(new int[]{1, 0}, grouped.getTrackPlans().get(0).getSessions()[0]);
+    }
+
+    @Test
+    void testDescribeNamesTheTalks() {
+        assertEquals("Lightning Talks: One, Two", LightningBlocks.describe(new String[]{"One", "Two"}));
+    }
+
+    @Test
+    void testBlockLengthIsRoundedDownToWholeTalks() {
+        ValidatedPresentations presentations = new ValidatedPresentations(
+                new String[]{"One", "Two", "Three"}, new int[]{5, 5, 5}, new boolean[]{true, true, true}, null);
+
+        LightningBlocks.Grouped grouped = LightningBlocks.group(presentations, List.of(new TrackPlan(new int[][]{{0, 1, 2}})), 14);
+
+        assertArrayEquals(new int[]{10, 5}, grouped.getPresentations().getDurationsInMinutes());
+    }
+
+    @Test
+    void testNothingToGroup() {
+        ValidatedPresentations fiveMinuteTalks = new ValidatedPresentations(new String[]{"One", "Two"}, new int[]{5, 5});
+        List<TrackPlan> trackPlans = List.of(new TrackPlan(new int[][]{{0, 1}}));
+
+        assertNull(LightningBlocks.group(fiveMinuteTalks, trackPlans, 30));
+        assertNull(LightningBlocks.group(PRESENTATIONS, trackPlans, 9));
+        assertNull(LightningBlocks.group(PRESENTATIONS, trackPlans, 0));
+    }
+}
@@ -0,0 +1,87 @@
+package com.schedulify.conferencescheduler.service.batch;
+
+import com.schedulify.conferencescheduler.exception.CustomValidationException;
+import com.schedulify.conferencescheduler.service.ScheduleService;
+import com.schedulify.conferencescheduler.web.model.v1.request.SchedulePresentationsRequest;
+import com.schedulify.conferencescheduler.web.model.v1.response.ScheduleBatchResponse;
+import com.schedulify.conferencescheduler.web.model.v1.response.SchedulePresentationsResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class ScheduleBatchServiceTest {
+
+    private ScheduleService scheduleService;
+    private ScheduleBatchService scheduleBatchService;
+
+    @BeforeEach
+    void setUp() {
+        scheduleService = mock(ScheduleService.class);
+        scheduleBatchService = new ScheduleBatchService(scheduleService, 100);
+        when(scheduleService.schedule(any(SchedulePresentationsRequest.class))).thenAnswer(invocation -> {
+            SchedulePresentationsRequest request = invocation.getArgument(0);
+            String subject = request.getPresentations().get(0).getSubject();
+            if (subject.startsWith("Invalid")) {
+                throw new CustomValidationException("Validation failed with 2 errors", List.of("first", "second"));
+            }
+            if (subject.startsWith("Broken")) {
+                throw new IllegalStateException("boom");
+            }
+            return SchedulePresentationsResponse.builder().status("Success").message(subject).build();
+        });
+    }
+
+    @Test
+    void testResultsKeepRequestOrder() {
+        List<SchedulePresentationsRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            requests.add(request("Conference " + i));
+        }
+
+        ScheduleBatchResponse response = scheduleBatchService.schedule(requests);
+
+        assertEquals(50, response.getSucceeded());
+        assertEquals(0, response.getFailed());
+        for (int i = 0; i < 50; i++) {
+            assertEquals("Conference " + i, response.getData().get(i).getMessage());
+        }
+    }
+
+    @Test
+    void testFailuresAreReportedPerRequest() {
+        ScheduleBatchResponse response = scheduleBatchService.schedule(Arrays.asList(
+                request("Conference"), request("Invalid"), null, request("Broken"), new SchedulePresentationsRequest()));
+
+        assertEquals(1, response.getSucceeded());
+        assertEquals(4, response.getFailed());
+        assertEquals("Success", response.getData().get(0).getStatus());
+        assertEquals("Validation failed with 2 errors", response.getData().get(1).getMessage());
+        assertEquals(List.of("first", "second"), response.getData().get(1).getData());
+        assertEquals("Presentations cannot be null", response.getData().get(2).getMessage());
+        assertEquals("Scheduling failed: boom", response.getData().get(3).getMessage());
+        assertEquals("Presentations cannot be null", response.getData().get(4).getMessage());
+        assertEquals("Scheduled 1 of 5 requests", response.getMessage());
+    }
+
+    @Test
+    void testOversizedBatchIsRejected() {
+        List<SchedulePresentationsRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 101; i++) {
+            requests.add(request("Conference " + i));
+        }
+
+        assertThrows(CustomValidationException.class, () -> scheduleBatchService.schedule(requests));
+        verifyNoInteractions(scheduleService);
+    }
+
+    private SchedulePresentationsRequest request(String subject) {
+        return new SchedulePresentationsRequest(List.of(new SchedulePresentationsRequest.Presentation(subject, "60")));
+    }
+}
@@ -0,0 +1,181 @@
+package com.schedulify.conferencescheduler.service.cache;
+
+import com.schedulify.conferencescheduler.domain.dto.ScheduleLayout;
+import com.schedulify.conferencescheduler.domain.dto.ValidatedPresentations;
+import com.schedulify.conferencescheduler.domain.enums.SchedulingStrategy;
+import com.schedulify.conferencescheduler.exception.CustomValidationException;
+import com.schedulify.conferencescheduler.mapper.ScheduleServiceMapper;
+import com.schedulify.conferencescheduler.service.ScheduleService;
+import com.schedulify.conferencescheduler.service.time.TimeLabelService;
+import com.schedulify.conferencescheduler.web.model.v1.request.SchedulePresentationsRequest;
+import com.schedulify.conferencescheduler.web.model.v1.response.SchedulePresentationsResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class CachingScheduleServiceTest {
+
+    private ScheduleService scheduleService;
+    private SimpleMeterRegistry meterRegistry;
+    private CachingScheduleService cachingScheduleService;
+
+    @BeforeEach
+    void setUp() {
+        scheduleService = mock(ScheduleService.class);
+        meterRegistry = new SimpleMeterRegistry();
+        cachingScheduleService = new CachingScheduleService(scheduleService, 1000, Duration.ofMinutes(10), meterRegistry);
+        when(scheduleService.layout(any(SchedulePresentationsRequest.class))).thenAnswer(invocation -> layout());
+        when(scheduleService.layout(any(ValidatedPresentations.class), any(SchedulePresentationsRequest.class))).thenAnswer(invocation -> layout());
+        when(scheduleService.render(any(ScheduleLayout.class), any(SchedulePresentationsRequest.class), any())).thenAnswer(invocation -> {
+            ScheduleLayout layout = invocation.getArgument(0);
+            Consumer<SchedulePresentationsResponse.Track> trackConsumer = invocation.getArgument(2);
+            for (int track = 0; track < layout.trackCount(); track++) {
+                trackConsumer.accept(SchedulePresentationsResponse.Track.builder().trackNo(track + 1).track(List.of()).build());
+            }
+            return SchedulePresentationsResponse.builder().status("Success").timestamp(LocalDateTime.now()).build();
+        });
+    }
+
+    @Test
+    void testRepeatedRequestInAnyOrderIsServedFromCache() {
+        SchedulePresentationsResponse first = cachingScheduleService.schedule(request(SchedulingStrategy.GREEDY, "A:60", "B:30", "C:lightning"));
+        SchedulePresentationsResponse second = cachingScheduleService.schedule(request(SchedulingStrategy.GREEDY, "C:lightning", "A:60", "B:30"));
+
+        verify(scheduleService, times(1)).layout(any(SchedulePresentationsRequest.class));
+        verify(scheduleService, times(2)).render(any(ScheduleLayout.class), any(SchedulePresentationsRequest.class), any());
+        assertEquals(first.getData(), second.getData());
+        assertNotSame(first, second);
+        assertNotSame(first.getData(), second.getData());
+        assertTrue(!second.getTimestamp().isBefore(first.getTimestamp()));
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", CachingScheduleService.CACHE_NAME).tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", CachingScheduleService.CACHE_NAME).tag("result", "miss").functionCounter().count());
+    }
+
+    @Test
+    void testDifferentPresentationsOrOptionsMiss() {
+        cachingScheduleService.schedule(request(SchedulingStrategy.GREEDY, "A:60", "B:30"));
+        cachingScheduleService.schedule(request(SchedulingStrategy.GREEDY, "A:60", "B:31"));
+        cachingScheduleService.schedule(request(SchedulingStrategy.GREEDY, "A:30", "B:60"));
+        cachingScheduleService.schedule(request(SchedulingStrategy.GREEDY, "A:60", "B:30", "B:30"));
+        cachingScheduleService.schedule(request(SchedulingStrategy.EXACT, "A:60", "B:30"));
+
+        verify(scheduleService, times(5)).layout(any(SchedulePresentationsRequest.class));
+    }
+
+    @Test
+    void testValidatedPresentationsAreCachedSeparately() {
+        ValidatedPresentations presentations = new ValidatedPresentations(new String[]{"A", "B"}, new int[]{60, 30});
+        ValidatedPresentations reordered = new ValidatedPresentations(new String[]{"B", "A"}, new int[]{30, 60});
+        SchedulePresentationsRequest options = request(SchedulingStrategy.GREEDY);
+
+        cachingScheduleService.schedule(presentations, options);
+        cachingScheduleService.schedule(reordered, options);
+        cachingScheduleService.schedule(request(SchedulingStrategy.GREEDY, "A:60", "B:30"));
+
+        verify(scheduleService, times(1)).layout(any(ValidatedPresentations.class), any(SchedulePresentationsRequest.class));
+        verify(scheduleService, times(1)).layout(any(SchedulePresentationsRequest.class));
+    }
+
+    @Test
+    void testLightningTalksAndFiveMinuteTalksMiss() {
+        String[] subjects = {"A", "B"};
+        ValidatedPresentations fiveMinuteTalks = new ValidatedPresentations(subjects, new int[]{5, 5});
+        ValidatedPresentations lightningTalks = new ValidatedPresentations(subjects, new int[]{5, 5}, new boolean[]{true, true}, null);
+        SchedulePresentationsRequest options = request(SchedulingStrategy.GREEDY);
+        options.setLightningBlockMinutes(30);
+
+        cachingScheduleService.schedule(fiveMinuteTalks, options);
+        cachingScheduleService.schedule(lightningTalks, options);
+        cachingScheduleService.schedule(lightningTalks, options);
+
+        verify(scheduleService, times(2)).layout(any(ValidatedPresentations.class), any(SchedulePresentationsRequest.class));
+    }
+
+    @Test
+    void testReportOfCacheHitHasNoEngineTime() {
+        ScheduleServiceMapper scheduleServiceMapper = new ScheduleServiceMapper(new TimeLabelService(DateTimeFormatter.ofPattern("hh:mma")));
+        SchedulePresentationsRequest request = request(SchedulingStrategy.GREEDY, "A:60");
+        when(scheduleService.layout(any(SchedulePresentationsRequest.class))).thenAnswer(invocation -> {
+            ScheduleLayout layout = layout();
+            layout.recordEngineRun(SchedulingStrategy.GREEDY, 5_000_000);
+            return layout;
+        });
+
+        SchedulePresentationsResponse.Report miss = scheduleServiceMapper.mapToReport(cachingScheduleService.layout(request));
+        SchedulePresentationsResponse.Report hit = scheduleServiceMapper.mapToReport(cachingScheduleService.layout(request));
+
+        assertEquals(5.0, miss.getEngineMillis());
+        assertFalse(miss.isCached());
+        assertNull(hit.getEngineMillis());
+        assertTrue(hit.isCached());
+        assertEquals("greedy", hit.getStrategy());
+        assertEquals(miss.getSessions(), hit.getSessions());
+    }
+
+    @Test
+    void testFailuresAreNotCached() {
+        when(scheduleService.layout(any(SchedulePresentationsRequest.class))).thenThrow(new CustomValidationException("invalid"));
+
+        assertThrows(CustomValidationException.class, () -> cachingScheduleService.schedule(request(SchedulingStrategy.GREEDY, "A:abc")));
+        assertThrows(CustomValidationException.class, () -> cachingScheduleService.schedule(request(SchedulingStrategy.GREEDY, "A:abc")));
+
+        verify(scheduleService, times(2)).layout(any(SchedulePresentationsRequest.class));
+    }
+
+    @Test
+    void testStreamedSchedulesAreServedFromCacheAndStreamedOnAMiss() {
+        ValidatedPresentations presentations = new ValidatedPresentations(new String[]{"A"}, new int[]{60});
+        SchedulePresentationsRequest options = request(SchedulingStrategy.GREEDY);
+        List<SchedulePresentationsResponse.Track> tracks = new ArrayList<>();
+
+        cachingScheduleService.schedule(presentations, options, tracks::add);
+        SchedulePresentationsResponse response = cachingScheduleService.schedule(presentations, options);
+        cachingScheduleService.schedule(presentations, options, tracks::add);
+
+        // The miss went to the engine track by track, the hit rendered the layout cached in between
+        verify(scheduleService, times(1)).schedule(same(presentations), same(options), any());
+        verify(scheduleService, times(1)).layout(any(ValidatedPresentations.class), any(SchedulePresentationsRequest.class));
+        assertEquals(1, tracks.size());
+        assertEquals(1, response.getData().size());
+    }
+
+    @Test
+    void testLayoutIsServedFromCache() {
+        SchedulePresentationsRequest request = request(SchedulingStrategy.GREEDY, "A:60");
+
+        ScheduleLayout first = cachingScheduleService.layout(request);
+        ScheduleLayout second = cachingScheduleService.layout(request);
+
+        assertSame(first.getReferences(), second.getReferences());
+        assertFalse(first.isCached());
+        assertTrue(second.isCached());
+        verify(scheduleService, times(1)).layout(any(SchedulePresentationsRequest.class));
+        verify(scheduleService, never()).render(any(), any(), any());
+    }
+
+    private SchedulePresentationsRequest request(SchedulingStrategy strategy, String... presentations) {
+        SchedulePresentationsRequest request = new SchedulePresentationsRequest(List.of(presentations).stream()
+                .map(presentation -> new SchedulePresentationsRequest.Presentation(presentation.split(":")[0], presentation.split(":")[1]))
+                .toList());
+        request.setStrategy(strategy);
+        return request;
+    }
+
+    private ScheduleLayout layout() {
+        ScheduleLayout layout = new ScheduleLayout(new ValidatedPresentations(new String[]{"A"}, new int[]{60}), new int[]{0, 2});
+        layout.setEvent(0, 0, 0, 540, 60);
+        layout.setEvent(1, 0, ScheduleLayout.LUNCH, 720, 60);
+        return layout;
+    }
+}
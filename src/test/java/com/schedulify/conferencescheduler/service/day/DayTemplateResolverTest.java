@@ -0,0 +1,97 @@
+package com.schedulify.conferencescheduler.service.day;
+
+import com.schedulify.conferencescheduler.config.DayProfileProperties;
+import com.schedulify.conferencescheduler.domain.dto.ResolvedDayTemplate;
+import com.schedulify.conferencescheduler.domain.enums.EventType;
+import com.schedulify.conferencescheduler.exception.CustomValidationException;
+import com.schedulify.conferencescheduler.web.model.v1.request.DayTemplate;
+import com.schedulify.conferencescheduler.web.model.v1.request.SchedulePresentationsRequest;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DayTemplateResolverTest {
+
+    private static final DayTemplate COFFEE_BREAKS = new DayTemplate(2,
+            List.of(new DayTemplate.Session("13:00", "17:00"), new DayTemplate.Session("09:00", "10:30"), new DayTemplate.Session("10:45", "12:00")),
+            List.of(new DayTemplate.FixedEvent("Lunch", "12:00", "13:00", EventType.LUNCH), new DayTemplate.FixedEvent("Coffee", "10:30", "10:45")),
+            null,
+            new DayTemplate.Networking("16:00", "17:30"));
+
+    @Test
+    void testResolvesStandardDayWithoutTemplate() {
+        DayTemplateResolver resolver = new DayTemplateResolver(new DayProfileProperties());
+
+        assertSame(ResolvedDayTemplate.STANDARD, resolver.resolve(new SchedulePresentationsRequest()));
+        assertArrayEquals(new int[]{0, -1, 1}, ResolvedDayTemplate.STANDARD.getSlots());
+        assertArrayEquals(new int[]{180, 240}, ResolvedDayTemplate.STANDARD.getTrackSessionDurations());
+    }
+
+    @Test
+    void testResolvesTemplateInRunningOrder() {
+        DayTemplateResolver resolver = new DayTemplateResolver(new DayProfileProperties());
+        SchedulePresentationsRequest request = new SchedulePresentationsRequest();
+        request.setDayTemplate(COFFEE_BREAKS);
+
+        ResolvedDayTemplate template = resolver.resolve(request);
+
+        assertArrayEquals(new int[]{540, 645, 780}, template.getSessionStarts());
+        assertArrayEquals(new int[]{90, 75, 240}, template.getSessionDurations());
+        assertArrayEquals(new int[]{0, -1, 1, -2, 2}, template.getSlots());
+        assertArrayEquals(new int[]{90, 75, 240, 90, 75, 240}, template.getTrackSessionDurations());
+        assertEquals(EventType.BREAK, template.eventType(-1));
+        assertEquals(EventType.LUNCH, template.eventType(-2));
+        assertEquals("Networking Event", template.subject(template.networkingReference()));
+        assertTrue(template.hasNetworkingEvent(17 * 60));
+        assertFalse(template.hasNetworkingEvent(16 * 60));
+    }
+
+    @Test
+    void testResolvesConfiguredProfiles() {
+        DayProfileProperties properties = new DayProfileProperties();
+        properties.getProfiles().put("coffee-breaks", COFFEE_BREAKS);
+        DayTemplateResolver resolver = new DayTemplateResolver(properties);
+        SchedulePresentationsRequest request = new SchedulePresentationsRequest();
+        request.setDayProfile("coffee-breaks");
+
+        assertSame(resolver.resolve(request), resolver.resolve(request));
+        assertEquals(2, resolver.resolve(request).getDays());
+
+        request.setDayProfile("missing");
+        assertEquals("Unknown day profile: missing", assertThrows(CustomValidationException.class, () -> resolver.resolve(request)).getMessage());
+        request.setDayTemplate(COFFEE_BREAKS);
+        assertThrows(CustomValidationException.class, () -> resolver.resolve(request));
+    }
+
+    @Test
+    void testCollectsTemplateErrors() {
+        DayTemplateResolver resolver = new DayTemplateResolver(new DayProfileProperties());
+        SchedulePresentationsRequest request = new SchedulePresentationsRequest();
+        request.setDayTemplate(new DayTemplate(0,
+                List.of(new DayTemplate.Session("09:00", "12:00"), new DayTemplate.Session("13:00", "9am")),
+                List.of(new DayTemplate.FixedEvent(" ", "11:30", "12:30")),
+                null, null));
+
+        CustomValidationException exception = assertThrows(CustomValidationException.class, () -> resolver.resolve(request));
+
+        assertEquals("Invalid day template", exception.getMessage());
+        assertEquals(List.of(
+                "Days must be between 1 and 31: 0",
+                "Session 2 has an invalid end time, expected HH:mm: 9am",
+                "Break 1 needs a subject",
+                "Sessions and fixed events must not overlap: session 09:00 - 12:00 and ' ' 11:30 - 12:30"
+        ), exception.getErrors());
+    }
+
+    @Test
+    void testInvalidProfileFailsStartup() {
+        DayProfileProperties properties = new DayProfileProperties();
+        properties.getProfiles().put("empty", new DayTemplate());
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> new DayTemplateResolver(properties));
+
+        assertTrue(exception.getMessage().startsWith("Invalid day profile 'empty'"));
+    }
+}
@@ -0,0 +1,247 @@
+package com.schedulify.conferencescheduler.service.draft;
+
+import com.schedulify.conferencescheduler.config.DayProfileProperties;
+import com.schedulify.conferencescheduler.domain.enums.DraftOperation;
+import com.schedulify.conferencescheduler.domain.enums.PresentationChangeType;
+import com.schedulify.conferencescheduler.exception.CustomValidationException;
+import com.schedulify.conferencescheduler.exception.DraftNotFoundException;
+import com.schedulify.conferencescheduler.mapper.ScheduleServiceMapper;
+import com.schedulify.conferencescheduler.service.ScheduleServiceImpl;
+import com.schedulify.conferencescheduler.service.day.DayTemplateResolver;
+import com.schedulify.conferencescheduler.service.metrics.ScheduleMetrics;
+import com.schedulify.conferencescheduler.service.time.TimeLabelService;
+import com.schedulify.conferencescheduler.web.model.v1.request.ScheduleDraftPatchRequest;
+import com.schedulify.conferencescheduler.web.model.v1.request.SchedulePresentationsRequest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScheduleDraftServiceTest {
+
+    private final MutableClock clock = new MutableClock();
+    private ScheduleDraftService scheduleDraftService;
+
+    @BeforeEach
+    void setUp() {
+        ScheduleServiceMapper scheduleServiceMapper = new ScheduleServiceMapper(new TimeLabelService(DateTimeFormatter.ofPattern("hh:mma")));
+        ScheduleServiceImpl scheduleService = new ScheduleServiceImpl(scheduleServiceMapper, new ScheduleMetrics(new SimpleMeterRegistry()),
+                new DayTemplateResolver(new DayProfileProperties()));
+        scheduleDraftService = new ScheduleDraftService(scheduleService, scheduleServiceMapper, Duration.ofMinutes(30), clock);
+    }
+
+    @Test
+    void testCreateKeepsTheRegularSchedule() {
+        DraftSnapshot draft = createDraft();
+
+        // Track 1: Alpha in the morning, Beta in the afternoon; track 2: Gamma and Delta in the morning
+        assertEquals(2, draft.getTrackCount());
+        assertEquals(4, draft.getPresentations());
+        assertEquals(0, draft.getVersion());
+        assertNull(draft.getChanges());
+        assertEquals("Gamma", draft.getTracks().get(1).getTrack().get(0).getEvent().getSubject());
+    }
+
+    @Test
+    void testAddPlacesIntoFirstSessionWithRoom() {
+        String draftId = createDraft().getId();
+
+        DraftSnapshot patched = patch(draftId, new ScheduleDraftPatchRequest.Change(DraftOperation.ADD, "Epsilon", "60"));
+
+        assertEquals(1, patched.getVersion());
+        assertEquals(1, patched.getTracks().size());
+        assertEquals(2, patched.getTracks().get(0).getTrackNo());
+        assertEquals(1, patched.getChanges().size());
+        DraftChange added = patched.getChanges().get(0);
+        assertEquals(PresentationChangeType.ADDED, added.getType());
+        assertNull(added.getFrom());
+        assertEquals(1, added.getTo().getTrack());
+        assertEquals(11 * 60, added.getTo().getStartMinute());
+    }
+
+    @Test
+    void testRemoveClosesTheGapInItsSessionOnly() {
+        String draftId = createDraft().getId();
+
+        DraftSnapshot patched = patch(draftId, new ScheduleDraftPatchRequest.Change(DraftOperation.REMOVE, "Gamma", null));
+
+        assertEquals(2, patched.getChanges().size());
+        assertEquals(PresentationChangeType.REMOVED, patched.getChanges().get(0).getType());
+        assertEquals("Gamma", patched.getChanges().get(0).getSubject());
+        DraftChange moved = patched.getChanges().get(1);
+        assertEquals(PresentationChangeType.MOVED, moved.getType());
+        assertEquals("Delta", moved.getSubject());
+        assertEquals(10 * 60, moved.getFrom().getStartMinute());
+        assertEquals(9 * 60, moved.getTo().getStartMinute());
+        assertEquals(3, scheduleDraftService.get(draftId).getPresentations());
+    }
+
+    @Test
+    void testUpdateMovesPresentationOnlyWhenItNoLongerFits() {
+        String draftId = createDraft().getId();
+
+        DraftSnapshot shrunk = patch(draftId, new ScheduleDraftPatchRequest.Change(DraftOperation.UPDATE, "Delta", "30"));
+        assertEquals(List.of(PresentationChangeType.CHANGED), shrunk.getChanges().stream().map(DraftChange::getType).toList());
+        assertEquals(1, shrunk.getChanges().get(0).getTo().getTrack());
+
+        DraftSnapshot grown = patch(draftId, new ScheduleDraftPatchRequest.Change(DraftOperation.UPDATE, "Alpha", "200"));
+        DraftChange changed = grown.getChanges().get(0);
+        assertEquals(PresentationChangeType.CHANGED, changed.getType());
+        assertEquals(0, changed.getFrom().getTrack());
+        assertEquals(1, changed.getTo().getTrack());
+        assertEquals(13 * 60, changed.getTo().getStartMinute());
+        assertEquals(List.of(1, 2), grown.getTracks().stream().map(track -> track.getTrackNo()).toList());
+    }
+
+    @Test
+    void testUpdateRenamesInPlace() {
+        String draftId = createDraft().getId();
+
+        DraftSnapshot patched = patch(draftId, new ScheduleDraftPatchRequest.Change(DraftOperation.UPDATE, "Beta", null, "Beta Two"));
+
+        DraftChange renamed = patched.getChanges().get(0);
+        assertEquals("Beta Two", renamed.getSubject());
+        assertEquals("Beta", renamed.getPreviousSubject());
+        assertEquals(renamed.getFrom().getStartMinute(), renamed.getTo().getStartMinute());
+        assertEquals("Beta Two", patched.getTracks().get(0).getTrack().get(2).getEvent().getSubject());
+    }
+
+    @Test
+    void testEmptyTrailingTracksAreDropped() {
+        String draftId = createDraft().getId();
+
+        DraftSnapshot patched = patch(draftId,
+                new ScheduleDraftPatchRequest.Change(DraftOperation.REMOVE, "Gamma", null),
+                new ScheduleDraftPatchRequest.Change(DraftOperation.REMOVE, "Delta", null));
+
+        assertEquals(1, patched.getTrackCount());
+        assertTrue(patched.getTracks().isEmpty());
+    }
+
+    @Test
+    void testInvalidPatchIsRejectedAsAWhole() {
+        String draftId = createDraft().getId();
+
+        CustomValidationException exception = assertThrows(CustomValidationException.class, () -> patch(draftId,
+                new ScheduleDraftPatchRequest.Change(DraftOperation.REMOVE, "Gamma", null),
+                new ScheduleDraftPatchRequest.Change(DraftOperation.ADD, "Alpha", "60"),
+                new ScheduleDraftPatchRequest.Change(DraftOperation.UPDATE, "Missing", "60"),
+                new ScheduleDraftPatchRequest.Change(DraftOperation.ADD, "Too Long", "300")));
+
+        assertEquals(List.of(
+                "changes[1]: Duplicate presentation subject: Alpha",
+                "changes[2]: No presentation with subject: Missing",
+                "changes[3]: Duration must be between 1 and 240 minutes"
+        ), exception.getErrors());
+        DraftSnapshot draft = scheduleDraftService.get(draftId);
+        assertEquals(0, draft.getVersion());
+        assertEquals(4, draft.getPresentations());
+    }
+
+    @Test
+    void testPatchOnLargeDraftOnlyBuildsTouchedTrack() {
+        List<SchedulePresentationsRequest.Presentation> presentations = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            presentations.add(new SchedulePresentationsRequest.Presentation("Talk " + i, String.valueOf(30 + i % 4 * 15)));
+        }
+        String draftId = scheduleDraftService.create(new SchedulePresentationsRequest(presentations)).getId();
+
+        DraftSnapshot patched = patch(draftId, new ScheduleDraftPatchRequest.Change(DraftOperation.REMOVE, "Talk 5000", null));
+
+        assertEquals(1, patched.getTracks().size());
+        assertTrue(patched.getTrackCount() > 100);
+    }
+
+    @Test
+    void testDraftsExpireWhenNotUsed() {
+        String draftId = createDraft().getId();
+
+        clock.advance(Duration.ofMinutes(20));
+        scheduleDraftService.get(draftId);
+        clock.advance(Duration.ofMinutes(20));
+        assertEquals(draftId, scheduleDraftService.get(draftId).getId());
+        clock.advance(Duration.ofMinutes(30));
+        assertThrows(DraftNotFoundException.class, () -> scheduleDraftService.get(draftId));
+    }
+
+    @Test
+    void testExpiredDraftsAreDroppedWithoutFurtherRequests() {
+        createDraft();
+        assertEquals(1, scheduleDraftService.draftCount());
+
+        clock.advance(Duration.ofMinutes(31));
+
+        assertEquals(0, scheduleDraftService.draftCount());
+    }
+
+    @Test
+    void testDeleteRemovesDraft() {
+        String draftId = createDraft().getId();
+
+        scheduleDraftService.delete(draftId);
+
+        assertThrows(DraftNotFoundException.class, () -> scheduleDraftService.get(draftId));
+        assertThrows(DraftNotFoundException.class, () -> scheduleDraftService.delete(draftId));
+    }
+
+    @Test
+    void testLightningBlocksAreRejected() {
+        SchedulePresentationsRequest request = new SchedulePresentationsRequest(List.of(
+                new SchedulePresentationsRequest.Presentation("Lightning One", "lightning"),
+                new SchedulePresentationsRequest.Presentation("Lightning Two", "lightning")));
+        request.setLightningBlockMinutes(30);
+
+        CustomValidationException exception = assertThrows(CustomValidationException.class, () -> scheduleDraftService.create(request));
+
+        assertEquals("Drafts cannot group lightning talks into blocks, leave out lightningBlockMinutes", exception.getMessage());
+        request.setLightningBlockMinutes(null);
+        assertEquals(2, scheduleDraftService.create(request).getPresentations());
+    }
+
+    private DraftSnapshot createDraft() {
+        return scheduleDraftService.create(new SchedulePresentationsRequest(List.of(
+                new SchedulePresentationsRequest.Presentation("Alpha", "180"),
+                new SchedulePresentationsRequest.Presentation("Beta", "240"),
+                new SchedulePresentationsRequest.Presentation("Gamma", "60"),
+                new SchedulePresentationsRequest.Presentation("Delta", "60")
+        )));
+    }
+
+    private DraftSnapshot patch(String draftId, ScheduleDraftPatchRequest.Change... changes) {
+        return scheduleDraftService.patch(draftId, new ScheduleDraftPatchRequest(List.of(changes)));
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private volatile Instant now = Instant.parse("2024-05-25T09:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package com.schedulify.conferencescheduler.service.job;
+
+import com.schedulify.conferencescheduler.config.AdmissionProperties;
+import com.schedulify.conferencescheduler.domain.dto.ScheduleLayout;
+import com.schedulify.conferencescheduler.domain.dto.ValidatedPresentations;
+import com.schedulify.conferencescheduler.domain.enums.JobState;
+import com.schedulify.conferencescheduler.domain.enums.SchedulingStrategy;
+import com.schedulify.conferencescheduler.exception.CustomValidationException;
+import com.schedulify.conferencescheduler.exception.JobNotFoundException;
+import com.schedulify.conferencescheduler.exception.TooManyJobsException;
+import com.schedulify.conferencescheduler.service.ScheduleService;
+import com.schedulify.conferencescheduler.service.admission.AdmissionControl;
+import com.schedulify.conferencescheduler.service.allocation.ScheduleProgress;
+import com.schedulify.conferencescheduler.web.model.v1.request.SchedulePresentationsRequest;
+import com.schedulify.conferencescheduler.web.model.v1.response.SchedulePresentationsResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class ScheduleJobServiceTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final CountDownLatch firstTrackDone = new CountDownLatch(1);
+    private final ValidatedPresentations presentations = new ValidatedPresentations(new String[]{"A", "B"}, new int[]{180, 240});
+    private ScheduleService scheduleService;
+    private ScheduleJobService scheduleJobService;
+
+    @BeforeEach
+    void setUp() {
+        scheduleService = mock(ScheduleService.class);
+        when(scheduleService.validate(any())).thenReturn(presentations);
+        when(scheduleService.layout(any(ValidatedPresentations.class), any(SchedulePresentationsRequest.class), any(ScheduleProgress.class)))
+                .thenReturn(new ScheduleLayout(presentations, new int[]{0, 0, 0}));
+        when(scheduleService.render(any(ScheduleLayout.class), any(SchedulePresentationsRequest.class), any())).thenAnswer(invocation -> {
+            Consumer<SchedulePresentationsResponse.Track> trackConsumer = invocation.getArgument(2);
+            trackConsumer.accept(track(1));
+            firstTrackDone.countDown();
+            assertTrue(release.await(5, TimeUnit.SECONDS));
+            trackConsumer.accept(track(2));
+            return SchedulePresentationsResponse.builder().status("Success").build();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (scheduleJobService != null) {
+            scheduleJobService.shutdown();
+        }
+    }
+
+    @Test
+    void testJobReportsProgressAndResult() throws InterruptedException {
+        scheduleJobService = new ScheduleJobService(scheduleService, 1, 1, Duration.ofMinutes(1), false, Clock.systemUTC());
+
+        ScheduleJob job = scheduleJobService.submit(new SchedulePresentationsRequest(List.of()));
+        assertTrue(firstTrackDone.await(5, TimeUnit.SECONDS));
+
+        assertEquals(JobState.RUNNING, scheduleJobService.get(job.getId()).getState());
+        assertEquals(1, job.getTracksDone());
+        assertEquals(2, job.getPresentations());
+        assertEquals(2, job.getPresentationsPlanned());
+
+        release.countDown();
+        awaitFinished(job);
+
+        assertEquals(JobState.SUCCEEDED, job.getState());
+        assertEquals(2, job.getTracksDone());
+        assertEquals(2, job.getResult().getData().size());
+        assertNotNull(job.getFinishedAt());
+    }
+
+    @Test
+    void testFullQueueRejectsJobs() throws InterruptedException {
+        scheduleJobService = new ScheduleJobService(scheduleService, 1, 1, Duration.ofMinutes(1), false, Clock.systemUTC());
+
+        scheduleJobService.submit(new SchedulePresentationsRequest(List.of()));
+        assertTrue(firstTrackDone.await(5, TimeUnit.SECONDS));
+        ScheduleJob queued = scheduleJobService.submit(new SchedulePresentationsRequest(List.of()));
+
+        assertThrows(TooManyJobsException.class, () -> scheduleJobService.submit(new SchedulePresentationsRequest(List.of())));
+
+        // Cancelling the queued job frees its place in the queue
+        assertEquals(JobState.CANCELLED, scheduleJobService.cancel(queued.getId()).getState());
+        assertNotNull(scheduleJobService.submit(new SchedulePresentationsRequest(List.of())));
+    }
+
+    @Test
+    void testCancelStopsRunningJobBeforeNextTrack() throws InterruptedException {
+        scheduleJobService = new ScheduleJobService(scheduleService, 1, 1, Duration.ofMinutes(1), false, Clock.systemUTC());
+
+        ScheduleJob job = scheduleJobService.submit(new SchedulePresentationsRequest(List.of()));
+        assertTrue(firstTrackDone.await(5, TimeUnit.SECONDS));
+        scheduleJobService.cancel(job.getId());
+        release.countDown();
+        Thread.sleep(100);
+
+        assertEquals(JobState.CANCELLED, job.getState());
+        assertEquals(1, job.getTracksDone());
+        assertNull(job.getResult());
+    }
+
+    @Test
+    void testJobHoldsItsCostUntilFinished() throws InterruptedException {
+        scheduleJobService = new ScheduleJobService(scheduleService, 1, 1, Duration.ofMinutes(1), false, Clock.systemUTC());
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        AdmissionControl admissionControl = new AdmissionControl(new AdmissionProperties(), meterRegistry);
+
+        ScheduleJob running = scheduleJobService.submit(new SchedulePresentationsRequest(List.of()));
+        running.holdUntilFinished(admissionControl.admit(10, SchedulingStrategy.GREEDY));
+        ScheduleJob queued = scheduleJobService.submit(new SchedulePresentationsRequest(List.of()));
+        queued.holdUntilFinished(admissionControl.admit(5, SchedulingStrategy.GREEDY));
+        assertTrue(firstTrackDone.await(5, TimeUnit.SECONDS));
+        assertEquals(15, cost(meterRegistry));
+
+        // A queued job gives its cost back when cancelled, the running one only once its worker is done
+        scheduleJobService.cancel(queued.getId());
+        assertEquals(10, cost(meterRegistry));
+        release.countDown();
+        awaitFinished(running);
+        for (int i = 0; i < 500 && cost(meterRegistry) > 0; i++) {
+            Thread.sleep(10);
+        }
+        assertEquals(0, cost(meterRegistry));
+    }
+
+    @Test
+    void testCancelStopsJobWhilePlanning() throws InterruptedException {
+        CountDownLatch planning = new CountDownLatch(1);
+        when(scheduleService.layout(any(ValidatedPresentations.class), any(SchedulePresentationsRequest.class), any(ScheduleProgress.class)))
+                .thenAnswer(invocation -> {
+                    ScheduleProgress progress = invocation.getArgument(2);
+                    // Planning goes on until the job is cancelled
+                    while (true) {
+                        progress.checkpoint(1);
+                        planning.countDown();
+                        Thread.sleep(1);
+                    }
+                });
+        scheduleJobService = new ScheduleJobService(scheduleService, 1, 1, Duration.ofMinutes(1), false, Clock.systemUTC());
+
+        ScheduleJob job = scheduleJobService.submit(new SchedulePresentationsRequest(List.of()));
+        assertTrue(planning.await(5, TimeUnit.SECONDS));
+        Thread.sleep(20);
+        assertEquals(1, scheduleJobService.get(job.getId()).getPresentationsPlanned());
+        scheduleJobService.cancel(job.getId());
+
+        // The worker is free again once planning stopped, so the next job runs
+        release.countDown();
+        when(scheduleService.layout(any(ValidatedPresentations.class), any(SchedulePresentationsRequest.class), any(ScheduleProgress.class)))
+                .thenReturn(new ScheduleLayout(presentations, new int[]{0, 0, 0}));
+        ScheduleJob next = scheduleJobService.submit(new SchedulePresentationsRequest(List.of()));
+        awaitFinished(next);
+
+        assertEquals(JobState.CANCELLED, job.getState());
+        assertEquals(0, job.getTracksDone());
+        assertNull(job.getResult());
+        assertEquals(JobState.SUCCEEDED, next.getState());
+        verify(scheduleService, times(1)).render(any(ScheduleLayout.class), any(SchedulePresentationsRequest.class), any());
+    }
+
+    @Test
+    void testFinishedJobsExpire() throws InterruptedException {
+        scheduleJobService = new ScheduleJobService(scheduleService, 1, 1, Duration.ZERO, false, Clock.systemUTC());
+        release.countDown();
+
+        ScheduleJob job = scheduleJobService.submit(new SchedulePresentationsRequest(List.of()));
+        awaitFinished(job);
+
+        assertThrows(JobNotFoundException.class, () -> scheduleJobService.get(job.getId()));
+        assertThrows(JobNotFoundException.class, () -> scheduleJobService.get("unknown"));
+    }
+
+    @Test
+    void testExpiredJobsAreDroppedWithoutFurtherRequests() throws InterruptedException {
+        scheduleJobService = new ScheduleJobService(scheduleService, 1, 1, Duration.ofMillis(100), false, Clock.systemUTC());
+        release.countDown();
+
+        ScheduleJob job = scheduleJobService.submit(new SchedulePresentationsRequest(List.of()));
+        awaitFinished(job);
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (scheduleJobService.jobCount() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertEquals(0, scheduleJobService.jobCount());
+    }
+
+    @Test
+    void testInvalidRequestFailsOnSubmit() {
+        scheduleJobService = new ScheduleJobService(scheduleService, 1, 1, Duration.ofMinutes(1), false, Clock.systemUTC());
+        when(scheduleService.validate(any())).thenThrow(new CustomValidationException("invalid"));
+
+        assertThrows(CustomValidationException.class, () -> scheduleJobService.submit(new SchedulePresentationsRequest(List.of())));
+        verify(scheduleService, never()).layout(any(ValidatedPresentations.class), any(SchedulePresentationsRequest.class), any(ScheduleProgress.class));
+    }
+
+    private double cost(SimpleMeterRegistry meterRegistry) {
+        return meterRegistry.get("schedule.admission.cost").gauge().value();
+    }
+
+    private void awaitFinished(ScheduleJob job) throws InterruptedException {
+        for (int i = 0; i < 500 && !job.getState().isFinished(); i++) {
+            Thread.sleep(10);
+        }
+        assertTrue(job.getState().isFinished());
+    }
+
+    private SchedulePresentationsResponse.Track track(int trackNo) {
+        return SchedulePresentationsResponse.Track.builder().trackNo(trackNo).track(List.of()).build();
+    }
+}
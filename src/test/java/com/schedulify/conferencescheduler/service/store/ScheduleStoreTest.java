@@ -0,0 +1,115 @@
+package com.schedulify.conferencescheduler.service.store;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScheduleStoreTest {
+
+    private static final int SEGMENT_SIZE = 1024;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testAppendedSnapshotIsReadBack() throws IOException {
+        UUID id = UUID.randomUUID();
+        try (ScheduleStore store = new ScheduleStore(directory, SEGMENT_SIZE)) {
+            store.append(id, bytes("first schedule"));
+
+            assertEquals("first schedule", text(store.read(id).orElseThrow()));
+            assertTrue(store.read(id).orElseThrow().isReadOnly());
+            assertTrue(store.read(UUID.randomUUID()).isEmpty());
+        }
+    }
+
+    @Test
+    void testSnapshotsSurviveRestartAcrossSegments() throws IOException {
+        UUID[] ids = new UUID[40];
+        try (ScheduleStore store = new ScheduleStore(directory, SEGMENT_SIZE)) {
+            for (int i = 0; i < ids.length; i++) {
+                ids[i] = UUID.randomUUID();
+                store.append(ids[i], bytes("schedule number " + i + " ".repeat(i * 3)));
+            }
+            store.append(UUID.randomUUID(), new byte[SEGMENT_SIZE * 2]);
+        }
+        assertTrue(Files.exists(directory.resolve("schedules-000002.log")));
+
+        try (ScheduleStore store = new ScheduleStore(directory, SEGMENT_SIZE)) {
+            assertEquals(ids.length + 1, store.size());
+            for (int i = 0; i < ids.length; i++) {
+                assertEquals("schedule number " + i + " ".repeat(i * 3), text(store.read(ids[i]).orElseThrow()));
+            }
+            UUID next = UUID.randomUUID();
+            store.append(next, bytes("after restart"));
+            assertEquals("after restart", text(store.read(next).orElseThrow()));
+        }
+    }
+
+    @Test
+    void testRecordsMissingFromTheIndexAreRecovered() throws IOException {
+        UUID indexed = UUID.randomUUID();
+        UUID unindexed = UUID.randomUUID();
+        try (ScheduleStore store = new ScheduleStore(directory, SEGMENT_SIZE)) {
+            store.append(indexed, bytes("indexed"));
+            store.append(unindexed, bytes("written before the index"));
+        }
+        // Stopping between a log write and its index entry leaves the entry uncounted
+        writeInt(directory.resolve("schedules.idx"), 8, 1);
+
+        try (ScheduleStore store = new ScheduleStore(directory, SEGMENT_SIZE)) {
+            assertEquals(2, store.size());
+            assertEquals("written before the index", text(store.read(unindexed).orElseThrow()));
+        }
+    }
+
+    @Test
+    void testTornRecordEndsTheLog() throws IOException {
+        UUID kept = UUID.randomUUID();
+        UUID torn = UUID.randomUUID();
+        try (ScheduleStore store = new ScheduleStore(directory, SEGMENT_SIZE)) {
+            store.append(kept, bytes("kept"));
+            store.append(torn, bytes("torn"));
+        }
+        writeInt(directory.resolve("schedules.idx"), 8, 1);
+        // Corrupting the snapshot of the unindexed record, its checksum no longer matches
+        writeInt(directory.resolve("schedules-000000.log"), ScheduleStore.RECORD_HEADER_SIZE + 4 + ScheduleStore.RECORD_HEADER_SIZE, 0);
+
+        try (ScheduleStore store = new ScheduleStore(directory, SEGMENT_SIZE)) {
+            assertEquals(1, store.size());
+            assertTrue(store.read(torn).isEmpty());
+            UUID next = UUID.randomUUID();
+            store.append(next, bytes("replaces the torn record"));
+            assertEquals("replaces the torn record", text(store.read(next).orElseThrow()));
+        }
+        try (ScheduleStore store = new ScheduleStore(directory, SEGMENT_SIZE)) {
+            assertEquals(2, store.size());
+        }
+    }
+
+    private static byte[] bytes(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String text(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeInt(Path file, int position, int value) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(4).putInt(0, value), position);
+        }
+    }
+}
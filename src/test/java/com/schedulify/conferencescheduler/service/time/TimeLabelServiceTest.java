@@ -0,0 +1,39 @@
+package com.schedulify.conferencescheduler.service.time;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimeLabelServiceTest {
+
+    private final DateTimeFormatter timeFormatter = DateTimeFormatter.ofPattern("hh:mma", Locale.US);
+    private final TimeLabelService timeLabelService = new TimeLabelService(timeFormatter);
+
+    @Test
+    void testLabelMatchesFormatterForEveryMinute() {
+        for (int minuteOfDay = 0; minuteOfDay < TimeLabelTable.MINUTES_PER_DAY; minuteOfDay++) {
+            assertEquals(LocalTime.ofSecondOfDay(minuteOfDay * 60L).format(timeFormatter), timeLabelService.label(minuteOfDay));
+        }
+        assertEquals("09:00AM", timeLabelService.label(9 * 60));
+        assertEquals("05:00PM", timeLabelService.label(17 * 60));
+    }
+
+    @Test
+    void testEndOfDayIsLabeledAsMidnight() {
+        assertEquals("12:00AM", timeLabelService.label(TimeLabelTable.MINUTES_PER_DAY));
+    }
+
+    @Test
+    void testTablesPerPatternAndLocaleAreBuiltOnce() {
+        TimeLabelTable table = timeLabelService.table("HH:mm", Locale.GERMANY);
+
+        assertSame(table, timeLabelService.table("HH:mm", Locale.GERMANY));
+        assertNotSame(table, timeLabelService.table("HH:mm", Locale.US));
+        assertEquals("17:05", table.label(17 * 60 + 5));
+        assertEquals("5:05 PM", timeLabelService.table("h:mm a", Locale.US).label(17 * 60 + 5));
+    }
+}
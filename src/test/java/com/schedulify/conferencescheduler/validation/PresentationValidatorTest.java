@@ -0,0 +1,128 @@
+package com.schedulify.conferencescheduler.validation;
+
+import com.schedulify.conferencescheduler.domain.dto.ValidatedPresentations;
+import com.schedulify.conferencescheduler.exception.CustomValidationException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PresentationValidatorTest {
+
+    @Test
+    void testParseDuration() {
+        assertEquals(60, PresentationValidator.parseDuration("60"));
+        assertEquals(5, PresentationValidator.parseDuration("lightning"));
+        assertEquals(5, PresentationValidator.parseDuration("LIGHTNING"));
+        assertEquals(5, PresentationValidator.parseDuration("Lightning"));
+        assertEquals(0, PresentationValidator.parseDuration("0"));
+        assertEquals(241, PresentationValidator.parseDuration("99999999999999"));
+        assertEquals(-1, PresentationValidator.parseDuration(" 60"));
+        assertEquals(-1, PresentationValidator.parseDuration("-5"));
+        assertEquals(-1, PresentationValidator.parseDuration("lightnings"));
+        assertEquals(-1, PresentationValidator.parseDuration(""));
+        assertEquals(-1, PresentationValidator.parseDuration(null));
+    }
+
+    @Test
+    void testFinishReturnsTrimmedSubjectsAndParsedDurations() {
+        PresentationValidator validator = new PresentationValidator(2, false);
+        validator.accept("  Architecting Your Codebase ", "60");
+        validator.accept("Lightning Talk", "lightning");
+
+        ValidatedPresentations presentations = validator.finish();
+
+        assertEquals(2, presentations.size());
+        assertArrayEquals(new String[]{"Architecting Your Codebase", "Lightning Talk"}, presentations.getSubjects());
+        assertArrayEquals(new int[]{60, 5}, presentations.getDurationsInMinutes());
+    }
+
+    @Test
+    void testFinishFlagsLightningTalksOnly() {
+        PresentationValidator validator = new PresentationValidator(0, false);
+        validator.accept("Five Minute Talk", "5");
+        for (int i = 0; i < 20; i++) {
+            validator.accept("Lightning Talk " + i, i % 2 == 0 ? "lightning" : "LIGHTNING");
+        }
+
+        ValidatedPresentations presentations = validator.finish();
+
+        assertFalse(presentations.isLightning(0));
+        assertTrue(presentations.isLightning(20));
+        assertEquals(21, presentations.getLightning().length);
+        assertNull(new PresentationValidator(1, false).finish().getLightning());
+    }
+
+    @Test
+    void testFinishTrimsUnusedCapacity() {
+        PresentationValidator validator = new PresentationValidator(0, false);
+        for (int i = 0; i < 20; i++) {
+            validator.accept("Presentation " + i, "30");
+        }
+
+        ValidatedPresentations presentations = validator.finish();
+
+        assertEquals(20, presentations.size());
+        assertEquals(20, presentations.getDurationsInMinutes().length);
+    }
+
+    @Test
+    void testAcceptFailsFastByDefault() {
+        PresentationValidator validator = new PresentationValidator(2, false);
+
+        CustomValidationException exception = assertThrows(CustomValidationException.class, () -> validator.accept("Test", "abc"));
+
+        assertEquals(PresentationValidator.DURATION_INVALID, exception.getMessage());
+        assertNull(exception.getErrors());
+    }
+
+    @Test
+    void testOverflowingDurationIsOutOfRange() {
+        PresentationValidator validator = new PresentationValidator(1, false);
+
+        CustomValidationException exception = assertThrows(CustomValidationException.class, () -> validator.accept("Test", "99999999999"));
+
+        assertEquals(PresentationValidator.DURATION_OUT_OF_RANGE, exception.getMessage());
+    }
+
+    @Test
+    void testCollectAllErrors() {
+        PresentationValidator validator = new PresentationValidator(4, true);
+        validator.accept("Test", "60");
+        validator.accept("Test", "30");
+        validator.accept(null, "30");
+        validator.accept("Other", null);
+
+        CustomValidationException exception = assertThrows(CustomValidationException.class, validator::finish);
+
+        assertEquals("Validation failed with 3 errors", exception.getMessage());
+        assertEquals(3, exception.getErrors().size());
+        assertEquals("presentations[1]: Duplicate presentation subject: Test", exception.getErrors().get(0));
+        assertEquals("presentations[2]: " + PresentationValidator.SUBJECT_TOO_SHORT, exception.getErrors().get(1));
+        assertEquals("presentations[3]: " + PresentationValidator.DURATION_EMPTY, exception.getErrors().get(2));
+    }
+
+    @Test
+    void testCollectedErrorsAreCapped() {
+        PresentationValidator validator = new PresentationValidator(0, true);
+        for (int i = 0; i < PresentationValidator.MAX_REPORTED_ERRORS + 10; i++) {
+            validator.accept("Presentation " + i, "0");
+        }
+
+        CustomValidationException exception = assertThrows(CustomValidationException.class, validator::finish);
+
+        assertEquals("Validation failed with " + (PresentationValidator.MAX_REPORTED_ERRORS + 10) + " errors", exception.getMessage());
+        assertEquals(PresentationValidator.MAX_REPORTED_ERRORS, exception.getErrors().size());
+    }
+
+    @Test
+    void testFinishCanReportOnlyTheFirstCollectedError() {
+        PresentationValidator validator = new PresentationValidator(2, true);
+        validator.accept("Test", "0");
+        validator.accept("Other", "abc");
+
+        CustomValidationException exception = assertThrows(CustomValidationException.class, () -> validator.finish(false));
+
+        assertEquals(PresentationValidator.DURATION_OUT_OF_RANGE, exception.getMessage());
+        assertNull(exception.getErrors());
+    }
+}
@@ -0,0 +1,145 @@
+package com.schedulify.conferencescheduler.web.admission;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.schedulify.conferencescheduler.config.AdmissionProperties;
+import com.schedulify.conferencescheduler.domain.enums.SchedulingStrategy;
+import com.schedulify.conferencescheduler.exception.PayloadTooLargeException;
+import com.schedulify.conferencescheduler.service.admission.AdmissionControl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdmissionFilterTest {
+
+    private final AdmissionProperties properties = new AdmissionProperties();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private AdmissionControl admissionControl;
+    private AdmissionFilter admissionFilter;
+
+    @BeforeEach
+    void setUp() {
+        properties.setMaxBodySize(DataSize.ofBytes(16));
+        properties.getRateLimit().setRequestsPerSecond(1);
+        properties.getRateLimit().setBurst(1);
+        properties.getRateLimit().setClientHeader("X-Forwarded-For");
+        admissionControl = new AdmissionControl(properties, meterRegistry);
+        admissionFilter = new AdmissionFilter(admissionControl, new ObjectMapper().registerModule(new JavaTimeModule()));
+    }
+
+    @Test
+    void testDeclaredOversizedBodyIsRejectedBeforeTheHandler() throws Exception {
+        MockHttpServletRequest request = post("{\"presentations\": []}");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        admissionFilter.doFilter(request, response, chain);
+
+        assertEquals(413, response.getStatus());
+        assertTrue(response.getContentAsString().contains("Request body is larger than 16 bytes"));
+        assertNull(chain.getRequest());
+    }
+
+    @Test
+    void testBodyWithoutLengthIsCountedWhileRead() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/schedule") {
+            @Override
+            public long getContentLengthLong() {
+                return -1;
+            }
+        };
+        request.setContent("{\"presentations\": []}".getBytes());
+        MockFilterChain chain = new MockFilterChain();
+
+        admissionFilter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        HttpServletRequest admitted = (HttpServletRequest) chain.getRequest();
+        assertThrows(PayloadTooLargeException.class, () -> admitted.getInputStream().readAllBytes());
+        assertEquals(1, meterRegistry.get(AdmissionControl.REJECTIONS_COUNTER).tag("reason", "body-size").counter().count());
+    }
+
+    @Test
+    void testStreamingEndpointHasItsOwnBodyLimit() throws Exception {
+        properties.getStream().setMaxBodySize(DataSize.ofBytes(64));
+        MockHttpServletRequest request = post("{\"presentations\": []}");
+        request.setRequestURI("/api/v1/schedule/stream");
+        MockFilterChain chain = new MockFilterChain();
+
+        admissionFilter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        assertSame(request, chain.getRequest());
+        MockHttpServletRequest oversized = post("{\"presentations\": [" + " ".repeat(64) + "]}", "other-client");
+        oversized.setRequestURI("/api/v1/schedule/stream");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        admissionFilter.doFilter(oversized, response, new MockFilterChain());
+        assertEquals(413, response.getStatus());
+    }
+
+    @Test
+    void testRateLimitedClientGetsRetryAfter() throws Exception {
+        admissionFilter.doFilter(post("{}", "client-a"), new MockHttpServletResponse(), new MockFilterChain());
+        MockHttpServletResponse limited = new MockHttpServletResponse();
+        admissionFilter.doFilter(post("{}", "client-a"), limited, new MockFilterChain());
+        MockHttpServletResponse otherClient = new MockHttpServletResponse();
+        admissionFilter.doFilter(post("{}", "client-b"), otherClient, new MockFilterChain());
+
+        assertEquals(429, limited.getStatus());
+        assertEquals("1", limited.getHeader("Retry-After"));
+        assertEquals(200, otherClient.getStatus());
+    }
+
+    @Test
+    void testPermitIsGivenBackWhenTheResponseIsComplete() throws Exception {
+        MockHttpServletRequest request = post("{}");
+        MockFilterChain chain = new MockFilterChain() {
+            @Override
+            public void doFilter(jakarta.servlet.ServletRequest request, jakarta.servlet.ServletResponse response) {
+                AdmissionFilter.holdUntilComplete((HttpServletRequest) request, admissionControl.admit(10, SchedulingStrategy.GREEDY));
+                assertEquals(10, meterRegistry.get("schedule.admission.cost").gauge().value());
+            }
+        };
+
+        admissionFilter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        assertEquals(0, meterRegistry.get("schedule.admission.cost").gauge().value());
+    }
+
+    @Test
+    void testHandedOverPermitOutlivesTheResponse() throws Exception {
+        MockHttpServletRequest request = post("{}");
+        AdmissionControl.Permit[] handedOver = new AdmissionControl.Permit[1];
+        MockFilterChain chain = new MockFilterChain() {
+            @Override
+            public void doFilter(jakarta.servlet.ServletRequest request, jakarta.servlet.ServletResponse response) {
+                AdmissionFilter.holdUntilComplete((HttpServletRequest) request, admissionControl.admit(10, SchedulingStrategy.GREEDY));
+                AdmissionFilter.handOver((HttpServletRequest) request, permit -> handedOver[0] = permit);
+            }
+        };
+
+        admissionFilter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        assertEquals(10, meterRegistry.get("schedule.admission.cost").gauge().value());
+        handedOver[0].close();
+        assertEquals(0, meterRegistry.get("schedule.admission.cost").gauge().value());
+    }
+
+    private static MockHttpServletRequest post(String body) {
+        return post(body, null);
+    }
+
+    private static MockHttpServletRequest post(String body, String client) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/schedule");
+        request.setContent(body.getBytes());
+        if (client != null) {
+            request.addHeader("X-Forwarded-For", client);
+        }
+        return request;
+    }
+}
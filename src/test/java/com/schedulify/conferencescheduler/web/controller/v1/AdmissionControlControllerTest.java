@@ -0,0 +1,99 @@
+package com.schedulify.conferencescheduler.web.controller.v1;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"schedule.admission.max-presentations=2", "schedule.admission.max-body-size=16KB",
+                "schedule.admission.stream.max-presentations=100"})
+@AutoConfigureMockMvc
+class AdmissionControlControllerTest {
+
+    private static final String REQUEST = """
+            {"presentations": [
+              {"subject": "Morning Keynote", "duration": "180"},
+              {"subject": "Afternoon Workshop", "duration": "240"},
+              {"subject": "Second Keynote", "duration": "180"}
+            ]}
+            """;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @LocalServerPort
+    private int port;
+
+    @Test
+    void testTooManyPresentationsArePayloadTooLarge() throws Exception {
+        for (String path : new String[]{"/api/v1/schedule", "/api/v1/schedule/drafts"}) {
+            mockMvc.perform(post(path).contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON).content(REQUEST))
+                    .andExpect(status().isPayloadTooLarge())
+                    .andExpect(jsonPath("$.message").value("A schedule request can contain at most 2 presentations"));
+        }
+    }
+
+    @Test
+    void testBatchChecksEveryRequest() throws Exception {
+        mockMvc.perform(post("/api/v1/schedule/batch").contentType(MediaType.APPLICATION_JSON).content("[" + REQUEST + "]"))
+                .andExpect(status().isPayloadTooLarge());
+    }
+
+    @Test
+    void testChunkedBodyOverTheLimitIsPayloadTooLarge() throws Exception {
+        // A body sent from a stream has no Content-Length, so the limit is only found while Jackson binds it
+        String body = presentations(64);
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/v1/schedule"))
+                .header("Content-Type", MediaType.APPLICATION_JSON_VALUE)
+                .header("Accept", MediaType.APPLICATION_JSON_VALUE)
+                .POST(HttpRequest.BodyPublishers.ofInputStream(() -> new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8))))
+                .build();
+
+        HttpResponse<String> response = HttpClient.newHttpClient().send(request, HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(413, response.statusCode());
+        assertTrue(response.body().contains("Request body is larger than 16384 bytes"), response.body());
+    }
+
+    @Test
+    void testStreamingEndpointHasItsOwnLimits() throws Exception {
+        mockMvc.perform(post("/api/v1/schedule/stream").contentType(MediaType.APPLICATION_JSON).content(presentations(64)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("Success"));
+        mockMvc.perform(post("/api/v1/schedule/stream").contentType(MediaType.APPLICATION_JSON).content(presentations(101)))
+                .andExpect(status().isPayloadTooLarge())
+                .andExpect(jsonPath("$.message").value("A schedule request can contain at most 100 presentations"));
+    }
+
+    @Test
+    void testRequestWithinLimitsIsScheduled() throws Exception {
+        mockMvc.perform(post("/api/v1/schedule").contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON)
+                        .content("{\"presentations\": [{\"subject\": \"Keynote\", \"duration\": \"60\"}]}"))
+                .andExpect(status().isOk());
+    }
+
+    // Every presentation takes over 1KB, so 16 of them are past the limit of bound requests
+    private static String presentations(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> "{\"subject\": \"" + i + "x".repeat(1024) + "\", \"duration\": \"60\"}")
+                .collect(Collectors.joining(",", "{\"presentations\": [", "]}"));
+    }
+}
@@ -0,0 +1,75 @@
+package com.schedulify.conferencescheduler.web.controller.v1;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class ScheduleDraftControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void testCreatePatchAndDeleteDraft() throws Exception {
+        String created = mockMvc.perform(post("/api/v1/schedule/drafts")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"presentations\": [{\"subject\": \"Keynote\", \"duration\": \"60\"}, {\"subject\": \"Workshop\", \"duration\": \"90\"}]}"))
+                .andExpect(status().isCreated())
+                .andExpect(header().exists("Location"))
+                .andExpect(jsonPath("$.trackCount").value(1))
+                .andExpect(jsonPath("$.data[0].track[0].event.subject").value("Workshop"))
+                .andExpect(jsonPath("$.changes").doesNotExist())
+                .andReturn().getResponse().getContentAsString();
+        String draftId = objectMapper.readTree(created).get("draftId").asText();
+
+        mockMvc.perform(patch("/api/v1/schedule/drafts/" + draftId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"changes\": [{\"op\": \"remove\", \"subject\": \"Workshop\"}, {\"op\": \"add\", \"subject\": \"Panel\", \"duration\": \"lightning\"}]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.version").value(1))
+                .andExpect(jsonPath("$.presentations").value(2))
+                .andExpect(jsonPath("$.changes.length()").value(3))
+                .andExpect(jsonPath("$.changes[0].subject").value("Workshop"))
+                .andExpect(jsonPath("$.changes[0].change").value("REMOVED"))
+                .andExpect(jsonPath("$.changes[0].to").doesNotExist())
+                .andExpect(jsonPath("$.changes[1].subject").value("Keynote"))
+                .andExpect(jsonPath("$.changes[1].change").value("MOVED"))
+                .andExpect(jsonPath("$.changes[1].from.startsAt").value("10:30AM"))
+                .andExpect(jsonPath("$.changes[1].to.startsAt").value("09:00AM"))
+                .andExpect(jsonPath("$.changes[2].subject").value("Panel"))
+                .andExpect(jsonPath("$.changes[2].change").value("ADDED"))
+                .andExpect(jsonPath("$.changes[2].to.trackNo").value(1))
+                .andExpect(jsonPath("$.changes[2].to.startsAt").value("10:00AM"))
+                .andExpect(jsonPath("$.data[0].trackNo").value(1));
+
+        mockMvc.perform(delete("/api/v1/schedule/drafts/" + draftId)).andExpect(status().isNoContent());
+        mockMvc.perform(get("/api/v1/schedule/drafts/" + draftId)).andExpect(status().isNotFound());
+    }
+
+    @Test
+    void testInvalidPatchIsBadRequest() throws Exception {
+        String created = mockMvc.perform(post("/api/v1/schedule/drafts")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"presentations\": [{\"subject\": \"Keynote\", \"duration\": \"60\"}]}"))
+                .andReturn().getResponse().getContentAsString();
+        String draftId = objectMapper.readTree(created).get("draftId").asText();
+
+        mockMvc.perform(patch("/api/v1/schedule/drafts/" + draftId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"changes\": [{\"op\": \"update\", \"subject\": \"Unknown\", \"duration\": \"30\"}]}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("changes[0]: No presentation with subject: Unknown"));
+    }
+}
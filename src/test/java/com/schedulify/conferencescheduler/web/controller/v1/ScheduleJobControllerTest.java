@@ -0,0 +1,66 @@
+package com.schedulify.conferencescheduler.web.controller.v1;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class ScheduleJobControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void testSubmitAndPollJob() throws Exception {
+        String submitted = mockMvc.perform(post("/api/v1/schedule/jobs")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"strategy\": \"exact\", \"presentations\": [{\"subject\": \"Keynote\", \"duration\": \"60\"}]}"))
+                .andExpect(status().isAccepted())
+                .andExpect(header().exists("Location"))
+                .andExpect(jsonPath("$.presentations").value(1))
+                .andReturn().getResponse().getContentAsString();
+        String jobId = objectMapper.readTree(submitted).get("jobId").asText();
+
+        JsonNode job = null;
+        for (int i = 0; i < 500; i++) {
+            job = objectMapper.readTree(mockMvc.perform(get("/api/v1/schedule/jobs/" + jobId))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString());
+            if ("SUCCEEDED".equals(job.get("state").asText())) {
+                break;
+            }
+            Thread.sleep(10);
+        }
+
+        assertEquals("SUCCEEDED", job.get("state").asText());
+        assertEquals(1, job.get("tracksDone").asInt());
+        assertEquals("Keynote", job.at("/data/data/0/track/0/event/subject").asText());
+    }
+
+    @Test
+    void testInvalidJobIsRejectedRightAway() throws Exception {
+        mockMvc.perform(post("/api/v1/schedule/jobs")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"presentations\": [{\"subject\": \"Keynote\", \"duration\": \"abc\"}]}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testUnknownJobIsNotFound() throws Exception {
+        mockMvc.perform(get("/api/v1/schedule/jobs/unknown")).andExpect(status().isNotFound());
+        mockMvc.perform(delete("/api/v1/schedule/jobs/unknown")).andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,212 @@
+package com.schedulify.conferencescheduler.web.controller.v1;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.schedulify.conferencescheduler.config.BinaryFormatConfig;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class SchedulerControllerTest {
+
+    private static final String REQUEST = """
+            {"presentations": [
+              {"subject": "Morning Keynote", "duration": "180"},
+              {"subject": "Afternoon Workshop", "duration": "240"},
+              {"subject": "Second Keynote", "duration": "180"},
+              {"subject": "Lightning Talk", "duration": "lightning"}
+            ]}
+            """;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void testScheduleStreamedRequest() throws Exception {
+        mockMvc.perform(post("/api/v1/schedule/stream").contentType(MediaType.APPLICATION_JSON).content(REQUEST))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("Success"))
+                .andExpect(jsonPath("$.data.length()").value(2))
+                .andExpect(jsonPath("$.data[0].track[0].event.subject").value("Morning Keynote"));
+    }
+
+    @Test
+    void testScheduleAsNdjsonWritesOneLinePerTrackAndSummaryLast() throws Exception {
+        for (String path : new String[]{"/api/v1/schedule", "/api/v1/schedule/stream"}) {
+            String body = mockMvc.perform(post(path)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .accept(MediaType.APPLICATION_NDJSON)
+                            .content(REQUEST))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                    .andReturn().getResponse().getContentAsString();
+
+            String[] lines = body.split("\n");
+            assertEquals(3, lines.length);
+            assertTrue(lines[0].startsWith("{\"trackNo\":1,"));
+            assertTrue(lines[1].startsWith("{\"trackNo\":2,"));
+            assertTrue(lines[2].contains("\"status\":\"Success\""));
+            assertTrue(body.endsWith("\n"));
+        }
+    }
+
+    @Test
+    void testScheduleAsNdjsonReportsValidationErrorsAsJson() throws Exception {
+        mockMvc.perform(post("/api/v1/schedule")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_NDJSON)
+                        .content("{\"presentations\": [{\"subject\": \"Test\", \"duration\": \"abc\"}]}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value("Error"));
+    }
+
+    @Test
+    void testMalformedStreamedRequestIsBadRequest() throws Exception {
+        mockMvc.perform(post("/api/v1/schedule/stream").contentType(MediaType.APPLICATION_JSON).content("{\"presentations\": {}}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value("Error"));
+    }
+
+    @Test
+    void testScheduleBatchReportsEachRequest() throws Exception {
+        mockMvc.perform(post("/api/v1/schedule/batch").contentType(MediaType.APPLICATION_JSON).content("[" + REQUEST
+                        + ", {\"presentations\": [{\"subject\": \"Test\", \"duration\": \"abc\"}]}]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.succeeded").value(1))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.data[0].data.length()").value(2))
+                .andExpect(jsonPath("$.data[1].status").value("Error"));
+    }
+
+    @Test
+    void testScheduleAsCborUsesCompactModel() throws Exception {
+        byte[] body = mockMvc.perform(post("/api/v1/schedule")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_CBOR)
+                        .content(REQUEST))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        JsonNode response = new ObjectMapper(new CBORFactory()).readTree(body);
+        JsonNode firstEvent = response.at("/data/0/events/0");
+        assertEquals(0, firstEvent.get(0).asInt());
+        assertEquals("Morning Keynote", firstEvent.get(1).asText());
+        assertEquals(540, firstEvent.get(2).asInt());
+        assertEquals(720, firstEvent.get(3).asInt());
+        assertTrue(body.length < objectMapper.writeValueAsBytes(response).length);
+    }
+
+    @Test
+    void testScheduleAnswersJsonUnlessBinaryIsAskedFor() throws Exception {
+        mockMvc.perform(post("/api/v1/schedule").contentType(MediaType.APPLICATION_JSON).content(REQUEST))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.data[0].track[0].event.subject").value("Morning Keynote"));
+        for (String accept : new String[]{"*/*", "text/html,application/xhtml+xml,application/xml;q=0.9,*/*;q=0.8",
+                "application/cbor;q=0.5, application/json"}) {
+            mockMvc.perform(post("/api/v1/schedule").contentType(MediaType.APPLICATION_JSON).header("Accept", accept).content(REQUEST))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                    .andExpect(jsonPath("$.data.length()").value(2));
+        }
+        mockMvc.perform(post("/api/v1/schedule").contentType(MediaType.APPLICATION_JSON)
+                        .header("Accept", BinaryFormatConfig.APPLICATION_SMILE_VALUE + ", */*;q=0.1").content(REQUEST))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.valueOf(BinaryFormatConfig.APPLICATION_SMILE_VALUE)));
+    }
+
+    @Test
+    void testScheduleAcceptsSmileRequests() throws Exception {
+        byte[] request = new ObjectMapper(new SmileFactory()).writeValueAsBytes(objectMapper.readTree(REQUEST));
+
+        mockMvc.perform(post("/api/v1/schedule")
+                        .contentType(BinaryFormatConfig.APPLICATION_SMILE_VALUE)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .content(request))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(2));
+    }
+
+    @Test
+    void testScheduleWithDayProfile() throws Exception {
+        String request = """
+                {"dayProfile": "coffee-breaks", "presentations": [
+                  {"subject": "Opening", "duration": "90"},
+                  {"subject": "Deep Dive", "duration": "120"}
+                ]}
+                """;
+        for (String path : new String[]{"/api/v1/schedule", "/api/v1/schedule/stream"}) {
+            mockMvc.perform(post(path).contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON).content(request))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.length()").value(1))
+                    .andExpect(jsonPath("$.data[0].track[0].event.subject").value("Opening"))
+                    .andExpect(jsonPath("$.data[0].track[1].event.eventType").value("BREAK"))
+                    .andExpect(jsonPath("$.data[0].track[1].event.startsAt").value("10:30AM"))
+                    .andExpect(jsonPath("$.data[0].track[3].event.subject").value("Deep Dive"))
+                    .andExpect(jsonPath("$.data[0].track[3].event.startsAt").value("01:00PM"))
+                    .andExpect(jsonPath("$.data[0].track[0].event.day").doesNotExist());
+        }
+    }
+
+    @Test
+    void testScheduleStreamedRequestWithMultiDayTemplate() throws Exception {
+        String request = """
+                {"presentations": [
+                  {"subject": "Day One Talk", "duration": "120"},
+                  {"subject": "Day Two Talk", "duration": "120"}
+                ],
+                 "dayTemplate": {"days": 2, "sessions": [{"start": "10:00", "end": "12:00"}],
+                                 "fixedEvents": [{"subject": "Keynote", "start": "09:00", "end": "10:00"}]}}
+                """;
+        mockMvc.perform(post("/api/v1/schedule/stream").contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON).content(request))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(1))
+                .andExpect(jsonPath("$.data[0].track.length()").value(4))
+                .andExpect(jsonPath("$.data[0].track[0].event.eventType").value("FIXED"))
+                .andExpect(jsonPath("$.data[0].track[2].event.subject").value("Keynote"))
+                .andExpect(jsonPath("$.data[0].track[2].event.day").value(2))
+                .andExpect(jsonPath("$.data[0].track[3].event.subject").value("Day Two Talk"))
+                .andExpect(jsonPath("$.data[0].track[3].event.startsAt").value("10:00AM"));
+    }
+
+    @Test
+    void testUnknownStrategyNamesTheFieldOnly() throws Exception {
+        mockMvc.perform(post("/api/v1/schedule").contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON)
+                        .content("{\"strategy\": \"fastest\", \"presentations\": [{\"subject\": \"Talk\", \"duration\": \"60\"}]}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Malformed request: invalid value at strategy"));
+    }
+
+    @Test
+    void testUnknownDayProfileIsBadRequest() throws Exception {
+        mockMvc.perform(post("/api/v1/schedule").contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON)
+                        .content("{\"dayProfile\": \"missing\", \"presentations\": [{\"subject\": \"Talk\", \"duration\": \"60\"}]}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Unknown day profile: missing"));
+    }
+
+    @Test
+    void testStoredScheduleIsNotFoundWhileStoreIsDisabled() throws Exception {
+        mockMvc.perform(post("/api/v1/schedule").contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON).content(REQUEST))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.scheduleId").doesNotExist());
+        mockMvc.perform(get("/api/v1/schedule/{id}", "00000000-0000-4000-8000-000000000000").accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotFound());
+    }
+}
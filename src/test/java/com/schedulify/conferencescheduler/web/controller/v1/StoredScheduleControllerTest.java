@@ -0,0 +1,88 @@
+package com.schedulify.conferencescheduler.web.controller.v1;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class StoredScheduleControllerTest {
+
+    private static final String REQUEST = """
+            {"presentations": [
+              {"subject": "Morning Keynote", "duration": "180"},
+              {"subject": "Afternoon Workshop", "duration": "240"},
+              {"subject": "Second Keynote", "duration": "180"}
+            ]}
+            """;
+
+    @TempDir
+    static Path storeDirectory;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @DynamicPropertySource
+    static void storeProperties(DynamicPropertyRegistry registry) {
+        registry.add("schedule.store.enabled", () -> "true");
+        registry.add("schedule.store.directory", storeDirectory::toString);
+    }
+
+    @Test
+    void testScheduledScheduleIsReadBackById() throws Exception {
+        String scheduled = mockMvc.perform(post("/api/v1/schedule").contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON).content(REQUEST))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.scheduleId").exists())
+                .andReturn().getResponse().getContentAsString();
+        JsonNode response = objectMapper.readTree(scheduled);
+        String scheduleId = response.get("scheduleId").asText();
+
+        String stored = mockMvc.perform(get("/api/v1/schedule/{id}", scheduleId).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        assertEquals(response, objectMapper.readTree(stored));
+    }
+
+    @Test
+    void testStoredSnapshotIsServedAsCbor() throws Exception {
+        byte[] scheduled = mockMvc.perform(post("/api/v1/schedule").contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_CBOR).content(REQUEST))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+        ObjectMapper cborObjectMapper = new ObjectMapper(new CBORFactory());
+        JsonNode response = cborObjectMapper.readTree(scheduled);
+
+        byte[] stored = mockMvc.perform(get("/api/v1/schedule/{id}", response.get("scheduleId").asText()).accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+        assertEquals(response, cborObjectMapper.readTree(stored));
+    }
+
+    @Test
+    void testUnknownScheduleIsNotFound() throws Exception {
+        for (String scheduleId : new String[]{"00000000-0000-4000-8000-000000000000", "not-an-id"}) {
+            mockMvc.perform(get("/api/v1/schedule/{id}", scheduleId).accept(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isNotFound())
+                    .andExpect(jsonPath("$.message").value("Schedule not found: " + scheduleId));
+        }
+    }
+}
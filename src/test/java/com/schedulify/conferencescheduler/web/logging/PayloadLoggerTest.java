@@ -0,0 +1,65 @@
+package com.schedulify.conferencescheduler.web.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PayloadLoggerTest {
+
+    private final Logger logger = (Logger) LoggerFactory.getLogger("payload-logger-test");
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+    @BeforeEach
+    void setUp() {
+        appender.start();
+        logger.addAppender(appender);
+        logger.setLevel(Level.DEBUG);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(appender);
+        logger.setLevel(null);
+    }
+
+    @Test
+    void testLargePayloadIsCutOffAtTheLimit() {
+        PayloadLogger payloadLogger = new PayloadLogger(new ObjectMapper(), 1, 32);
+
+        payloadLogger.debug(logger, "Request", Map.of("subjects", Collections.nCopies(10_000, "A talk about nothing")));
+
+        assertEquals(1, appender.list.size());
+        assertEquals("Request: {\"subjects\":[\"A talk about nothi... (truncated at 32 characters)",
+                appender.list.get(0).getFormattedMessage());
+    }
+
+    @Test
+    void testSmallPayloadIsLoggedWhole() {
+        PayloadLogger payloadLogger = new PayloadLogger(new ObjectMapper(), 1, 32);
+
+        payloadLogger.debug(logger, "Request", List.of("Keynote"));
+
+        assertEquals("Request: [\"Keynote\"]", appender.list.get(0).getFormattedMessage());
+    }
+
+    @Test
+    void testNothingIsLoggedOutsideTheSampleOrBelowDebug() {
+        new PayloadLogger(new ObjectMapper(), 0, 32).debug(logger, "Request", List.of("Keynote"));
+        logger.setLevel(Level.INFO);
+        new PayloadLogger(new ObjectMapper(), 1, 32).debug(logger, "Request", List.of("Keynote"));
+
+        assertTrue(appender.list.isEmpty());
+    }
+}
@@ -0,0 +1,106 @@
+package com.schedulify.conferencescheduler.web.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import net.logstash.logback.marker.SingleFieldAppendingMarker;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "schedule.cache.enabled=false")
+@AutoConfigureMockMvc
+class RequestSummaryFilterTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final Logger logger = (Logger) LoggerFactory.getLogger(RequestSummaryFilter.class);
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        appender.start();
+        logger.addAppender(appender);
+        // Whatever the root level of the test run, summaries are logged at INFO
+        logger.setLevel(Level.INFO);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(appender);
+        logger.setLevel(null);
+    }
+
+    @Test
+    void testOneSummaryEventPerScheduleRequest() throws Exception {
+        mockMvc.perform(post("/api/v1/schedule").contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON)
+                        .content("{\"presentations\": [{\"subject\": \"Keynote\", \"duration\": \"60\"}, {\"subject\": \"Panel\", \"duration\": \"45\"}]}"))
+                .andExpect(status().isOk());
+
+        assertEquals(1, appender.list.size());
+        JsonNode fields = fields(appender.list.get(0));
+        assertEquals("POST", fields.get("method").asText());
+        assertEquals("/api/v1/schedule", fields.get("path").asText());
+        assertEquals(200, fields.get("status").asInt());
+        assertEquals(1, fields.get("schedules").asInt());
+        assertEquals(2, fields.get("presentations").asInt());
+        assertEquals(1, fields.get("tracks").asInt());
+        List<String> phases = new ArrayList<>();
+        fields.get("phasesMs").fieldNames().forEachRemaining(phases::add);
+        assertEquals(List.of("validate", "sort", "plan", "arrange", "track.build", "response.build"), phases);
+    }
+
+    @Test
+    void testRejectedRequestIsSummarizedWithItsStatus() throws Exception {
+        mockMvc.perform(post("/api/v1/schedule").contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON)
+                        .content("{\"presentations\": [{\"subject\": \"Keynote\", \"duration\": \"-5\"}]}"))
+                .andExpect(status().isBadRequest());
+
+        JsonNode fields = fields(appender.list.get(0));
+        assertEquals(400, fields.get("status").asInt());
+        assertEquals(0, fields.get("schedules").asInt());
+    }
+
+    @Test
+    void testRequestsOutsideTheApiAreNotSummarized() throws Exception {
+        mockMvc.perform(get("/actuator/health")).andExpect(status().isOk());
+
+        assertTrue(appender.list.isEmpty());
+    }
+
+    // Fields as the JSON encoder writes them into the event
+    private static JsonNode fields(ILoggingEvent event) throws IOException {
+        StringWriter json = new StringWriter();
+        try (JsonGenerator generator = OBJECT_MAPPER.createGenerator(json)) {
+            generator.writeStartObject();
+            for (Object argument : event.getArgumentArray()) {
+                ((SingleFieldAppendingMarker) argument).writeTo(generator);
+            }
+            generator.writeEndObject();
+        }
+        return OBJECT_MAPPER.readTree(json.toString());
+    }
+}
@@ -0,0 +1,78 @@
+package com.schedulify.conferencescheduler.web.stream;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.schedulify.conferencescheduler.domain.enums.SchedulingStrategy;
+import com.schedulify.conferencescheduler.exception.CustomValidationException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScheduleRequestStreamReaderTest {
+
+    private final ScheduleRequestStreamReader reader = new ScheduleRequestStreamReader(new ObjectMapper());
+
+    @Test
+    void testReadPresentationsAndOptions() throws IOException {
+        StreamedScheduleRequest request = read("""
+                {"strategy": "exact", "presentations": [
+                  {"subject": " Architecting Your Codebase ", "duration": "60", "speaker": {"name": "ignored"}},
+                  {"subject": "Lightning Talk", "duration": "lightning"},
+                  {"duration": 45, "subject": "Numeric Duration"}
+                ], "timeBudgetInMillis": 50, "report": true, "flat": true, "unknown": [1, 2]}
+                """);
+
+        assertEquals(SchedulingStrategy.EXACT, request.getOptions().getStrategy());
+        assertEquals(50L, request.getOptions().getTimeBudgetInMillis());
+        assertNull(request.getOptions().getCollectAllErrors());
+        assertTrue(request.getOptions().getReport());
+        assertTrue(request.getOptions().getFlat());
+        assertArrayEquals(new String[]{"Architecting Your Codebase", "Lightning Talk", "Numeric Duration"}, request.getPresentations().getSubjects());
+        assertArrayEquals(new int[]{60, 5, 45}, request.getPresentations().getDurationsInMinutes());
+    }
+
+    @Test
+    void testReadFailsWithFirstErrorByDefault() {
+        CustomValidationException exception = assertThrows(CustomValidationException.class, () -> read("""
+                {"presentations": [{"subject": "Test", "duration": "abc"}, {"subject": "X", "duration": "30"}]}
+                """));
+
+        assertEquals("Duration must be a positive integer or 'lightning', 'LIGHTNING', or 'Lightning'", exception.getMessage());
+        assertNull(exception.getErrors());
+    }
+
+    @Test
+    void testReadCollectsAllErrorsEvenWhenOptionComesLast() {
+        CustomValidationException exception = assertThrows(CustomValidationException.class, () -> read("""
+                {"presentations": [{"subject": "Test", "duration": "abc"}, null, {"subject": "Fine", "duration": {"minutes": 30}}],
+                 "collectAllErrors": true}
+                """));
+
+        assertEquals("Validation failed with 3 errors", exception.getMessage());
+        assertEquals(3, exception.getErrors().size());
+        assertEquals("presentations[2]: Duration cannot be empty", exception.getErrors().get(2));
+    }
+
+    @Test
+    void testReadWithoutPresentations() throws IOException {
+        StreamedScheduleRequest request = read("{\"presentations\": null}");
+
+        assertEquals(0, request.getPresentations().size());
+    }
+
+    @Test
+    void testReadRejectsMalformedBodies() {
+        assertThrows(JsonParseException.class, () -> read("[]"));
+        assertThrows(JsonParseException.class, () -> read("{\"presentations\": {}}"));
+        assertThrows(JsonParseException.class, () -> read("{\"strategy\": \"fastest\"}"));
+        assertThrows(JsonParseException.class, () -> read("{\"presentations\": [{\"subject\": \"Test\""));
+    }
+
+    private StreamedScheduleRequest read(String body) throws IOException {
+        return reader.read(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+    }
+}